@@ -0,0 +1,63 @@
+package com.challenge.assets.benchmark;
+
+import com.challenge.assets.dto.AssetResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@link AssetResponse} (three {@code OffsetDateTime} fields) as the HTTP layer does it:
+ * one object per call for {@code size} = 1, a JSON array of {@code size} elements otherwise.
+ * Output goes to a null stream so the numbers exclude buffer growth and copying.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AssetJsonBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    public int size;
+
+    private ObjectWriter singleWriter;
+    private ObjectWriter listWriter;
+    private AssetResponse single;
+    private List<AssetResponse> list;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        list = BenchmarkData.responses(size);
+        single = list.get(0);
+        singleWriter = objectMapper.writerFor(AssetResponse.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, AssetResponse.class));
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        if (size == 1) {
+            singleWriter.writeValue(sink, single);
+        } else {
+            listWriter.writeValue(sink, list);
+        }
+    }
+}
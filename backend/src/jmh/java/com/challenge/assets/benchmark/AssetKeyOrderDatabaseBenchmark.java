@@ -0,0 +1,136 @@
+package com.challenge.assets.benchmark;
+
+import com.challenge.assets.domain.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput and primary key index size for random (v4) versus time-ordered (v7) UUID keys, against a real
+ * PostgreSQL. Each run creates a table shaped like {@code assets}, inserts {@code rows} rows in committed JDBC
+ * batches and prints the size of the table and of its primary key index before dropping it. Random keys land on
+ * random leaf pages, which split half-full and, once the index outgrows shared buffers, are read back from disk;
+ * time-ordered keys fill the rightmost leaf.
+ * <p>
+ * Needs a database: {@code BENCHMARK_DB_URL}, {@code BENCHMARK_DB_USERNAME} and {@code BENCHMARK_DB_PASSWORD}
+ * (defaults: the local {@code assets_db} of docker-compose). {@link BenchmarkMain} leaves it out of the default run
+ * unless {@code BENCHMARK_DB_URL} is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class AssetKeyOrderDatabaseBenchmark {
+
+    public enum KeyOrder {
+        RANDOM(UUID::randomUUID),
+        TIME_ORDERED(TimeOrderedUuidGenerator::next);
+
+        private final Supplier<UUID> generator;
+
+        KeyOrder(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    private static final String TABLE = "benchmark_asset_keys";
+    private static final int BATCH_SIZE = 1_000;
+    private static final OffsetDateTime BASE_DATE = OffsetDateTime.of(2024, 1, 15, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @Param({"1000000", "5000000"})
+    public int rows;
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public KeyOrder keys;
+
+    private Connection connection;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        String url = env("BENCHMARK_DB_URL", "jdbc:postgresql://localhost:5432/assets_db");
+        connection = DriverManager.getConnection(
+                url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                env("BENCHMARK_DB_USERNAME", "admin"),
+                env("BENCHMARK_DB_PASSWORD", "admin"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("""
+                    CREATE TABLE %s (
+                        id UUID PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        serial_number VARCHAR(255) NOT NULL,
+                        status VARCHAR(20) NOT NULL,
+                        created_at TIMESTAMP WITH TIME ZONE NOT NULL
+                    )
+                    """.formatted(TABLE));
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (id, name, serial_number, status, created_at) VALUES (?, ?, ?, 'AVAILABLE', ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setObject(1, keys.generator.get());
+                insert.setString(2, "Laptop Model " + (i % 50));
+                insert.setString(3, "SN-" + i);
+                insert.setObject(4, BASE_DATE.plusSeconds(i));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return rows;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet sizes = statement.executeQuery(
+                    "SELECT pg_relation_size('" + TABLE + "'), pg_relation_size('" + TABLE + "_pkey')")) {
+                sizes.next();
+                System.out.printf("%n%s keys, %,d rows: table %,d KB, primary key index %,d KB (%.1f bytes/row)%n",
+                        keys, rows, sizes.getLong(1) / 1024, sizes.getLong(2) / 1024,
+                        (double) sizes.getLong(2) / rows);
+            }
+            statement.execute("DROP TABLE " + TABLE);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
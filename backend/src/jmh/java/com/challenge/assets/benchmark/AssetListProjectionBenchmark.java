@@ -0,0 +1,95 @@
+package com.challenge.assets.benchmark;
+
+import com.challenge.assets.AssetsManagerApplication;
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.repository.AssetSearchCriteria;
+import com.challenge.assets.service.AssetService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /assets} service path with full entities ({@code findAll}: hydration, persistence context
+ * snapshots, mapper) against a sparse fieldset ({@code findAllFields}: tuple projection of the list-screen
+ * columns), on the H2 test profile with {@code size} rows. The GC profiler's {@code gc.alloc.rate.norm}
+ * divided by {@code size} gives the per-row allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AssetListProjectionBenchmark {
+
+    private static final String LIST_FIELDS = "id,name,serialNumber,status";
+    private static final AssetSearchCriteria ALL = new AssetSearchCriteria(null, null, null);
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private AssetService service;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AssetsManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "assets.query-count.enabled=false",
+                        "assets.stream.poll-interval=PT1H",
+                        "assets.stats.reconcile-initial-delay=PT1H")
+                .run();
+        service = context.getBean(AssetService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Asset> rows = BenchmarkData.entities(size);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows, 1000, (ps, asset) -> {
+            ps.setObject(1, asset.getId());
+            ps.setString(2, asset.getName());
+            ps.setString(3, asset.getSerialNumber());
+            ps.setObject(4, asset.getAcquisitionDate());
+            ps.setString(5, asset.getStatus().name());
+            ps.setObject(6, asset.getCreatedAt());
+            ps.setObject(7, asset.getUpdatedAt());
+            ps.setLong(8, asset.getVersion());
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object entities() {
+        return service.findAll(ALL);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> projection() {
+        return service.findAllFields(ALL, LIST_FIELDS);
+    }
+}
@@ -0,0 +1,61 @@
+package com.challenge.assets.benchmark;
+
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.dto.AssetRequest;
+import com.challenge.assets.mapper.AssetMapper;
+import com.challenge.assets.mapper.AssetMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct conversions on the write ({@code toEntity}) and read ({@code toResponse}) paths,
+ * per call for {@code size} elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AssetMapperBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    public int size;
+
+    private final AssetMapper mapper = new AssetMapperImpl();
+    private List<AssetRequest> requests;
+    private List<Asset> entities;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkData.requests(size);
+        entities = BenchmarkData.entities(size);
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole blackhole) {
+        for (AssetRequest request : requests) {
+            blackhole.consume(mapper.toEntity(request));
+        }
+    }
+
+    @Benchmark
+    public void toResponse(Blackhole blackhole) {
+        for (Asset entity : entities) {
+            blackhole.consume(mapper.toResponse(entity));
+        }
+    }
+}
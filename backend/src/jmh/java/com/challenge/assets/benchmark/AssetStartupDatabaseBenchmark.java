@@ -0,0 +1,203 @@
+package com.challenge.assets.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cold start of the backend: time from launching its JVM to the first successful {@code GET /assets/{id}}, for the
+ * regular Boot jar and for the {@code fast-startup} build (Spring AOT plus the CDS archive of its training run).
+ * Every measurement starts a fresh JVM with the {@code prod} profile on a free port, polls the endpoint every
+ * 10 ms and stops the process afterwards; process output goes to {@code target/startup-benchmark.log}.
+ * <p>
+ * Build both variants first: {@code mvn package -DskipTests && mvn -Pfast-startup package -DskipTests}.
+ * Needs a database: {@code BENCHMARK_DB_URL}, {@code BENCHMARK_DB_USERNAME} and {@code BENCHMARK_DB_PASSWORD}
+ * (defaults: the local {@code assets_db} of docker-compose). {@link BenchmarkMain} leaves it out of the default run
+ * unless {@code BENCHMARK_DB_URL} is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AssetStartupDatabaseBenchmark {
+
+    public enum Variant {
+        /** The Boot fat jar of the default build. */
+        JAR,
+        /** Thin jar with AOT-generated bean definitions, started with its CDS archive. */
+        FAST_STARTUP
+    }
+
+    private static final Path TARGET = Path.of("target");
+    private static final Path LOG = TARGET.resolve("startup-benchmark.log");
+    private static final UUID ASSET_ID = UUID.fromString("0190f1a0-0000-7000-8000-00000000beef");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @Param({"JAR", "FAST_STARTUP"})
+    public Variant variant;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private Process process;
+    private int port;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            if (!schemaExists(connection)) {
+                // The application owns the schema: one start lets Flyway create it
+                port = freePort();
+                process = launch(Variant.JAR);
+                awaitOk("/actuator/health");
+                stop();
+            }
+            statement.executeUpdate("""
+                    INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+                    VALUES ('%s', 'Startup probe', 'SN-STARTUP-BENCHMARK', now(), 'AVAILABLE', now(), now(), 0)
+                    ON CONFLICT DO NOTHING
+                    """.formatted(ASSET_ID));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void pickPort() throws IOException {
+        port = freePort();
+    }
+
+    @Benchmark
+    public int timeToFirstRead() throws Exception {
+        process = launch(variant);
+        return awaitOk("/assets/" + ASSET_ID);
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() throws InterruptedException {
+        if (process == null) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        process = null;
+    }
+
+    private Process launch(Variant launched) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        Path directory;
+        if (launched == Variant.FAST_STARTUP) {
+            // Same working directory and class path as the training run, or the JVM rejects the archive
+            directory = TARGET.resolve("fast-startup");
+            command.addAll(List.of("-XX:SharedArchiveFile=app.jsa", "-Dspring.aot.enabled=true", "-jar", "app.jar"));
+        } else {
+            directory = TARGET;
+            command.addAll(List.of("-jar", bootJar().getFileName().toString()));
+        }
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(LOG.toFile()));
+        Map<String, String> environment = builder.environment();
+        environment.put("SERVER_PORT", Integer.toString(port));
+        environment.put("SPRING_PROFILES_ACTIVE", "prod");
+        environment.put("SPRING_DATASOURCE_URL", env("BENCHMARK_DB_URL", "jdbc:postgresql://localhost:5432/assets_db"));
+        environment.put("SPRING_DATASOURCE_USERNAME", env("BENCHMARK_DB_USERNAME", "admin"));
+        environment.put("SPRING_DATASOURCE_PASSWORD", env("BENCHMARK_DB_PASSWORD", "admin"));
+        return builder.start();
+    }
+
+    /**
+     * Polls {@code path} until it answers 200.
+     *
+     * @return the status code, so the result is consumed
+     */
+    private int awaitOk(String path) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with " + process.exitValue() + ", see " + LOG);
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (IOException notListeningYet) {
+                // Connection refused until the web server has started
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No 200 from " + path + " within " + STARTUP_TIMEOUT + ", see " + LOG);
+    }
+
+    private static Path bootJar() {
+        try (Stream<Path> jars = Files.list(TARGET)) {
+            return jars.filter(jar -> jar.getFileName().toString().matches("assets-manager-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No Boot jar in " + TARGET + ", run mvn package"));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static boolean schemaExists(Connection connection) throws SQLException {
+        try (ResultSet tables = connection.getMetaData().getTables(null, null, "assets", null)) {
+            return tables.next();
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                env("BENCHMARK_DB_URL", "jdbc:postgresql://localhost:5432/assets_db"),
+                env("BENCHMARK_DB_USERNAME", "admin"),
+                env("BENCHMARK_DB_PASSWORD", "admin"));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
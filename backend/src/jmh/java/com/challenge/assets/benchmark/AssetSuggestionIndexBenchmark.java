@@ -0,0 +1,64 @@
+package com.challenge.assets.benchmark;
+
+import com.challenge.assets.dto.AssetSuggestion;
+import com.challenge.assets.suggest.AssetSuggestionIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead lookups (top 10 for a serial number prefix and for a name prefix) and one committed write
+ * (a single-asset merge) on an index of {@code size} assets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AssetSuggestionIndexBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private final AssetSuggestionIndex index = new AssetSuggestionIndex();
+    private AssetSuggestion changed;
+
+    @Setup
+    public void setUp() {
+        List<AssetSuggestion> entries = BenchmarkData.entities(size).stream()
+                .map(asset -> new AssetSuggestion(asset.getId(), asset.getSerialNumber(), asset.getName()))
+                .toList();
+        index.rebuild(() -> entries);
+        changed = new AssetSuggestion(new UUID(0, size / 2), "SN-RENAMED", "Renamed");
+    }
+
+    @Benchmark
+    public List<AssetSuggestion> suggestSerial() {
+        return index.suggest("sn-5", 10);
+    }
+
+    @Benchmark
+    public List<AssetSuggestion> suggestName() {
+        return index.suggest("laptop 9", 10);
+    }
+
+    @Benchmark
+    public long applyOne() {
+        index.apply(Map.of(changed.id(), changed));
+        return index.size();
+    }
+}
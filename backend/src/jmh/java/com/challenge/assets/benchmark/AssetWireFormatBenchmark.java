@@ -0,0 +1,84 @@
+package com.challenge.assets.benchmark;
+
+import com.challenge.assets.dto.AssetResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization CPU of a {@code GET /assets} body per wire format: JSON, JSON gzipped as Tomcat does it
+ * (default deflate level), CBOR and Smile, with the same mapper settings as the HTTP converters.
+ * Output goes to a reused buffer; the payload size of each format is printed at the end of the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AssetWireFormatBenchmark {
+
+    public enum Format { JSON, JSON_GZIP, CBOR, SMILE }
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"JSON", "JSON_GZIP", "CBOR", "SMILE"})
+    public Format format;
+
+    private ObjectWriter writer;
+    private List<AssetResponse> list;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4 * 1024 * 1024);
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = switch (format) {
+            case JSON, JSON_GZIP -> BenchmarkData.objectMapper();
+            case CBOR -> BenchmarkData.objectMapper(new CBORFactory());
+            case SMILE -> BenchmarkData.objectMapper(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+        };
+        list = BenchmarkData.responses(size);
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, AssetResponse.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n%s payload for %d assets: %d bytes%n", format, size, buffer.size());
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        buffer.reset();
+        if (format == Format.JSON_GZIP) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer, 8192)) {
+                writer.writeValue(gzip, list);
+            }
+        } else {
+            writer.writeValue(buffer, list);
+        }
+        return buffer.size();
+    }
+}
@@ -0,0 +1,126 @@
+package com.challenge.assets.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark (name + parameters).
+ * A benchmark regresses when its primary score or its allocation per operation ({@code gc.alloc.rate.norm})
+ * is worse than the baseline by more than {@code maxRegression} (a fraction, 0.15 = 15%).
+ * Scores are compared in the direction of the benchmark mode: lower is better for time modes,
+ * higher is better for throughput. A score change only counts when it also falls outside the current run's
+ * confidence interval ({@code scoreError}), so short or noisy runs do not fail on jitter.
+ */
+final class BaselineComparator {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    // Allocation deltas below this many bytes per operation are noise (TLAB/escape-analysis jitter)
+    private static final double ALLOCATION_SLACK_BYTES = 64;
+
+    private final double maxRegression;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    BaselineComparator(double maxRegression) {
+        this.maxRegression = maxRegression;
+    }
+
+    Report compare(Path baselineFile, Path resultFile) throws IOException {
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselineFile.toFile()));
+        Map<String, JsonNode> current = index(objectMapper.readTree(resultFile.toFile()));
+        List<Line> lines = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                lines.add(new Line(entry.getKey(), Double.NaN, score(after), Double.NaN, allocation(after), false, "new"));
+                continue;
+            }
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double scoreBefore = score(before);
+            double scoreAfter = score(after);
+            double change = relativeChange(scoreBefore, scoreAfter, higherIsBetter);
+            double error = after.path("primaryMetric").path("scoreError").asDouble(0);
+            boolean significant = !Double.isNaN(error) && relativeChange(scoreBefore,
+                    higherIsBetter ? scoreAfter + error : scoreAfter - error, higherIsBetter) > 0;
+            double allocBefore = allocation(before);
+            double allocAfter = allocation(after);
+            boolean allocRegressed = !Double.isNaN(allocBefore) && !Double.isNaN(allocAfter)
+                    && allocAfter - allocBefore > ALLOCATION_SLACK_BYTES
+                    && relativeChange(allocBefore, allocAfter, false) > maxRegression;
+            boolean regressed = (change > maxRegression && significant) || allocRegressed;
+            lines.add(new Line(entry.getKey(), scoreBefore, scoreAfter, allocBefore, allocAfter, regressed,
+                    String.format("%+.1f%%", change * 100)));
+        }
+        return new Report(lines, maxRegression);
+    }
+
+    /**
+     * How much worse {@code after} is than {@code before}, as a fraction; negative means an improvement.
+     */
+    static double relativeChange(double before, double after, boolean higherIsBetter) {
+        if (before == 0) {
+            return 0;
+        }
+        return higherIsBetter ? (before - after) / before : (after - before) / before;
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            byKey.put(key(result), result);
+        }
+        return byKey;
+    }
+
+    private static String key(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                .append(" [").append(result.path("mode").asText()).append(']');
+        Map<String, String> params = new TreeMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = result.path("params").fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> param = it.next();
+            params.put(param.getKey(), param.getValue().asText());
+        }
+        params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+        return key.toString();
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble(Double.NaN);
+    }
+
+    private static double allocation(JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble(Double.NaN);
+    }
+
+    record Line(String benchmark, double scoreBefore, double scoreAfter,
+                double allocBefore, double allocAfter, boolean regressed, String change) {}
+
+    record Report(List<Line> lines, double maxRegression) {
+
+        boolean hasRegressions() {
+            return lines.stream().anyMatch(Line::regressed);
+        }
+
+        String render() {
+            StringBuilder out = new StringBuilder(String.format(
+                    "%nBaseline comparison (max regression %.0f%%)%n", maxRegression * 100));
+            out.append(String.format("%-90s %14s %14s %9s %14s %14s%n",
+                    "Benchmark", "Baseline", "Current", "Change", "B/op before", "B/op after"));
+            for (Line line : lines) {
+                out.append(String.format("%-90s %14.3f %14.3f %9s %14.1f %14.1f%s%n",
+                        line.benchmark(), line.scoreBefore(), line.scoreAfter(), line.change(),
+                        line.allocBefore(), line.allocAfter(), line.regressed() ? "  REGRESSION" : ""));
+            }
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.challenge.assets.benchmark;
+
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetRequest;
+import com.challenge.assets.dto.AssetResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures shared by the benchmarks. Values vary per element so that nothing is
+ * deduplicated or cached along the measured path.
+ */
+final class BenchmarkData {
+
+    private static final OffsetDateTime BASE_DATE = OffsetDateTime.of(2024, 1, 15, 10, 0, 0, 0, ZoneOffset.UTC);
+    private static final AssetStatus[] STATUSES = AssetStatus.values();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * ObjectMapper with the same settings as Spring Boot's auto-configured one (ISO-8601 dates, not timestamps).
+     * The target stream is left open because the benchmarks write to one shared null stream.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+    }
+
+    /**
+     * Binary-format ObjectMapper configured like the CBOR and Smile HTTP converters (numeric timestamps).
+     */
+    static ObjectMapper objectMapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+    }
+
+    static List<AssetRequest> requests(int size) {
+        List<AssetRequest> requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            requests.add(new AssetRequest("Laptop " + i, "SN-" + i, BASE_DATE.plusMinutes(i),
+                    i % 5 == 0 ? null : STATUSES[i % STATUSES.length]));
+        }
+        return requests;
+    }
+
+    static List<Asset> entities(int size) {
+        List<Asset> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(Asset.builder()
+                    .id(new UUID(0, i))
+                    .name("Laptop " + i)
+                    .serialNumber("SN-" + i)
+                    .acquisitionDate(BASE_DATE.plusMinutes(i))
+                    .status(STATUSES[i % STATUSES.length])
+                    .createdAt(BASE_DATE.plusSeconds(i))
+                    .updatedAt(BASE_DATE.plusSeconds(i))
+                    .version((long) i % 7)
+                    .build());
+        }
+        return entities;
+    }
+
+    static List<AssetResponse> responses(int size) {
+        List<AssetResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(new AssetResponse(new UUID(0, i), "Laptop " + i, "SN-" + i, BASE_DATE.plusMinutes(i),
+                    STATUSES[i % STATUSES.length], BASE_DATE.plusSeconds(i), BASE_DATE.plusSeconds(i), (long) i % 7));
+        }
+        return responses;
+    }
+}
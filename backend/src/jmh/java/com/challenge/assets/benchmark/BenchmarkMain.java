@@ -0,0 +1,71 @@
+package com.challenge.assets.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Entry point of the {@code benchmarks} Maven profile. Runs the JMH benchmarks of this package with the GC profiler
+ * (allocation rate per operation), writes the JSON result and compares it with the stored baseline.
+ * Standard JMH command-line arguments (include pattern, {@code -p size=1000}, {@code -f}, ...) are passed through.
+ * Benchmarks named {@code *DatabaseBenchmark} need PostgreSQL and only run by default when {@code BENCHMARK_DB_URL}
+ * is set, or when included explicitly.
+ * <p>
+ * System properties (set by the profile): {@code jmh.result}, {@code jmh.baseline}, {@code jmh.maxRegression}
+ * and {@code jmh.updateBaseline}. The process exits with status 1 when a benchmark regressed.
+ */
+public final class BenchmarkMain {
+
+    private static final String DEFAULT_INCLUDE = BenchmarkMain.class.getPackageName() + ".*Benchmark";
+    private static final String DATABASE_BENCHMARKS = BenchmarkMain.class.getPackageName() + ".*DatabaseBenchmark";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path result = Path.of(System.getProperty("jmh.result", "target/jmh-result.json"));
+        Path baseline = Path.of(System.getProperty("jmh.baseline", "src/jmh/baseline.json"));
+        double maxRegression = Double.parseDouble(System.getProperty("jmh.maxRegression", "0.15"));
+        boolean updateBaseline = Boolean.parseBoolean(System.getProperty("jmh.updateBaseline", "false"));
+
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(DEFAULT_INCLUDE);
+            if (System.getenv("BENCHMARK_DB_URL") == null) {
+                builder.exclude(DATABASE_BENCHMARKS);
+            }
+        }
+        Options options = builder
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        new Runner(options).run();
+
+        if (updateBaseline) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline + "; run with -Djmh.updateBaseline=true to create one.");
+            return;
+        }
+        BaselineComparator.Report report = new BaselineComparator(maxRegression).compare(baseline, result);
+        System.out.println(report.render());
+        if (report.hasRegressions()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.challenge.assets.benchmark;
+
+import com.challenge.assets.controller.AssetController;
+import com.challenge.assets.dto.AssetRequest;
+import com.challenge.assets.dto.error.ApiErrorResponse;
+import com.challenge.assets.exception.AssetNotFoundException;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing error bodies in {@link GlobalExceptionHandler}: a plain not-found error, and a
+ * validation error carrying {@code size} field errors (the shape of a rejected batch).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final OutputStream sink = OutputStream.nullOutputStream();
+    private ObjectWriter writer;
+    private AssetNotFoundException notFound;
+
+    /**
+     * Validation failure with {@code size} field errors; kept apart so {@link #notFound} is not repeated per size.
+     */
+    @State(Scope.Benchmark)
+    public static class ValidationFailure {
+
+        @Param({"1", "1000", "100000"})
+        public int size;
+
+        private MethodArgumentNotValidException exception;
+
+        @Setup
+        public void setUp() throws NoSuchMethodException {
+            BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(
+                    BenchmarkData.requests(1).get(0), "assetRequest");
+            for (int i = 0; i < size; i++) {
+                bindingResult.addError(new FieldError("assetRequest", "items[" + i + "].name", "name must not be blank"));
+            }
+            MethodParameter parameter = new MethodParameter(
+                    AssetController.class.getMethod("create", AssetRequest.class), 0);
+            exception = new MethodArgumentNotValidException(parameter, bindingResult);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        writer = BenchmarkData.objectMapper().writerFor(ApiErrorResponse.class);
+        notFound = new AssetNotFoundException(ErrorCode.ASSET_NOT_FOUND, new UUID(0, 1));
+    }
+
+    @Benchmark
+    public void notFound() throws IOException {
+        ResponseEntity<ApiErrorResponse> response = handler.handleAssetNotFound(notFound);
+        writer.writeValue(sink, response.getBody());
+    }
+
+    @Benchmark
+    public void validation(ValidationFailure failure) throws IOException {
+        ResponseEntity<ApiErrorResponse> response = handler.handleMethodArgumentNotValid(failure.exception);
+        writer.writeValue(sink, response.getBody());
+    }
+}
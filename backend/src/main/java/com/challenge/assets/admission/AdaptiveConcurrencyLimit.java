@@ -0,0 +1,108 @@
+package com.challenge.assets.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to measured latency with AIMD (additive increase, multiplicative decrease).
+ * A request that took longer than {@code targetLatency} means the server is past the point where more concurrency
+ * buys throughput (requests are queueing for connections or CPU), so the limit is multiplied by
+ * {@code backoffRatio}. A request under the target while at least half the limit was in use grows the limit by
+ * one. The limit stays within [{@code minLimit}, {@code maxLimit}].
+ * <p>
+ * Requests over the limit are rejected immediately rather than queued, so the latency of admitted requests stays
+ * near the target while overloaded.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final LongSupplier clock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration targetLatency,
+                                    double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, targetLatency, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration targetLatency,
+                             double backoffRatio, LongSupplier clock) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit settings: min " + minLimit + ", max "
+                    + maxLimit + ", backoff ratio " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.clock = clock;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * Admits a request if fewer than {@link #limit()} are in flight.
+     *
+     * @return the permit to release when the request completes, or null if the request must be rejected
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(clock.getAsLong(), current + 1);
+            }
+        }
+    }
+
+    synchronized void onSample(long latencyNanos, int inFlightAtStart) {
+        if (latencyNanos > targetLatencyNanos) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * One admitted request. {@link #release()} must be called exactly once, when the request completes.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Frees the slot and feeds the request latency into the limit.
+         */
+        public void release() {
+            inFlight.decrementAndGet();
+            onSample(clock.getAsLong() - startNanos, inFlightAtStart);
+        }
+    }
+}
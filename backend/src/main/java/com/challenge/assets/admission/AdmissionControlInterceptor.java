@@ -0,0 +1,118 @@
+package com.challenge.assets.admission;
+
+import com.challenge.assets.admission.AdaptiveConcurrencyLimit.Permit;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Admits asset API requests through one {@link AdaptiveConcurrencyLimit} per request kind: reads (GET, HEAD)
+ * and writes hit the database differently and must not shed each other's load. Bulk requests (the unpaged
+ * {@code GET /assets} and {@code POST /assets/batch}) take far longer than a by-ID call at any load, so they
+ * have a limit of their own; fed into the read or write limit, their latency would hold it at its minimum.
+ * Runs after handler mapping and
+ * before the request body is read, so a rejection costs almost nothing; it surfaces as
+ * {@link ServiceOverloadedException} and is answered 503 with {@code Retry-After}.
+ */
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor, MeterBinder {
+
+    /**
+     * Request kinds with separate limits.
+     */
+    public enum Kind {
+        READ, WRITE, BULK
+    }
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+    private static final String LIST_PATTERN = "/assets";
+    private static final String BATCH_PATTERN = "/assets/batch";
+    /** Present on the cursor-paged {@code GET /assets}; without it the whole filtered list is returned. */
+    private static final String PAGE_SIZE_PARAMETER = "limit";
+
+    private final Map<Kind, AdaptiveConcurrencyLimit> limits;
+    private final Duration retryAfter;
+
+    public AdmissionControlInterceptor(AdaptiveConcurrencyLimit readLimit, AdaptiveConcurrencyLimit writeLimit,
+                                       AdaptiveConcurrencyLimit bulkLimit, Duration retryAfter) {
+        this.limits = new EnumMap<>(Map.of(Kind.READ, readLimit, Kind.WRITE, writeLimit, Kind.BULK, bulkLimit));
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        Permit permit = limits.get(kindOf(request)).tryAcquire();
+        if (permit == null) {
+            throw new ServiceOverloadedException(ErrorCode.SERVICE_OVERLOADED, retryAfter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release();
+        }
+    }
+
+    /**
+     * Classifies by the matched mapping pattern, so query strings and path variables do not matter.
+     */
+    static Kind kindOf(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD) {
+            return LIST_PATTERN.equals(pattern) && request.getParameter(PAGE_SIZE_PARAMETER) == null
+                    ? Kind.BULK : Kind.READ;
+        }
+        return BATCH_PATTERN.equals(pattern) ? Kind.BULK : Kind.WRITE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limits.forEach((kind, limit) -> {
+            String tag = kind.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("assets.admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("kind", tag)
+                    .register(registry);
+            Gauge.builder("assets.admission.in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                    .description("Admitted requests in progress")
+                    .tag("kind", tag)
+                    .register(registry);
+            FunctionCounter.builder("assets.admission.rejected", limit, AdaptiveConcurrencyLimit::rejected)
+                    .description("Requests rejected with 503 because the concurrency limit was reached")
+                    .tag("kind", tag)
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Admission control for the asset API: adaptive concurrency limits per request kind, shedding excess load
+ * with 503 instead of letting it queue for a database connection.
+ */
+package com.challenge.assets.admission;
@@ -0,0 +1,29 @@
+package com.challenge.assets.archive;
+
+import com.challenge.assets.service.AssetArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically archives old DISPOSED assets. Runs on every instance; concurrent runs skip each other's locked
+ * rows instead of waiting on them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetArchivalJob {
+
+    private final AssetArchiveService archiveService;
+
+    @Scheduled(initialDelayString = "${assets.archive.interval:PT15M}",
+            fixedDelayString = "${assets.archive.interval:PT15M}")
+    public void archive() {
+        try {
+            archiveService.archiveDisposed();
+        } catch (RuntimeException ex) {
+            log.error("Asset archival failed", ex);
+        }
+    }
+}
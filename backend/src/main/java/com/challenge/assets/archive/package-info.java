@@ -0,0 +1,4 @@
+/**
+ * Background archival of disposed assets out of the hot set.
+ */
+package com.challenge.assets.archive;
@@ -0,0 +1,36 @@
+package com.challenge.assets.cache;
+
+import java.util.UUID;
+
+/**
+ * Broadcasts cache invalidations to every node holding an {@link AssetResponseCache}.
+ * The default {@link LocalAssetCacheInvalidationChannel} only reaches the current JVM; a multi-node
+ * deployment registers its own bean (e.g. backed by PostgreSQL LISTEN/NOTIFY or a message broker).
+ */
+public interface AssetCacheInvalidationChannel {
+
+    /**
+     * Receives invalidations published by any node, including the current one.
+     */
+    interface Listener {
+
+        void onInvalidate(UUID assetId);
+
+        void onInvalidateAll();
+    }
+
+    /**
+     * Announces that the cached entry for {@code assetId} is stale.
+     */
+    void publish(UUID assetId);
+
+    /**
+     * Announces that every cached entry is stale (e.g. after a bulk import).
+     */
+    void publishAll();
+
+    /**
+     * Registers a listener for invalidations.
+     */
+    void subscribe(Listener listener);
+}
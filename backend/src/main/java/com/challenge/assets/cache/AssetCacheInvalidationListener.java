@@ -0,0 +1,31 @@
+package com.challenge.assets.cache;
+
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.event.AssetsBulkImportedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalidates {@link AssetResponseCache} entries once asset writes have committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetCacheInvalidationListener {
+
+    private final AssetResponseCache cache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAssetChanged(AssetChangedEvent event) {
+        cache.invalidate(event.assetId());
+    }
+
+    @EventListener
+    public void onBulkImport(AssetsBulkImportedEvent event) {
+        if (event.updated() > 0) {
+            cache.invalidateAll();
+        }
+    }
+}
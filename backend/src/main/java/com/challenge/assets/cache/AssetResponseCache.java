@@ -0,0 +1,136 @@
+package com.challenge.assets.cache;
+
+import com.challenge.assets.config.AssetCacheProperties;
+import com.challenge.assets.datasource.ReadYourWrites;
+import com.challenge.assets.dto.AssetResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of {@link AssetResponse} by asset ID, including negative entries for unknown IDs.
+ * Entries are evicted by size (W-TinyLFU) and by TTL, with a shorter TTL for negative entries.
+ * Writers call {@link #invalidate(UUID)} after commit; the invalidation goes through the
+ * {@link AssetCacheInvalidationChannel} so every node drops its copy, this one included.
+ * An invalidation that races with an in-flight load waits for the load and then removes its result,
+ * so a value read before the commit is never left behind.
+ * Misses are loaded from the primary even when read replicas are configured: a replica row older than the last
+ * invalidation would otherwise be cached for the whole TTL and hide the write from every client.
+ * Hit/miss/eviction counters are exported as {@code cache.*} meters tagged {@code cache=assets}.
+ */
+@Component
+public class AssetResponseCache implements AssetCacheInvalidationChannel.Listener, MeterBinder {
+
+    static final String METRICS_NAME = "assets";
+
+    private final Cache<UUID, Entry> cache;
+    private final AssetCacheInvalidationChannel channel;
+    private final boolean enabled;
+
+    public AssetResponseCache(AssetCacheProperties properties, AssetCacheInvalidationChannel channel) {
+        this.enabled = properties.enabled();
+        this.channel = channel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new EntryExpiry(properties.ttl().toNanos(), properties.negativeTtl().toNanos()))
+                .recordStats()
+                .build();
+        channel.subscribe(this);
+    }
+
+    /**
+     * Returns the cached asset for {@code id}, loading (and caching) it on a miss.
+     * An empty result from the loader is cached as a negative entry.
+     *
+     * @param id     asset ID
+     * @param loader database lookup used on a miss
+     * @return the asset, or empty if it does not exist
+     */
+    public Optional<AssetResponse> get(UUID id, Function<UUID, Optional<AssetResponse>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(cache.get(id, key -> new Entry(loadFromPrimary(loader, key))).value());
+    }
+
+    private static AssetResponse loadFromPrimary(Function<UUID, Optional<AssetResponse>> loader, UUID id) {
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.open(true, () -> { })) {
+            return loader.apply(id).orElse(null);
+        }
+    }
+
+    /**
+     * Drops the entry for {@code id} on every node.
+     */
+    public void invalidate(UUID id) {
+        channel.publish(id);
+    }
+
+    /**
+     * Drops every entry on every node.
+     */
+    public void invalidateAll() {
+        channel.publishAll();
+    }
+
+    @Override
+    public void onInvalidate(UUID assetId) {
+        cache.invalidate(assetId);
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, METRICS_NAME);
+    }
+
+    /**
+     * Hit, miss, load and eviction counters since startup.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Approximate number of entries currently cached.
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Cached value; a null {@code value} marks an ID known not to exist.
+     */
+    private record Entry(AssetResponse value) {}
+
+    private record EntryExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<UUID, Entry> {
+
+        @Override
+        public long expireAfterCreate(UUID key, Entry entry, long currentTime) {
+            return entry.value() != null ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.challenge.assets.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process {@link AssetCacheInvalidationChannel}: delivers invalidations synchronously to the listeners
+ * registered in the same JVM. Suitable for single-node deployments and as a stand-in in tests, where
+ * several caches sharing one instance behave like several nodes.
+ */
+public class LocalAssetCacheInvalidationChannel implements AssetCacheInvalidationChannel {
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UUID assetId) {
+        listeners.forEach(listener -> listener.onInvalidate(assetId));
+    }
+
+    @Override
+    public void publishAll() {
+        listeners.forEach(Listener::onInvalidateAll);
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * In-process caches and their cross-node invalidation channel.
+ */
+package com.challenge.assets.cache;
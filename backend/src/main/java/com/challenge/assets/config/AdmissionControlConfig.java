@@ -0,0 +1,46 @@
+package com.challenge.assets.config;
+
+import com.challenge.assets.admission.AdaptiveConcurrencyLimit;
+import com.challenge.assets.admission.AdmissionControlInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts {@link AdmissionControlInterceptor} in front of the asset CRUD endpoints. The SSE stream and the export
+ * are long-lived by design and imports are queued jobs with their own limit, so none of them is admitted here.
+ * <p>
+ * {@code assets.admission.enabled} is checked when the interceptors are registered rather than as a bean
+ * condition: with Spring AOT, conditions are fixed at build time and the switch would do nothing in the image.
+ */
+@Configuration
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlProperties properties;
+
+    public AdmissionControlConfig(AdmissionControlProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    public AdmissionControlInterceptor admissionControlInterceptor() {
+        return new AdmissionControlInterceptor(limit(properties.reads()), limit(properties.writes()),
+                limit(properties.bulk()), properties.retryAfter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.enabled()) {
+            return;
+        }
+        registry.addInterceptor(admissionControlInterceptor())
+                .addPathPatterns("/assets", "/assets/**")
+                .excludePathPatterns("/assets/stream", "/assets/export", "/assets/imports", "/assets/imports/**");
+    }
+
+    private AdaptiveConcurrencyLimit limit(AdmissionControlProperties.Limit limit) {
+        return new AdaptiveConcurrencyLimit(limit.initial(), limit.min(), limit.max(), limit.targetLatency(),
+                properties.backoffRatio());
+    }
+}
@@ -0,0 +1,43 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Admission control for the asset API ({@code assets.admission.*}).
+ *
+ * @param enabled      installs the concurrency limits in front of {@code /assets}
+ * @param reads        limit for GET and HEAD requests
+ * @param writes       limit for POST, PUT, PATCH and DELETE requests
+ * @param bulk         limit for the unpaged {@code GET /assets} and {@code POST /assets/batch}, kept apart so
+ *                     their latency does not shrink the read and write limits
+ * @param backoffRatio factor applied to a limit when a request exceeds its target latency
+ * @param retryAfter   wait suggested to rejected clients in {@code Retry-After}
+ */
+@ConfigurationProperties(prefix = "assets.admission")
+public record AdmissionControlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Limit reads,
+        @DefaultValue Limit writes,
+        @DefaultValue Limit bulk,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("1s") Duration retryAfter
+) {
+
+    /**
+     * Bounds and latency target of one adaptive limit.
+     *
+     * @param initial       limit at startup, before any latency has been measured
+     * @param min           lowest the limit can shrink to
+     * @param max           highest the limit can grow to
+     * @param targetLatency request latency above which the limit shrinks
+     */
+    public record Limit(
+            @DefaultValue("20") int initial,
+            @DefaultValue("4") int min,
+            @DefaultValue("200") int max,
+            @DefaultValue("250ms") Duration targetLatency
+    ) {}
+}
@@ -0,0 +1,20 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Archival of disposed assets ({@code assets.archive.*}). The schedule is read from {@code assets.archive.interval}.
+ *
+ * @param minAge          time since the last update after which a DISPOSED asset is archived
+ * @param chunkSize       assets moved per statement
+ * @param maxChunksPerRun upper bound on statements per run, so a large backlog is worked off across runs
+ */
+@ConfigurationProperties(prefix = "assets.archive")
+public record AssetArchiveProperties(
+        @DefaultValue("90d") Duration minAge,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("100") int maxChunksPerRun
+) {}
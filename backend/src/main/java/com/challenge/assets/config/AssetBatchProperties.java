@@ -0,0 +1,14 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for {@code POST /assets/batch} ({@code assets.batch.*}).
+ *
+ * @param maxSize maximum number of items accepted per request
+ */
+@ConfigurationProperties(prefix = "assets.batch")
+public record AssetBatchProperties(
+        @DefaultValue("1000") int maxSize
+) {}
@@ -0,0 +1,21 @@
+package com.challenge.assets.config;
+
+import com.challenge.assets.cache.AssetCacheInvalidationChannel;
+import com.challenge.assets.cache.LocalAssetCacheInvalidationChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache wiring. Declare another {@link AssetCacheInvalidationChannel} bean to replace the in-process channel
+ * with a distributed one.
+ */
+@Configuration
+public class AssetCacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(AssetCacheInvalidationChannel.class)
+    public AssetCacheInvalidationChannel assetCacheInvalidationChannel() {
+        return new LocalAssetCacheInvalidationChannel();
+    }
+}
@@ -0,0 +1,22 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the {@code GET /assets/{id}} read-through cache ({@code assets.cache.*}).
+ *
+ * @param enabled     when false every lookup goes to the database
+ * @param maximumSize maximum number of cached entries (positive and negative)
+ * @param ttl         time-to-live of a cached asset
+ * @param negativeTtl time-to-live of a cached "not found" entry
+ */
+@ConfigurationProperties(prefix = "assets.cache")
+public record AssetCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("30s") Duration negativeTtl
+) {}
@@ -0,0 +1,27 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Change history writer settings ({@code assets.history.*}).
+ *
+ * @param bufferCapacity  committed changes held in memory while waiting to be written
+ * @param batchSize       rows written per JDBC batch
+ * @param flushInterval   how long the writer waits for the next change before checking for shutdown
+ * @param enqueueTimeout  how long a committing request blocks on a full buffer, for all its changes together, before
+ *                        the ones that did not fit are dropped
+ * @param retryBackoff    pause before retrying a batch that failed to write
+ * @param shutdownTimeout time allowed on shutdown to write what is still buffered
+ */
+@ConfigurationProperties(prefix = "assets.history")
+public record AssetHistoryProperties(
+        @DefaultValue("10000") int bufferCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("1s") Duration enqueueTimeout,
+        @DefaultValue("1s") Duration retryBackoff,
+        @DefaultValue("10s") Duration shutdownTimeout
+) {}
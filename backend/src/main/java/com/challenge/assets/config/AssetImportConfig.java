@@ -0,0 +1,25 @@
+package com.challenge.assets.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for bulk CSV imports, kept apart from the request and MVC async pools so a long import
+ * never competes with interactive traffic for threads.
+ */
+@Configuration
+public class AssetImportConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor assetImportExecutor(AssetImportProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("asset-import-");
+        executor.setCorePoolSize(properties.concurrency());
+        executor.setMaxPoolSize(properties.concurrency());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
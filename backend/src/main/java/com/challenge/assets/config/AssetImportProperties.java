@@ -0,0 +1,29 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning for bulk CSV imports ({@code assets.import.*}).
+ *
+ * @param progressInterval records read between progress updates of the job row
+ * @param maxErrors        maximum rejected rows recorded per job (all rejections are still counted)
+ * @param concurrency      imports allowed to run at the same time; further jobs wait in the queue
+ * @param queueCapacity    jobs allowed to wait for a free slot before submissions are refused
+ * @param heartbeatInterval how often the instance running a job refreshes its lease ({@code heartbeat_at})
+ * @param leaseTimeout      age of the last heartbeat after which a running job is considered abandoned;
+ *                          must be several heartbeat intervals
+ * @param leaseCheckInterval how often abandoned jobs are marked FAILED (the first check runs at startup)
+ */
+@ConfigurationProperties(prefix = "assets.import")
+public record AssetImportProperties(
+        @DefaultValue("10000") int progressInterval,
+        @DefaultValue("1000") int maxErrors,
+        @DefaultValue("1") int concurrency,
+        @DefaultValue("10") int queueCapacity,
+        @DefaultValue("10s") Duration heartbeatInterval,
+        @DefaultValue("1m") Duration leaseTimeout,
+        @DefaultValue("1m") Duration leaseCheckInterval
+) {}
@@ -0,0 +1,23 @@
+package com.challenge.assets.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor that writes change feed events to SSE subscribers, so a slow connection never blocks the outbox relay.
+ */
+@Configuration
+public class AssetStreamConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor assetStreamExecutor(AssetStreamProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("asset-stream-");
+        executor.setCorePoolSize(properties.senderThreads());
+        executor.setMaxPoolSize(properties.senderThreads());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Change feed settings ({@code assets.stream.*}). The relay schedule itself is read from
+ * {@code assets.stream.poll-interval}, {@code heartbeat-interval} and {@code purge-interval}.
+ *
+ * @param batchSize        outbox rows read per relay query
+ * @param gapTimeout       how long the relay waits for a missing outbox id (a transaction still committing)
+ *                         before treating it as rolled back and moving past it
+ * @param replayCapacity   recent events kept in memory to resume reconnecting clients from {@code Last-Event-ID}
+ * @param subscriberBuffer events queued per subscriber; a subscriber that falls further behind is disconnected
+ * @param senderThreads    threads writing queued events to subscribers
+ * @param emitterTimeout   lifetime of one SSE connection; browsers reconnect transparently
+ * @param retention        age after which outbox rows are purged
+ */
+@ConfigurationProperties(prefix = "assets.stream")
+public record AssetStreamProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("5s") Duration gapTimeout,
+        @DefaultValue("10000") int replayCapacity,
+        @DefaultValue("256") int subscriberBuffer,
+        @DefaultValue("4") int senderThreads,
+        @DefaultValue("30m") Duration emitterTimeout,
+        @DefaultValue("1d") Duration retention
+) {}
@@ -0,0 +1,20 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Delta sync settings ({@code assets.sync.*}). The tombstone purge schedule is read from
+ * {@code assets.sync.purge-interval}.
+ *
+ * @param settleWindow       how far behind the clock the sync watermark stays, so changes whose timestamp was
+ *                           taken before a still-running transaction commits are not skipped
+ * @param tombstoneRetention age after which tombstones are purged; older watermarks require a full resync
+ */
+@ConfigurationProperties(prefix = "assets.sync")
+public record AssetSyncProperties(
+        @DefaultValue("5s") Duration settleWindow,
+        @DefaultValue("30d") Duration tombstoneRetention
+) {}
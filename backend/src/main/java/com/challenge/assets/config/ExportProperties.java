@@ -0,0 +1,16 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning for the streaming asset export ({@code assets.export.*}).
+ *
+ * @param fetchSize  rows fetched per JDBC round trip from the server-side cursor
+ * @param flushEvery rows written between explicit flushes of the response stream
+ */
+@ConfigurationProperties(prefix = "assets.export")
+public record ExportProperties(
+        @DefaultValue("1000") int fetchSize,
+        @DefaultValue("1000") int flushEvery
+) {}
@@ -0,0 +1,28 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Flyway wiring. Migrations are skipped in the CDS training run of the {@code fast-startup} build, which only
+ * refreshes the context ({@code spring.context.exit=onRefresh}) to record the loaded classes and has no database.
+ * The check happens at startup: with Spring AOT, bean conditions such as {@code spring.flyway.enabled} are fixed
+ * at build time.
+ */
+@Configuration
+public class FlywayConfig {
+
+    static final String CONTEXT_EXIT = "spring.context.exit";
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        boolean trainingRun = "onRefresh".equals(environment.getProperty(CONTEXT_EXIT));
+        return flyway -> {
+            if (!trainingRun) {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code Idempotency-Key} settings ({@code assets.idempotency.*}). The purge schedule of expired keys is read from
+ * {@code assets.idempotency.purge-interval}.
+ *
+ * @param ttl               how long a stored response is replayed to retries with the same key
+ * @param memoryMaximumSize stored responses kept in memory in front of the database
+ * @param inFlightTimeout   how long a duplicate waits for the request already running with its key before getting 409
+ */
+@ConfigurationProperties(prefix = "assets.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("10000") long memoryMaximumSize,
+        @DefaultValue("30s") Duration inFlightTimeout
+) {}
@@ -0,0 +1,75 @@
+package com.challenge.assets.config;
+
+import com.challenge.assets.datasource.ReadYourWritesFilter;
+import com.challenge.assets.datasource.ReplicaLagMonitor;
+import com.challenge.assets.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Primary and replica HikariCP pools behind a single {@link ReplicaRoutingDataSource}, which replaces Boot's
+ * auto-configured DataSource. Active only when {@code assets.datasource.replica.jdbc-url} is set; the replica
+ * pool takes any HikariCP setting under {@code assets.datasource.replica} and defaults its credentials to the
+ * primary's. The pools are not DataSource beans of their own, so JPA, Flyway and the statement counter see one
+ * DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "assets.datasource.replica", name = "jdbc-url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig primaryPoolConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("primary");
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        return config;
+    }
+
+    /**
+     * The replica does not have to be up at startup: the pool starts empty and the lag check keeps reads on the
+     * primary until the replica answers.
+     */
+    @Bean
+    @ConfigurationProperties("assets.datasource.replica")
+    public HikariConfig replicaPoolConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setInitializationFailTimeout(-1);
+        return config;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryPoolConfig") HikariConfig primaryPoolConfig,
+                                               @Qualifier("replicaPoolConfig") HikariConfig replicaPoolConfig,
+                                               ReplicaRoutingProperties properties) {
+        if (replicaPoolConfig.getUsername() == null) {
+            replicaPoolConfig.setUsername(primaryPoolConfig.getUsername());
+            replicaPoolConfig.setPassword(primaryPoolConfig.getPassword());
+        }
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new HikariDataSource(replicaPoolConfig),
+                properties.maxLag(), properties.lagMaxAge());
+        monitor.start(properties.lagCheckInterval());
+        return monitor;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(@Qualifier("primaryPoolConfig") HikariConfig primaryPoolConfig,
+                                               ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicaRoutingDataSource(new HikariDataSource(primaryPoolConfig), replicaLagMonitor);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingProperties properties) {
+        return new ReadYourWritesFilter(properties.stickiness());
+    }
+}
@@ -0,0 +1,25 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica routing ({@code assets.datasource.routing.*}); only used when {@code assets.datasource.replica.jdbc-url}
+ * is set.
+ *
+ * @param maxLag           replay lag above which read-only transactions go to the primary; keep
+ *                         {@code maxLag + lagMaxAge} below {@code assets.sync.settle-window}, or delta sync could skip
+ *                         changes not yet replayed
+ * @param stickiness       how long a client's reads stay on the primary after one of its writes commits
+ * @param lagCheckInterval pause between two lag checks
+ * @param lagMaxAge        age after which the last lag measurement no longer counts and reads go to the primary
+ */
+@ConfigurationProperties(prefix = "assets.datasource.routing")
+public record ReplicaRoutingProperties(
+        @DefaultValue("1s") Duration maxLag,
+        @DefaultValue("5s") Duration stickiness,
+        @DefaultValue("1s") Duration lagCheckInterval,
+        @DefaultValue("3s") Duration lagMaxAge
+) {}
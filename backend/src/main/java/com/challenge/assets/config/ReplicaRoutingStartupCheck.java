@@ -0,0 +1,27 @@
+package com.challenge.assets.config;
+
+import com.challenge.assets.datasource.ReplicaLagMonitor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Fails startup when {@code assets.datasource.replica.jdbc-url} is set but {@link ReplicaRoutingConfig} is not
+ * active. With Spring AOT the bean set is fixed at build time, where no replica is configured, so the URL would
+ * otherwise be ignored and every read would silently stay on the primary. Such images must be started with
+ * {@code -Dspring.aot.enabled=false}.
+ */
+@Component
+public class ReplicaRoutingStartupCheck {
+
+    static final String REPLICA_URL = "assets.datasource.replica.jdbc-url";
+
+    public ReplicaRoutingStartupCheck(Environment environment, ObjectProvider<ReplicaLagMonitor> monitor) {
+        if (StringUtils.hasText(environment.getProperty(REPLICA_URL)) && monitor.getIfAvailable() == null) {
+            throw new IllegalStateException(REPLICA_URL + " is set but replica routing is not configured: "
+                    + "the application was built with Spring AOT without a replica; start it with "
+                    + "-Dspring.aot.enabled=false (SPRING_AOT_ENABLED=false in the Docker image)");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.challenge.assets.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs (e.g. counter reconciliation). Jobs run on every instance, on Boot's
+ * task scheduler sized by {@code spring.task.scheduling.pool.size} to one thread per job: with the default single
+ * thread, a long job would hold up the outbox relay and the SSE heartbeat. Keep the pool size in step when adding
+ * a job.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,50 @@
+package com.challenge.assets.config;
+
+import com.challenge.assets.observability.SqlQueryCountFilter;
+import com.challenge.assets.observability.SqlStatementCountingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Statement counting for development and tests: every {@link DataSource} is wrapped in a datasource-proxy
+ * that reports executions to the request-scoped counter, so round-trip regressions show up in the
+ * {@code X-Query-Count} header and can be asserted in tests. Not active unless {@code assets.query-count.enabled}.
+ * The switch is read at startup rather than as a bean condition, which Spring AOT would fix at build time.
+ */
+@Configuration
+public class SqlQueryCountConfig {
+
+    static final String ENABLED = "assets.query-count.enabled";
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty(ENABLED, Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlStatementCountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlQueryCountFilter> sqlQueryCountFilter(SqlQueryCountProperties properties) {
+        FilterRegistrationBean<SqlQueryCountFilter> registration =
+                new FilterRegistrationBean<>(new SqlQueryCountFilter(properties.nPlusOneThreshold()));
+        registration.setEnabled(properties.enabled());
+        return registration;
+    }
+}
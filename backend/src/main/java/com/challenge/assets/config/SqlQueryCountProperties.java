@@ -0,0 +1,16 @@
+package com.challenge.assets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request SQL statement counting ({@code assets.query-count.*}).
+ *
+ * @param enabled           wraps the DataSource and adds the {@code X-Query-Count} response header; off in prod
+ * @param nPlusOneThreshold executions of one identical statement within a request that get logged as a likely N+1
+ */
+@ConfigurationProperties(prefix = "assets.query-count")
+public record SqlQueryCountProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int nPlusOneThreshold
+) {}
@@ -1,9 +1,27 @@
 package com.challenge.assets.controller;
 
+import com.challenge.assets.config.BinaryFormatsConfig;
 import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetChangesResponse;
+import com.challenge.assets.dto.AssetHistoryEntryResponse;
+import com.challenge.assets.dto.AssetPageOrder;
+import com.challenge.assets.dto.AssetPatchRequest;
 import com.challenge.assets.dto.AssetRequest;
 import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.AssetStatsResponse;
+import com.challenge.assets.dto.AssetSuggestion;
+import com.challenge.assets.dto.BatchCreateResponse;
+import com.challenge.assets.dto.CursorPageResponse;
+import com.challenge.assets.dto.ExportFormat;
+import com.challenge.assets.idempotency.IdempotentRequestHandler;
+import com.challenge.assets.repository.AssetSearchCriteria;
+import com.challenge.assets.service.AssetBatchService;
+import com.challenge.assets.service.AssetExportService;
+import com.challenge.assets.service.AssetHistoryService;
 import com.challenge.assets.service.AssetService;
+import com.challenge.assets.service.AssetStatsService;
+import com.challenge.assets.service.AssetSuggestionService;
+import com.challenge.assets.service.AssetSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,17 +31,30 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * REST controller for Asset CRUD.
- * All errors return structured {@link com.challenge.assets.dto.error.ApiErrorResponse} (400, 404, 409, 500).
+ * All errors return structured {@link com.challenge.assets.dto.error.ApiErrorResponse} (400, 404, 409, 412, 500).
+ * Single-asset responses carry the asset version as ETag; PUT and PATCH honour If-Match.
+ * Reads are conditional: unchanged assets and listings answer 304 to If-None-Match, and are marked
+ * {@code Cache-Control: no-cache} so browsers revalidate on every poll instead of guessing freshness.
+ * Listings carry only an ETag: a deletion does not move max(updated_at), so Last-Modified would be unsafe there.
+ * Read endpoints also answer in CBOR or Smile when the client asks for it in Accept; cacheable ones then
+ * send {@code Vary: Accept}, since the ETag identifies the data, not the encoding.
+ * Creations accept an {@code Idempotency-Key}: a retry with the same key gets the original response back.
  */
 @RestController
 @CrossOrigin(origins = {"http://localhost:5173", "http://127.0.0.1:5173"})
@@ -33,14 +64,139 @@ import java.util.UUID;
 public class AssetController {
 
     private final AssetService service;
+    private final AssetExportService exportService;
+    private final AssetBatchService batchService;
+    private final AssetStatsService statsService;
+    private final AssetSyncService syncService;
+    private final AssetSuggestionService suggestionService;
+    private final AssetHistoryService historyService;
+    private final IdempotentRequestHandler idempotency;
 
-    @Operation(summary = "Listar todos os ativos", description = "Retorna uma lista de ativos. Pode ser filtrada opcionalmente por nome, número de série ou status.")
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Listar todos os ativos", description = "Retorna uma lista de ativos. Pode ser filtrada opcionalmente por nome, número de série ou status. Ativos arquivados só aparecem com includeArchived=true.")
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "304", description = "Not modified (If-None-Match)"),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
     })
     public ResponseEntity<List<AssetResponse>> getAll(
+            WebRequest webRequest,
+
+            @Parameter(description = "Filtra pelo nome do ativo (busca parcial)")
+            @RequestParam(required = false) String name,
+
+            @Parameter(description = "Filtra pelo número de série (busca parcial)")
+            @RequestParam(required = false) String serialNumber,
+
+            @Parameter(description = "Filtra pelo status exato do ativo")
+            @RequestParam(required = false) AssetStatus status,
+
+            @Parameter(description = "Inclui ativos arquivados (DISPOSED antigos movidos para o arquivo)")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria(name, serialNumber, status, includeArchived);
+        String eTag = AssetETags.ofCollection(service.collectionStamp(criteria));
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(service.findAll(criteria));
+    }
+
+    @Operation(summary = "Listar ativos com campos selecionados", description = "Como a listagem completa, mas cada item traz apenas os campos pedidos em fields (o id sempre vem). A consulta seleciona só essas colunas, sem carregar entidades.")
+    @GetMapping(params = {"fields", "!limit"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "304", description = "Not modified (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Unknown field", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public ResponseEntity<List<Map<String, Object>>> getAllFields(
+            WebRequest webRequest,
+
+            @Parameter(description = "Filtra pelo nome do ativo (busca parcial)")
+            @RequestParam(required = false) String name,
+
+            @Parameter(description = "Filtra pelo número de série (busca parcial)")
+            @RequestParam(required = false) String serialNumber,
+
+            @Parameter(description = "Filtra pelo status exato do ativo")
+            @RequestParam(required = false) AssetStatus status,
+
+            @Parameter(description = "Campos separados por vírgula, ex.: id,name,serialNumber,status")
+            @RequestParam String fields,
+
+            @Parameter(description = "Inclui ativos arquivados (DISPOSED antigos movidos para o arquivo)")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria(name, serialNumber, status, includeArchived);
+        String eTag = AssetETags.ofCollection(service.collectionStamp(criteria));
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(service.findAllFields(criteria, fields));
+    }
+
+    @Operation(summary = "Listar ativos paginados (keyset)", description = "Retorna uma página de ativos ordenada por data de criação e ID (ou só por ID, com order=ID). Use o nextCursor da resposta para buscar a próxima página; nextCursor nulo indica a última página.")
+    @GetMapping(params = "limit", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "304", description = "Not modified (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public ResponseEntity<CursorPageResponse<AssetResponse>> getPage(
+            WebRequest webRequest,
+
+            @Parameter(description = "Filtra pelo nome do ativo (busca parcial)")
+            @RequestParam(required = false) String name,
+
+            @Parameter(description = "Filtra pelo número de série (busca parcial)")
+            @RequestParam(required = false) String serialNumber,
+
+            @Parameter(description = "Filtra pelo status exato do ativo")
+            @RequestParam(required = false) AssetStatus status,
+
+            @Parameter(description = "Tamanho da página (máximo " + AssetService.MAX_PAGE_SIZE + ")")
+            @RequestParam int limit,
+
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Ordenação: CREATED_AT (data de criação e ID) ou ID (chave primária)")
+            @RequestParam(defaultValue = "CREATED_AT") AssetPageOrder order,
+
+            @Parameter(description = "Inclui ativos arquivados (DISPOSED antigos movidos para o arquivo)")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria(name, serialNumber, status, includeArchived);
+        // The page is the validator: a collection stamp would count the whole filtered set on every page
+        CursorPageResponse<AssetResponse> page = service.findPage(criteria, limit, cursor, order);
+        String eTag = AssetETags.ofPage(page);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(page);
+    }
+
+    @Operation(summary = "Exportar inventário completo", description = "Transmite todos os ativos (com filtros opcionais) em NDJSON ou CSV, linha a linha, direto do cursor do banco. Indicado para jobs de reconciliação.")
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> export(
             @Parameter(description = "Filtra pelo nome do ativo (busca parcial)")
             @RequestParam(required = false) String name,
 
@@ -48,48 +204,180 @@ public class AssetController {
             @RequestParam(required = false) String serialNumber,
 
             @Parameter(description = "Filtra pelo status exato do ativo")
-            @RequestParam(required = false) AssetStatus status) {
+            @RequestParam(required = false) AssetStatus status,
+
+            @Parameter(description = "Formato de saída: NDJSON (padrão) ou CSV")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+
+            @Parameter(description = "Inclui ativos arquivados (DISPOSED antigos movidos para o arquivo)")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria(name, serialNumber, status, includeArchived);
+        StreamingResponseBody body = out -> exportService.export(criteria, format, out);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"assets." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping(value = "/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Estatísticas dos ativos", description = "Totais por status e por ano/mês de aquisição, lidos de contadores mantidos a cada escrita (custo independente do número de ativos).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public AssetStatsResponse getStats() {
+        return statsService.getStats();
+    }
+
+    @GetMapping(value = "/suggest", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Sugestões por prefixo (typeahead)", description = "Ativos cujo número de série ou nome começa com o prefixo (sem diferenciar maiúsculas), primeiro os de número de série. Respondido de um índice em memória, sem consultar o banco.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public List<AssetSuggestion> suggest(
+            @Parameter(description = "Início do número de série ou do nome")
+            @RequestParam String prefix,
+
+            @Parameter(description = "Máximo de sugestões (máximo " + AssetSuggestionService.MAX_SUGGESTIONS + ")")
+            @RequestParam(defaultValue = "10") int limit) {
+        return suggestionService.suggest(prefix, limit);
+    }
+
+    @GetMapping(value = "/changes", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Sincronização incremental", description = "Retorna os ativos criados/alterados e as exclusões (tombstones) após o watermark since, em ordem de alteração. Envie o nextSince da resposta na próxima chamada; com hasMore verdadeiro, chame de novo imediatamente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Invalid watermark", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "410", description = "Watermark older than the tombstone retention; full resync required", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public AssetChangesResponse getChanges(
+            @Parameter(description = "Watermark nextSince da chamada anterior; omitido na primeira sincronização")
+            @RequestParam(required = false) String since,
 
-        return ResponseEntity.ok(service.findAll(name, serialNumber, status));
+            @Parameter(description = "Máximo de alterações por resposta (máximo " + AssetService.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + AssetService.MAX_PAGE_SIZE) int limit) {
+        return syncService.findChanges(since, limit);
     }
 
-    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get asset by ID")
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get asset by ID", description = "Responde com ETag (versão) e Last-Modified; com If-None-Match ou If-Modified-Since ainda válidos, retorna 304 sem corpo.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "304", description = "Not modified (If-None-Match / If-Modified-Since)"),
             @ApiResponse(responseCode = "404", description = "Asset not found", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
     })
-    public AssetResponse getById(@PathVariable UUID id) {
-        return service.findById(id);
+    public ResponseEntity<AssetResponse> getById(@PathVariable UUID id, WebRequest webRequest) {
+        AssetResponse asset = service.findById(id);
+        String eTag = AssetETags.of(asset);
+        long lastModified = asset.updatedAt().toInstant().toEpochMilli();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(asset);
+    }
+
+    @GetMapping(value = "/{id}/history", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Histórico de alterações do ativo", description = "Alterações do ativo (criação, atualizações e exclusão) com o estado antes e depois de cada uma, da mais recente para a mais antiga. Gravado de forma assíncrona após o commit: uma alteração pode levar alguns instantes para aparecer. Use o nextCursor da resposta para buscar alterações mais antigas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public CursorPageResponse<AssetHistoryEntryResponse> getHistory(
+            @PathVariable UUID id,
+
+            @Parameter(description = "Tamanho da página (máximo " + AssetService.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "50") int limit,
+
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(required = false) String cursor) {
+        return historyService.findHistory(id, limit, cursor);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Create asset")
+    @Operation(summary = "Create asset", description = "Com Idempotency-Key, uma nova tentativa com a mesma chave e o mesmo corpo recebe a resposta original (cabeçalho Idempotent-Replayed) em vez de criar outro ativo.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Created"),
+            @ApiResponse(responseCode = "400", description = "Validation error or invalid Idempotency-Key", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Serial number already exists, or a request with the same Idempotency-Key is still running", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key already used with a different request", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public ResponseEntity<AssetResponse> create(
+            @Parameter(description = "Chave única por operação lógica (ex.: UUID gerado pelo cliente), reenviada nas novas tentativas")
+            @RequestHeader(value = IdempotentRequestHandler.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody AssetRequest request) {
+        return idempotency.execute(idempotencyKey, "POST /assets", request, AssetResponse.class, () -> {
+            AssetResponse created = service.create(request);
+            return ResponseEntity
+                    .created(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(created.id()).toUri())
+                    .eTag(AssetETags.of(created))
+                    .body(created);
+        });
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create assets in batch", description = "Cria vários ativos em uma única transação. Cada item recebe seu próprio resultado (CREATED, CONFLICT ou INVALID); um item inválido não rejeita o lote. Aceita Idempotency-Key como a criação individual.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-item results"),
+            @ApiResponse(responseCode = "400", description = "Batch too large or invalid Idempotency-Key", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still running", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key already used with a different request", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public ResponseEntity<BatchCreateResponse> createBatch(
+            @Parameter(description = "Chave única por operação lógica (ex.: UUID gerado pelo cliente), reenviada nas novas tentativas")
+            @RequestHeader(value = IdempotentRequestHandler.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody List<AssetRequest> requests) {
+        return idempotency.execute(idempotencyKey, "POST /assets/batch", requests, BatchCreateResponse.class,
+                () -> ResponseEntity.ok(batchService.createBatch(requests)));
+    }
+
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Update asset by ID", description = "Substitui todos os campos do ativo. Com If-Match, a escrita só ocorre se a versão (ETag) ainda for a atual.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
             @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Asset not found", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
             @ApiResponse(responseCode = "409", description = "Serial number already exists", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "Asset version changed (If-Match)", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
     })
-    public ResponseEntity<AssetResponse> create(@Valid @RequestBody AssetRequest request) {
-        AssetResponse created = service.create(request);
-        return ResponseEntity
-                .created(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(created.id()).toUri())
-                .body(created);
+    public ResponseEntity<AssetResponse> update(
+            @PathVariable UUID id,
+            @Parameter(description = "ETag obtido em GET /assets/{id}; se informado, a atualização falha com 412 caso o ativo tenha mudado")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody AssetRequest request) {
+        AssetResponse updated = service.update(id, request, AssetETags.expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(AssetETags.of(updated)).body(updated);
     }
 
-    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Update asset by ID")
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Partially update asset by ID", description = "Atualiza apenas os campos enviados (ex.: só o status) em um único UPDATE, sem leitura prévia. Com If-Match, a escrita só ocorre se a versão (ETag) ainda for a atual.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Success"),
             @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Asset not found", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
             @ApiResponse(responseCode = "409", description = "Serial number already exists", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "Asset version changed (If-Match)", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
     })
-    public AssetResponse update(@PathVariable UUID id, @Valid @RequestBody AssetRequest request) {
-        return service.update(id, request);
+    public ResponseEntity<AssetResponse> patch(
+            @PathVariable UUID id,
+            @Parameter(description = "ETag obtido em GET /assets/{id}; se informado, a atualização falha com 412 caso o ativo tenha mudado")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody AssetPatchRequest request) {
+        AssetResponse updated = service.patch(id, request, AssetETags.expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(AssetETags.of(updated)).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,103 @@
+package com.challenge.assets.controller;
+
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.CursorPageResponse;
+import com.challenge.assets.exception.AssetVersionMismatchException;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.repository.AssetRepositoryCustom.CollectionStamp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * ETag handling for the asset endpoints. A single asset's tag is its version in quotes ({@code "3"});
+ * a collection's tag is a weak tag built from its count and latest {@code updated_at}; a keyset page's tag is a
+ * weak tag built from the page itself, so it costs no query beyond the page.
+ */
+final class AssetETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final int PAGE_TAG_BYTES = 16;
+
+    private AssetETags() {
+    }
+
+    /**
+     * Entity tag for the given asset.
+     */
+    static String of(AssetResponse asset) {
+        return "\"" + asset.version() + "\"";
+    }
+
+    /**
+     * Weak entity tag for a filtered collection; changes whenever a matching asset is added, updated or removed.
+     */
+    static String ofCollection(CollectionStamp stamp) {
+        long lastUpdated = stamp.lastUpdatedAt() != null
+                ? ChronoUnit.MICROS.between(Instant.EPOCH, stamp.lastUpdatedAt().toInstant())
+                : 0;
+        return "W/\"" + stamp.count() + "-" + Long.toString(lastUpdated, 36) + "\"";
+    }
+
+    /**
+     * Weak entity tag for one keyset page: a digest of the IDs and versions of its items and of the next cursor.
+     * Changes whenever an item of the page is updated, removed or replaced, or the page boundary moves; changes
+     * elsewhere in the collection leave it as it is.
+     */
+    static String ofPage(CursorPageResponse<AssetResponse> page) {
+        MessageDigest digest = sha256();
+        ByteBuffer item = ByteBuffer.allocate(3 * Long.BYTES);
+        for (AssetResponse asset : page.items()) {
+            item.clear();
+            item.putLong(asset.id().getMostSignificantBits())
+                    .putLong(asset.id().getLeastSignificantBits())
+                    .putLong(asset.version() != null ? asset.version() : -1);
+            digest.update(item.array());
+        }
+        if (page.nextCursor() != null) {
+            digest.update(page.nextCursor().getBytes(StandardCharsets.UTF_8));
+        }
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, PAGE_TAG_BYTES) + "\"";
+    }
+
+    /**
+     * Extracts the expected version from an {@code If-Match} header.
+     * A weak tag is accepted as its opaque value, since the version is the only validator we issue.
+     *
+     * @param id      asset being written (for the error message)
+     * @param ifMatch header value; null or {@code *} means unconditional
+     * @return the expected version, or null for an unconditional write
+     * @throws AssetVersionMismatchException if the header is a list or not a tag we issued (it cannot match)
+     */
+    static Long expectedVersion(UUID id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new AssetVersionMismatchException(ErrorCode.ASSET_VERSION_MISMATCH, id);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new AssetVersionMismatchException(ErrorCode.ASSET_VERSION_MISMATCH, id);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform", ex);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.challenge.assets.controller;
+
+import com.challenge.assets.domain.enums.ImportConflictMode;
+import com.challenge.assets.dto.AssetImportErrorResponse;
+import com.challenge.assets.dto.AssetImportJobResponse;
+import com.challenge.assets.service.AssetImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for bulk CSV imports of assets.
+ * All errors return structured {@link com.challenge.assets.dto.error.ApiErrorResponse} (404, 500, 503).
+ */
+@RestController
+@CrossOrigin(origins = {"http://localhost:5173", "http://127.0.0.1:5173"})
+@RequestMapping("/assets/imports")
+@RequiredArgsConstructor
+@Tag(name = "Asset imports", description = "Bulk CSV import API")
+public class AssetImportController {
+
+    private final AssetImportService service;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Importar ativos via CSV", description = "Agenda a importação de um CSV (cabeçalho: name, serialNumber, acquisitionDate e, opcionalmente, status). O processamento é assíncrono; acompanhe pelo endpoint de status.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import queued"),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Import queue full", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public ResponseEntity<AssetImportJobResponse> submit(
+            @Parameter(description = "Arquivo CSV em UTF-8")
+            @RequestPart("file") MultipartFile file,
+
+            @Parameter(description = "Tratamento de números de série existentes: SKIP (padrão) ou UPDATE")
+            @RequestParam(defaultValue = "SKIP") ImportConflictMode onConflict) throws IOException {
+
+        // The multipart temp file only lives for the request; keep our own copy for the async job
+        Path upload = Files.createTempFile("asset-import-", ".csv");
+        file.transferTo(upload);
+        AssetImportJobResponse job = service.submit(upload, file.getOriginalFilename(), onConflict);
+        return ResponseEntity
+                .accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.id()).toUri())
+                .body(job);
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get import job status and progress")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "404", description = "Import job not found", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public AssetImportJobResponse getJob(@PathVariable UUID id) {
+        return service.findJob(id);
+    }
+
+    @GetMapping(value = "/{id}/errors", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get rejected rows of an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "404", description = "Import job not found", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.challenge.assets.dto.error.ApiErrorResponse.class)))
+    })
+    public List<AssetImportErrorResponse> getErrors(@PathVariable UUID id) {
+        return service.findErrors(id);
+    }
+}
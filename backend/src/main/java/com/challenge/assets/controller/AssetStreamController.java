@@ -0,0 +1,50 @@
+package com.challenge.assets.controller;
+
+import com.challenge.assets.stream.AssetChangeBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events feed of asset changes, so clients stop polling the list.
+ * Events are named {@code created}, {@code updated} or {@code deleted} and carry the outbox position as id;
+ * a {@code reset} event means the client missed changes that can no longer be replayed and should refetch.
+ */
+@RestController
+@CrossOrigin(origins = {"http://localhost:5173", "http://127.0.0.1:5173"})
+@RequestMapping("/assets/stream")
+@RequiredArgsConstructor
+@Tag(name = "Asset changes", description = "Asset change feed (SSE)")
+public class AssetStreamController {
+
+    private final AssetChangeBroadcaster broadcaster;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Fluxo de alterações de ativos", description = "Mantém a conexão aberta e envia um evento por criação, atualização ou exclusão. Ao reconectar, o navegador reenvia Last-Event-ID e recebe os eventos perdidos (ou 'reset').")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream")
+    })
+    public SseEmitter stream(
+            @Parameter(description = "Id do último evento recebido (enviado automaticamente pelo EventSource ao reconectar)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return broadcaster.subscribe(parseEventId(lastEventId));
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            // Unknown position: replay is impossible, so the broadcaster answers with a reset
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.challenge.assets.datasource;
+
+/**
+ * Thread-bound read-your-writes state. While a {@link Scope} is open, read-only transactions on the thread go to
+ * the primary if the scope was opened pinned or a write has committed on the thread since. Without an open
+ * scope (schedulers, import workers) reads are never pinned.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Starts tracking on the current thread. Close the returned scope on the same thread.
+     *
+     * @param pinned       true if the client wrote recently, so its reads must see the primary from the start
+     * @param onFirstWrite run once, on the thread, after the first write transaction of the scope commits
+     */
+    public static Scope open(boolean pinned, Runnable onFirstWrite) {
+        Scope scope = new Scope(CURRENT.get(), pinned, onFirstWrite);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static boolean isPinnedToPrimary() {
+        Scope scope = CURRENT.get();
+        return scope != null && scope.pinned;
+    }
+
+    /**
+     * Pins the current scope to the primary after a write committed; a no-op when no scope is open.
+     */
+    static void writeCommitted() {
+        Scope scope = CURRENT.get();
+        if (scope != null && !scope.written) {
+            scope.written = true;
+            scope.pinned = true;
+            scope.onFirstWrite.run();
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Runnable onFirstWrite;
+        private boolean pinned;
+        private boolean written;
+
+        private Scope(Scope parent, boolean pinned, Runnable onFirstWrite) {
+            this.parent = parent;
+            this.pinned = pinned;
+            this.onFirstWrite = onFirstWrite;
+        }
+
+        @Override
+        public void close() {
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
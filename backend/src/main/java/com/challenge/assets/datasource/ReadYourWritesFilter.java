@@ -0,0 +1,64 @@
+package com.challenge.assets.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes across requests: a request whose write commits gets the {@value #COOKIE} cookie, valid for
+ * the stickiness window, and requests carrying it read from the primary. Clients that drop cookies read from
+ * the replica right after their writes and may not see them for up to the replica's lag.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "assets-read-primary";
+
+    private final Duration stickiness;
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.open(hasCookie(request), () -> pin(response))) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * Writes commit in the service layer, before the controller renders the body, so the header still fits.
+     */
+    private void pin(HttpServletResponse response) {
+        if (!response.isCommitted()) {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, "1")
+                    .path("/")
+                    .maxAge(stickiness)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+    }
+
+    private static boolean hasCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
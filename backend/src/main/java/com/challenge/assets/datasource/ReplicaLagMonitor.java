@@ -0,0 +1,184 @@
+package com.challenge.assets.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Owns the replica pool and decides whether it may serve reads: only while its replay lag, measured by
+ * {@link #check()}, is within {@code maxLag}. Until the first successful check, and after a failed one, reads
+ * go to the primary. A measurement older than {@code maxAge} counts as unknown, so a check that stops running
+ * cannot keep reads on a replica that has fallen behind since.
+ * <p>
+ * Checks run on the monitor's own thread ({@link #start}), not on the shared task scheduler, where a long
+ * maintenance job would delay them.
+ * <p>
+ * Meters: {@code assets.datasource.replica.lag} (seconds, NaN while unknown or stale), {@code assets.datasource.reads}
+ * tagged {@code target=replica|primary} for read-only transactions, and the HikariCP meters of the replica pool.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder, AutoCloseable {
+
+    /**
+     * Zero unless the server is a standby that has received WAL it has not replayed yet; then the age of the
+     * last replayed transaction. NULL when nothing has been replayed.
+     */
+    private static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END
+            """;
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final Duration maxAge;
+    private final LongSupplier clock;
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+    /** Last measurement; null before the first one. */
+    private volatile Measurement last;
+    private ScheduledExecutorService checker;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration maxAge) {
+        this(replica, maxLag, maxAge, System::nanoTime);
+    }
+
+    ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration maxAge, LongSupplier clock) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    public DataSource replica() {
+        return replica;
+    }
+
+    /**
+     * Starts measuring the lag right away and then {@code interval} after each check, on a dedicated daemon thread
+     * stopped by {@link #close()}.
+     */
+    public synchronized void start(Duration interval) {
+        if (checker != null) {
+            return;
+        }
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(this::check, 0, interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Measures the replica's replay lag; a failed probe marks the replica unusable until the next success.
+     */
+    public void check() {
+        Duration measured;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            BigDecimal seconds = rs.getBigDecimal(1);
+            measured = seconds != null ? Duration.ofNanos(seconds.movePointRight(9).longValue()) : null;
+        } catch (SQLException | RuntimeException ex) {
+            if (lag() != null) {
+                log.warn("Replica lag check failed, reading from the primary", ex);
+            }
+            measured = null;
+        }
+        update(measured);
+    }
+
+    /**
+     * Records a lag measurement; null means unknown (unreachable replica, nothing replayed yet).
+     */
+    public void update(Duration measured) {
+        boolean wasUsable = isReplicaUsable();
+        last = new Measurement(measured, clock.getAsLong());
+        if (wasUsable && !isReplicaUsable() && measured != null) {
+            log.warn("Replica lag {} exceeds {}, reading from the primary", measured, maxLag);
+        } else if (!wasUsable && isReplicaUsable()) {
+            log.info("Replica lag {} within {}, reading from the replica", measured, maxLag);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        Duration current = lag();
+        return current != null && current.compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * Lag of the last measurement, or null when it is unknown or older than {@code maxAge}.
+     */
+    private Duration lag() {
+        Measurement measurement = last;
+        if (measurement == null || clock.getAsLong() - measurement.measuredAt() > maxAge.toNanos()) {
+            return null;
+        }
+        return measurement.lag();
+    }
+
+    void recordRead(boolean onReplica) {
+        (onReplica ? replicaReads : primaryReads).increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("assets.datasource.replica.lag", this,
+                        monitor -> {
+                            Duration current = monitor.lag();
+                            return current != null ? current.toNanos() / 1e9 : Double.NaN;
+                        })
+                .description("Replay lag of the read replica at the last check")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("assets.datasource.reads", replicaReads, LongAdder::sum)
+                .description("Read-only transactions per datasource")
+                .tag("target", "replica")
+                .register(registry);
+        FunctionCounter.builder("assets.datasource.reads", primaryReads, LongAdder::sum)
+                .description("Read-only transactions per datasource")
+                .tag("target", "primary")
+                .register(registry);
+        // Not a bean, so Boot's HikariCP binder does not see this pool
+        if (replica instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null) {
+            hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        synchronized (this) {
+            if (checker != null) {
+                checker.shutdownNow();
+            }
+        }
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * A lag probe result and the {@code clock} reading it was taken at.
+     */
+    private record Measurement(Duration lag, long measuredAt) {}
+}
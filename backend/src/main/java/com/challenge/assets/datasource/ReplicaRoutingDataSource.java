@@ -0,0 +1,116 @@
+package com.challenge.assets.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. The physical connection is
+ * fetched lazily, on the first statement, by which time the transaction's read-only flag is known.
+ * <p>
+ * A read-only transaction still goes to the primary when the thread is pinned by {@link ReadYourWrites}, or when
+ * {@link ReplicaLagMonitor} reports the replica unreachable or too far behind.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final DataSource primary;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor monitor) {
+        this.primary = primary;
+        setTargetDataSource(new PrimaryDataSource(primary));
+        setReadOnlyDataSource(new ReadOnlyDataSource(primary, monitor));
+        afterPropertiesSet();
+    }
+
+    /**
+     * Closes the primary pool; the replica pool belongs to the monitor.
+     */
+    @Override
+    public void close() throws IOException {
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Primary connections for read-write work. A transaction that takes one pins the thread's
+     * {@link ReadYourWrites} scope once it commits.
+     */
+    private static final class PrimaryDataSource extends DelegatingDataSource {
+
+        PrimaryDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            trackWrite();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            trackWrite();
+            return super.getConnection(username, password);
+        }
+
+        private static void trackWrite() {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    && !TransactionSynchronizationManager.hasResource(WriteCommitted.class)) {
+                WriteCommitted synchronization = new WriteCommitted();
+                TransactionSynchronizationManager.bindResource(WriteCommitted.class, synchronization);
+                TransactionSynchronizationManager.registerSynchronization(synchronization);
+            }
+        }
+    }
+
+    private static final class WriteCommitted implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            ReadYourWrites.writeCommitted();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WriteCommitted.class);
+        }
+    }
+
+    /**
+     * Connections for read-only transactions: the replica, unless the thread is pinned or the replica lags.
+     */
+    private static final class ReadOnlyDataSource extends DelegatingDataSource {
+
+        private final DataSource primary;
+        private final ReplicaLagMonitor monitor;
+
+        ReadOnlyDataSource(DataSource primary, ReplicaLagMonitor monitor) {
+            super(monitor.replica());
+            this.primary = primary;
+            this.monitor = monitor;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            boolean onReplica = !ReadYourWrites.isPinnedToPrimary() && monitor.isReplicaUsable();
+            monitor.recordRead(onReplica);
+            return onReplica ? super.getConnection() : primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            boolean onReplica = !ReadYourWrites.isPinnedToPrimary() && monitor.isReplicaUsable();
+            monitor.recordRead(onReplica);
+            return onReplica ? super.getConnection(username, password) : primary.getConnection(username, password);
+        }
+    }
+}
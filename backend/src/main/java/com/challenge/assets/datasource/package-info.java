@@ -0,0 +1,5 @@
+/**
+ * Read/write datasource routing: read-only transactions on a replica pool, with read-your-writes stickiness
+ * and fallback to the primary when the replica lags.
+ */
+package com.challenge.assets.datasource;
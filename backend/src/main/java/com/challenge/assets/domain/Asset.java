@@ -12,9 +12,24 @@ import java.util.UUID;
 
 /**
  * JPA entity representing an asset.
+ * The schema is managed by Flyway migrations under {@code db/migration}; the table metadata here mirrors it.
+ * The composite index on (created_at, id) backs the keyset pagination used by {@code GET /assets?limit=};
+ * the updated_at indexes back the collection validator of conditional {@code GET /assets}, and (updated_at, id) also
+ * the delta sync of {@code GET /assets/changes}.
+ * {@code version} is the optimistic locking counter; it is also the ETag of the single-asset endpoints.
+ * IDs are time-ordered ({@link TimeOrderedUuid}), so new rows append to the right edge of the primary key index
+ * and {@code GET /assets?limit=&order=ID} can page by the primary key alone.
+ * On PostgreSQL the table is list-partitioned on {@code archived}, and the primary and unique keys include it;
+ * the {@code asset_serial_numbers} registry, maintained by triggers, keeps serial numbers unique across partitions.
  */
 @Entity
-@Table(name = "assets")
+@Table(name = "assets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_assets_serial_number", columnNames = {"serial_number", "archived"}),
+        indexes = {
+                @Index(name = "idx_assets_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_assets_updated_at_id", columnList = "updated_at, id"),
+                @Index(name = "idx_assets_status_updated_at", columnList = "status, updated_at")
+        })
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,7 +37,7 @@ import java.util.UUID;
 public class Asset {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @NotBlank
@@ -30,7 +45,7 @@ public class Asset {
     private String name;
 
     @NotBlank
-    @Column(name = "serial_number", nullable = false, unique = true)
+    @Column(name = "serial_number", nullable = false)
     private String serialNumber;
 
     @Column(name = "acquisition_date", nullable = false)
@@ -47,4 +62,14 @@ public class Asset {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Set by the archival job on old DISPOSED assets; on PostgreSQL it is the partition key of {@code assets}.
+     */
+    @Column(nullable = false)
+    private boolean archived;
 }
@@ -0,0 +1,34 @@
+package com.challenge.assets.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * JPA entity for a CSV row rejected by a bulk import (validation failure or serial number conflict).
+ */
+@Entity
+@Table(name = "asset_import_errors")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    @Column(nullable = false)
+    private String code;
+
+    @Column(nullable = false)
+    private String message;
+}
@@ -0,0 +1,66 @@
+package com.challenge.assets.domain;
+
+import com.challenge.assets.domain.enums.ImportConflictMode;
+import com.challenge.assets.domain.enums.ImportJobState;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * JPA entity tracking a bulk CSV import and its progress counters.
+ * {@code heartbeatAt} is the lease of a running job, refreshed by the instance that runs it.
+ */
+@Entity
+@Table(name = "asset_import_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetImportJob {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "conflict_mode", nullable = false)
+    private ImportConflictMode conflictMode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobState state;
+
+    @Column(name = "rows_read", nullable = false)
+    private long rowsRead;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    @Column(name = "rows_inserted", nullable = false)
+    private long rowsInserted;
+
+    @Column(name = "rows_updated", nullable = false)
+    private long rowsUpdated;
+
+    @Column(name = "rows_conflicted", nullable = false)
+    private long rowsConflicted;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "started_at")
+    private OffsetDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private OffsetDateTime finishedAt;
+
+    @Column(name = "heartbeat_at")
+    private OffsetDateTime heartbeatAt;
+}
@@ -0,0 +1,19 @@
+package com.challenge.assets.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates the annotated {@link java.util.UUID} identifier with {@link TimeOrderedUuidGenerator} on insert.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,11 @@
+package com.challenge.assets.domain.enums;
+
+/**
+ * Axis of an {@code asset_counters} row; the row's bucket is a value along that axis.
+ */
+public enum AssetCounterDimension {
+    /** Bucket is an {@link AssetStatus} name. */
+    STATUS,
+    /** Bucket is the acquisition month in UTC, formatted {@code yyyy-MM}. */
+    ACQUISITION_MONTH
+}
@@ -0,0 +1,11 @@
+package com.challenge.assets.domain.enums;
+
+/**
+ * How a bulk import treats rows whose serial number already exists in {@code assets}.
+ */
+public enum ImportConflictMode {
+    /** Keep the existing asset and report the row as a conflict. */
+    SKIP,
+    /** Overwrite the existing asset with the imported values. */
+    UPDATE
+}
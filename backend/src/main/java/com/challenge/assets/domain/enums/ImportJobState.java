@@ -0,0 +1,11 @@
+package com.challenge.assets.domain.enums;
+
+/**
+ * Lifecycle state of a bulk CSV import job.
+ */
+public enum ImportJobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
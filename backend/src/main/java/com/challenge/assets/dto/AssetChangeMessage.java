@@ -0,0 +1,18 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.event.AssetChangeType;
+
+import java.util.UUID;
+
+/**
+ * Data of a {@code GET /assets/stream} event; the SSE event name is the lower-case {@code type}.
+ *
+ * @param type    kind of change
+ * @param assetId ID of the changed asset
+ * @param asset   asset after the change; null for DELETED
+ */
+public record AssetChangeMessage(
+        AssetChangeType type,
+        UUID assetId,
+        AssetResponse asset
+) {}
@@ -0,0 +1,18 @@
+package com.challenge.assets.dto;
+
+import java.util.List;
+
+/**
+ * One page of delta sync: assets created or updated and assets deleted after the client's watermark.
+ *
+ * @param upserted  current state of created or updated assets, ordered by updatedAt
+ * @param deleted   tombstones of deleted assets, ordered by deletedAt
+ * @param nextSince watermark to send as {@code since} on the next call
+ * @param hasMore   true when more changes are already available; call again right away with {@code nextSince}
+ */
+public record AssetChangesResponse(
+        List<AssetResponse> upserted,
+        List<AssetTombstoneResponse> deleted,
+        String nextSince,
+        boolean hasMore
+) {}
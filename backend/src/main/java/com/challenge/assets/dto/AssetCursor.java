@@ -0,0 +1,60 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the (createdAt, id) ordering of assets.
+ * Serialized to clients as an opaque URL-safe Base64 token.
+ *
+ * @param createdAt creation timestamp of the last row returned
+ * @param id        ID of the last row returned (tie-breaker for equal timestamps)
+ */
+public record AssetCursor(OffsetDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Builds the cursor pointing right after the given asset.
+     */
+    public static AssetCursor after(Asset asset) {
+        return new AssetCursor(asset.getCreatedAt(), asset.getId());
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     */
+    public String encode() {
+        String raw = createdAt.toInstant().toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static AssetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(ErrorCode.INVALID_CURSOR, token);
+            }
+            Instant createdAt = Instant.parse(raw.substring(0, separator));
+            UUID id = UUID.fromString(raw.substring(separator + 1));
+            return new AssetCursor(createdAt.atOffset(ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException(ErrorCode.INVALID_CURSOR, token);
+        }
+    }
+}
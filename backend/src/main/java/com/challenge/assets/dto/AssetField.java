@@ -0,0 +1,55 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.InvalidFieldsException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fields of {@link AssetResponse} that can be requested with {@code fields=} (sparse fieldsets).
+ * The JSON name is also the entity attribute the projection selects.
+ */
+public enum AssetField {
+    ID("id"),
+    NAME("name"),
+    SERIAL_NUMBER("serialNumber"),
+    ACQUISITION_DATE("acquisitionDate"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    private final String jsonName;
+
+    AssetField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma-separated field list such as {@code id,name,status}. The ID is always included,
+     * and fields keep the declaration order regardless of the order requested.
+     *
+     * @throws InvalidFieldsException if a name is unknown or the list is empty
+     */
+    public static Set<AssetField> parse(String fields) {
+        Set<AssetField> parsed = EnumSet.of(ID);
+        List<String> names = Arrays.stream(fields.split(",")).map(String::trim).filter(name -> !name.isEmpty()).toList();
+        if (names.isEmpty()) {
+            throw new InvalidFieldsException(ErrorCode.INVALID_FIELDS, fields);
+        }
+        for (String name : names) {
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidFieldsException(ErrorCode.INVALID_FIELDS, name)));
+        }
+        return parsed;
+    }
+}
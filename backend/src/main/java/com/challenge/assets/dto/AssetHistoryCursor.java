@@ -0,0 +1,43 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in an asset's history, which is read newest first by entry id.
+ * Serialized to clients as an opaque URL-safe Base64 token, like {@link AssetCursor}.
+ *
+ * @param id id of the last history entry returned; the next page starts below it
+ */
+public record AssetHistoryCursor(long id) {
+
+    /**
+     * Position before the newest entry, used for the first page.
+     */
+    public static final AssetHistoryCursor LATEST = new AssetHistoryCursor(Long.MAX_VALUE);
+
+    /**
+     * Encodes this cursor as an opaque token.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static AssetHistoryCursor decode(String token) {
+        try {
+            return new AssetHistoryCursor(Long.parseLong(
+                    new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(ErrorCode.INVALID_CURSOR, token);
+        }
+    }
+}
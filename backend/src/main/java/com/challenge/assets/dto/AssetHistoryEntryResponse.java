@@ -0,0 +1,20 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.event.AssetChangeType;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One change in the history of an asset.
+ *
+ * @param type      kind of change
+ * @param changedAt time of the change ({@code updatedAt} of the new state; the delete time for DELETED)
+ * @param previous  snapshot before the change (null for CREATED)
+ * @param current   snapshot after the change (null for DELETED)
+ */
+public record AssetHistoryEntryResponse(
+        AssetChangeType type,
+        OffsetDateTime changedAt,
+        AssetResponse previous,
+        AssetResponse current
+) {}
@@ -0,0 +1,14 @@
+package com.challenge.assets.dto;
+
+/**
+ * Response DTO for a CSV row rejected by a bulk import.
+ *
+ * @param lineNumber 1-based line of the record in the uploaded file
+ * @param code       application error code (GEN-002 validation, AST-002 / AST-003 serial conflicts)
+ * @param message    human-readable reason
+ */
+public record AssetImportErrorResponse(
+        long lineNumber,
+        String code,
+        String message
+) {}
@@ -0,0 +1,27 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.domain.enums.ImportConflictMode;
+import com.challenge.assets.domain.enums.ImportJobState;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for a bulk CSV import job and its progress.
+ * {@code rowsRead}/{@code rowsRejected} advance while the job is RUNNING; the merge counters are set on completion.
+ */
+public record AssetImportJobResponse(
+        UUID id,
+        String fileName,
+        ImportConflictMode conflictMode,
+        ImportJobState state,
+        long rowsRead,
+        long rowsRejected,
+        long rowsInserted,
+        long rowsUpdated,
+        long rowsConflicted,
+        String errorMessage,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt
+) {}
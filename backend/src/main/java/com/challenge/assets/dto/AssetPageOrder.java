@@ -0,0 +1,14 @@
+package com.challenge.assets.dto;
+
+/**
+ * Orderings supported by the keyset page of assets ({@code GET /assets?limit=}).
+ */
+public enum AssetPageOrder {
+    /** By creation timestamp, ties broken by ID; served by the (created_at, id) index. */
+    CREATED_AT,
+    /**
+     * By ID alone, served by the primary key index. Time-ordered IDs follow creation order; IDs created before
+     * they were introduced are random and keep their position in this order.
+     */
+    ID
+}
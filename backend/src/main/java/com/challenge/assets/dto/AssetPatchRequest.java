@@ -0,0 +1,31 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Request DTO for a partial update ({@code PATCH /assets/{id}}).
+ * Absent (null) fields keep their current value; present ones follow the same rules as {@link AssetRequest}.
+ */
+public record AssetPatchRequest(
+        @Pattern(regexp = "(?s).*\\S.*", message = "name must not be blank")
+        @Size(max = 255, message = "name must have at most 255 characters") String name,
+        @Pattern(regexp = "(?s).*\\S.*", message = "serialNumber must not be blank")
+        @Size(max = 255, message = "serialNumber must have at most 255 characters") String serialNumber,
+        OffsetDateTime acquisitionDate,
+        AssetStatus status
+) {
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "at least one field must be provided")
+    public boolean isAnyFieldPresent() {
+        return name != null || serialNumber != null || acquisitionDate != null || status != null;
+    }
+}
@@ -3,16 +3,20 @@ package com.challenge.assets.dto;
 import com.challenge.assets.domain.enums.AssetStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.time.OffsetDateTime;
 
 /**
  * Request DTO for creating or updating an asset.
  * Status is optional; defaults to AVAILABLE when null (handled in mapper).
+ * Size limits mirror the column lengths, so oversized values fail validation instead of the insert.
  */
 public record AssetRequest(
-        @NotBlank(message = "name must not be blank") String name,
-        @NotBlank(message = "serialNumber must not be blank") String serialNumber,
+        @NotBlank(message = "name must not be blank")
+        @Size(max = 255, message = "name must have at most 255 characters") String name,
+        @NotBlank(message = "serialNumber must not be blank")
+        @Size(max = 255, message = "serialNumber must have at most 255 characters") String serialNumber,
         @NotNull(message = "acquisitionDate must not be null") OffsetDateTime acquisitionDate,
         AssetStatus status
 ) {}
@@ -7,6 +7,7 @@ import java.util.UUID;
 
 /**
  * Response DTO for asset data (ID and all fields including audit dates).
+ * {@code version} increases on every update and is echoed as the ETag of {@code /assets/{id}}.
  */
 public record AssetResponse(
         UUID id,
@@ -15,5 +16,6 @@ public record AssetResponse(
         OffsetDateTime acquisitionDate,
         AssetStatus status,
         OffsetDateTime createdAt,
-        OffsetDateTime updatedAt
+        OffsetDateTime updatedAt,
+        Long version
 ) {}
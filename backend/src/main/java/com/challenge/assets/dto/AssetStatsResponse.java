@@ -0,0 +1,20 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+
+import java.util.Map;
+
+/**
+ * Response for {@code GET /assets/stats}.
+ *
+ * @param total              number of assets
+ * @param byStatus           assets per status; every status is present, zero included
+ * @param byAcquisitionYear  assets per acquisition year (UTC), ascending, only years with assets
+ * @param byAcquisitionMonth assets per acquisition month ({@code yyyy-MM}, UTC), ascending, only months with assets
+ */
+public record AssetStatsResponse(
+        long total,
+        Map<AssetStatus, Long> byStatus,
+        Map<String, Long> byAcquisitionYear,
+        Map<String, Long> byAcquisitionMonth
+) {}
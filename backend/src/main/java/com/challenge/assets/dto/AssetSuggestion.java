@@ -0,0 +1,16 @@
+package com.challenge.assets.dto;
+
+import java.util.UUID;
+
+/**
+ * Typeahead suggestion for {@code GET /assets/suggest}; also the entry type of the in-memory suggestion index.
+ *
+ * @param id           asset ID
+ * @param serialNumber serial number
+ * @param name         asset name
+ */
+public record AssetSuggestion(
+        UUID id,
+        String serialNumber,
+        String name
+) {}
@@ -0,0 +1,52 @@
+package com.challenge.assets.dto;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Position in the (changedAt, id) ordering of asset changes used by delta sync: {@code updatedAt} for
+ * upserts, {@code deletedAt} for tombstones. Serialized with the same opaque token format as {@link AssetCursor}.
+ *
+ * @param changedAt timestamp of the last change delivered
+ * @param id        ID of the last asset delivered (tie-breaker for equal timestamps)
+ */
+public record AssetSyncWatermark(OffsetDateTime changedAt, UUID id) {
+
+    /**
+     * Watermark before any change, used when the client has none yet.
+     */
+    public static final AssetSyncWatermark ORIGIN =
+            new AssetSyncWatermark(OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), new UUID(0, 0));
+
+    /**
+     * Highest ID in the database ordering; {@code (t, MAX_ID)} means "everything up to and including t".
+     */
+    public static final UUID MAX_ID = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    /**
+     * Same order as the database: timestamps, then IDs as unsigned bytes. {@link UUID#compareTo} compares
+     * signed longs and would disagree with PostgreSQL for IDs with the high bit set.
+     */
+    public static final Comparator<AssetSyncWatermark> ORDER = Comparator
+            .comparing((AssetSyncWatermark watermark) -> watermark.changedAt().toInstant())
+            .thenComparing(watermark -> watermark.id().toString());
+
+    /**
+     * Encodes this watermark as an opaque token.
+     */
+    public String encode() {
+        return new AssetCursor(changedAt, id).encode();
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @throws com.challenge.assets.exception.InvalidCursorException if the token is malformed
+     */
+    public static AssetSyncWatermark decode(String token) {
+        AssetCursor cursor = AssetCursor.decode(token);
+        return new AssetSyncWatermark(cursor.createdAt(), cursor.id());
+    }
+}
@@ -0,0 +1,15 @@
+package com.challenge.assets.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Deletion reported by delta sync.
+ *
+ * @param id        ID of the deleted asset
+ * @param deletedAt time of the delete
+ */
+public record AssetTombstoneResponse(
+        UUID id,
+        OffsetDateTime deletedAt
+) {}
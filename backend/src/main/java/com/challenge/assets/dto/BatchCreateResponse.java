@@ -0,0 +1,18 @@
+package com.challenge.assets.dto;
+
+import java.util.List;
+
+/**
+ * Response for {@code POST /assets/batch}: per-item results plus totals.
+ *
+ * @param created   number of assets created
+ * @param conflicts number of items rejected for duplicate serial numbers
+ * @param invalid   number of items rejected by validation
+ * @param results   one result per request item, in request order
+ */
+public record BatchCreateResponse(
+        int created,
+        int conflicts,
+        int invalid,
+        List<BatchItemResult> results
+) {}
@@ -0,0 +1,38 @@
+package com.challenge.assets.dto;
+
+import com.challenge.assets.dto.error.ApiErrorResponse;
+
+import java.util.List;
+
+/**
+ * Result for one item of a batch write, in the same position as the request item.
+ *
+ * @param index   zero-based position of the item in the request
+ * @param status  outcome of the item
+ * @param asset   the created asset (only when {@code status} is CREATED)
+ * @param code    application error code (only for CONFLICT / INVALID)
+ * @param message human-readable error message (only for CONFLICT / INVALID)
+ * @param details field validation errors (only for INVALID)
+ */
+public record BatchItemResult(
+        int index,
+        BatchItemStatus status,
+        AssetResponse asset,
+        String code,
+        String message,
+        List<ApiErrorResponse.ValidationError> details
+) {
+
+    public static BatchItemResult created(int index, AssetResponse asset) {
+        return new BatchItemResult(index, BatchItemStatus.CREATED, asset, null, null, List.of());
+    }
+
+    public static BatchItemResult conflict(int index, String code, String message) {
+        return new BatchItemResult(index, BatchItemStatus.CONFLICT, null, code, message, List.of());
+    }
+
+    public static BatchItemResult invalid(int index, String code, String message,
+                                          List<ApiErrorResponse.ValidationError> details) {
+        return new BatchItemResult(index, BatchItemStatus.INVALID, null, code, message, details);
+    }
+}
@@ -0,0 +1,15 @@
+package com.challenge.assets.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param items      the page items, in stable sort order
+ * @param nextCursor opaque cursor for the next page; null when this is the last page
+ * @param <T>        item type
+ */
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor
+) {}
@@ -0,0 +1,29 @@
+package com.challenge.assets.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats supported by the streaming asset export.
+ */
+public enum ExportFormat {
+    /** One JSON object per line ({@code application/x-ndjson}). */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    /** Comma-separated values with a header row ({@code text/csv}). */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    ExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,10 @@
+package com.challenge.assets.event;
+
+/**
+ * Kind of change applied to an asset.
+ */
+public enum AssetChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,34 @@
+package com.challenge.assets.event;
+
+import com.challenge.assets.dto.AssetResponse;
+
+import java.util.UUID;
+
+/**
+ * Published by the service layer inside the write transaction, once per changed asset.
+ * Listeners that must only react to committed data use {@code @TransactionalEventListener(AFTER_COMMIT)}.
+ *
+ * @param type     kind of change
+ * @param assetId  ID of the changed asset
+ * @param previous snapshot before the change (null for CREATED)
+ * @param current  snapshot after the change (null for DELETED)
+ */
+public record AssetChangedEvent(
+        AssetChangeType type,
+        UUID assetId,
+        AssetResponse previous,
+        AssetResponse current
+) {
+
+    public static AssetChangedEvent created(AssetResponse current) {
+        return new AssetChangedEvent(AssetChangeType.CREATED, current.id(), null, current);
+    }
+
+    public static AssetChangedEvent updated(AssetResponse previous, AssetResponse current) {
+        return new AssetChangedEvent(AssetChangeType.UPDATED, current.id(), previous, current);
+    }
+
+    public static AssetChangedEvent deleted(AssetResponse previous) {
+        return new AssetChangedEvent(AssetChangeType.DELETED, previous.id(), previous, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.challenge.assets.event;
+
+import java.util.UUID;
+
+/**
+ * Published after a bulk CSV import has committed. Bulk imports do not emit per-asset
+ * {@link AssetChangedEvent}s, so listeners that keep derived state must refresh from the database.
+ *
+ * @param jobId    import job ID
+ * @param inserted number of assets created
+ * @param updated  number of existing assets overwritten
+ */
+public record AssetsBulkImportedEvent(
+        UUID jobId,
+        long inserted,
+        long updated
+) {}
@@ -0,0 +1,4 @@
+/**
+ * Application events published by the service layer (asset changes, bulk imports).
+ */
+package com.challenge.assets.event;
@@ -0,0 +1,29 @@
+package com.challenge.assets.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a conditional write ({@code If-Match}) targets an asset version that is no longer current.
+ */
+public class AssetVersionMismatchException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public AssetVersionMismatchException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public AssetVersionMismatchException(ErrorCode errorCode, UUID id) {
+        super(errorCode.getMessage() + ": " + id);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+}
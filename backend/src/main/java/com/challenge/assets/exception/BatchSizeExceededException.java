@@ -0,0 +1,27 @@
+package com.challenge.assets.exception;
+
+/**
+ * Thrown when a batch request carries more items than the configured maximum.
+ */
+public class BatchSizeExceededException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public BatchSizeExceededException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public BatchSizeExceededException(ErrorCode errorCode, int size, int maxSize) {
+        super(errorCode.getMessage() + ": " + size + " > " + maxSize);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+}
@@ -12,9 +12,21 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     INTERNAL_ERROR("GEN-001", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR),
     VALIDATION_ERROR("GEN-002", "Validation failed", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("GEN-003", "Invalid pagination cursor", HttpStatus.BAD_REQUEST),
+    INVALID_FIELDS("GEN-004", "Unknown field in fields parameter", HttpStatus.BAD_REQUEST),
+    SERVICE_OVERLOADED("GEN-005", "Server is overloaded, retry later", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_IDEMPOTENCY_KEY("GEN-006", "Idempotency-Key must have 1 to 255 characters", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_KEY_REUSED("GEN-007", "Idempotency-Key was already used with a different request", HttpStatus.UNPROCESSABLE_ENTITY),
+    IDEMPOTENCY_KEY_IN_PROGRESS("GEN-008", "A request with this Idempotency-Key is still being processed, retry later", HttpStatus.CONFLICT),
     ASSET_NOT_FOUND("AST-001", "Asset not found", HttpStatus.NOT_FOUND),
     ASSET_SERIAL_DUPLICATE("AST-002", "Serial number already exists", HttpStatus.CONFLICT),
-    DELETE_ASSET_NOT_FOUND("DEL-001", "Asset not found for deletion", HttpStatus.NOT_FOUND);
+    ASSET_SERIAL_DUPLICATE_IN_BATCH("AST-003", "Serial number repeated within the batch", HttpStatus.CONFLICT),
+    BATCH_SIZE_EXCEEDED("AST-004", "Batch exceeds the maximum number of items", HttpStatus.BAD_REQUEST),
+    ASSET_VERSION_MISMATCH("AST-005", "Asset was modified by another request", HttpStatus.PRECONDITION_FAILED),
+    DELETE_ASSET_NOT_FOUND("DEL-001", "Asset not found for deletion", HttpStatus.NOT_FOUND),
+    IMPORT_NOT_FOUND("IMP-001", "Import job not found", HttpStatus.NOT_FOUND),
+    IMPORT_QUEUE_FULL("IMP-002", "Too many imports in progress, retry later", HttpStatus.SERVICE_UNAVAILABLE),
+    SYNC_WATERMARK_EXPIRED("SYN-001", "Sync watermark is older than the tombstone retention, full resync required", HttpStatus.GONE);
 
     private final String code;
     private final String message;
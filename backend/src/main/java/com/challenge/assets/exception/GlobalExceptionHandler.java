@@ -2,6 +2,7 @@ package com.challenge.assets.exception;
 
 import com.challenge.assets.dto.error.ApiErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -42,6 +43,116 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
     }
 
+    @ExceptionHandler(AssetVersionMismatchException.class)
+    public ResponseEntity<ApiErrorResponse> handleAssetVersionMismatch(AssetVersionMismatchException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
+    }
+
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handleImportJobNotFound(ImportJobNotFoundException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
+    }
+
+    @ExceptionHandler(ImportQueueFullException.class)
+    public ResponseEntity<ApiErrorResponse> handleImportQueueFull(ImportQueueFullException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(body);
+    }
+
+    @ExceptionHandler(IdempotencyKeyException.class)
+    public ResponseEntity<ApiErrorResponse> handleIdempotencyKey(IdempotencyKeyException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
+    }
+
+    @ExceptionHandler(BatchSizeExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleBatchSizeExceeded(BatchSizeExceededException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                errorCode.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
+    }
+
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidFields(InvalidFieldsException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
+    }
+
+    @ExceptionHandler(SyncWatermarkExpiredException.class)
+    public ResponseEntity<ApiErrorResponse> handleSyncWatermarkExpired(SyncWatermarkExpiredException ex) {
+        ErrorCode errorCode = ex.getErrorCodeEnum();
+        ApiErrorResponse body = buildResponse(
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
         List<ApiErrorResponse.ValidationError> details = ex.getBindingResult().getFieldErrors().stream()
@@ -0,0 +1,23 @@
+package com.challenge.assets.exception;
+
+/**
+ * Thrown when an {@code Idempotency-Key} cannot be honoured: malformed, reused with a different request, or still
+ * held by a request that is running.
+ */
+public class IdempotencyKeyException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public IdempotencyKeyException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+}
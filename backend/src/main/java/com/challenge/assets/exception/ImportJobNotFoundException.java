@@ -0,0 +1,29 @@
+package com.challenge.assets.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a bulk import job is not found by ID.
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public ImportJobNotFoundException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public ImportJobNotFoundException(ErrorCode errorCode, UUID id) {
+        super(errorCode.getMessage() + ": " + id);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+}
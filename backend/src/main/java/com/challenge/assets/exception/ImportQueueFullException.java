@@ -0,0 +1,22 @@
+package com.challenge.assets.exception;
+
+/**
+ * Thrown when a bulk import cannot be queued because all import slots and queue positions are taken.
+ */
+public class ImportQueueFullException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public ImportQueueFullException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+}
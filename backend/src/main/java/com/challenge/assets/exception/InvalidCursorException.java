@@ -0,0 +1,27 @@
+package com.challenge.assets.exception;
+
+/**
+ * Thrown when a pagination cursor cannot be decoded (tampered, truncated or from another endpoint).
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public InvalidCursorException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public InvalidCursorException(ErrorCode errorCode, String cursor) {
+        super(errorCode.getMessage() + ": " + cursor);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+}
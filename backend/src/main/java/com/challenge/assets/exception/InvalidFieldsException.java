@@ -0,0 +1,27 @@
+package com.challenge.assets.exception;
+
+/**
+ * Thrown when a sparse fieldset ({@code fields=}) names a field the resource does not have.
+ */
+public class InvalidFieldsException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public InvalidFieldsException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public InvalidFieldsException(ErrorCode errorCode, String fields) {
+        super(errorCode.getMessage() + ": " + fields);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,33 @@
+package com.challenge.assets.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when admission control rejects a request because the concurrency limit for its kind is reached.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+
+    /**
+     * Suggested wait before retrying, sent as {@code Retry-After}.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
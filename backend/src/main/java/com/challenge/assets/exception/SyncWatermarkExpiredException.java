@@ -0,0 +1,30 @@
+package com.challenge.assets.exception;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Thrown when a delta sync watermark predates the tombstone retention: deletions since then may have been
+ * purged, so the client must reload the full list instead.
+ */
+public class SyncWatermarkExpiredException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public SyncWatermarkExpiredException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public SyncWatermarkExpiredException(ErrorCode errorCode, OffsetDateTime watermark) {
+        super(errorCode.getMessage() + ": " + watermark);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCodeEnum() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,65 @@
+package com.challenge.assets.history;
+
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.history.AssetHistoryWriter.Change;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every {@link AssetChangedEvent} in the change history. The changes of a transaction are collected and
+ * handed to {@link AssetHistoryWriter} once it has committed, so a rolled-back write never shows up in the
+ * history and the write path never waits for the history table.
+ * <p>
+ * Bulk imports publish no per-asset events; their entries are written by the import itself
+ * ({@link com.challenge.assets.repository.AssetImportStagingRepository#recordHistory}).
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetHistoryListener {
+
+    private final AssetHistoryWriter writer;
+
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        Change change = new Change(event,
+                event.current() != null ? event.current().updatedAt() : OffsetDateTime.now());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writer.enqueue(List.of(change));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (pending == null) {
+            pending = new PendingChanges(writer);
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(change);
+    }
+
+    private static final class PendingChanges implements TransactionSynchronization {
+
+        private final AssetHistoryWriter writer;
+        private final List<Change> changes = new ArrayList<>();
+
+        private PendingChanges(AssetHistoryWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void afterCommit() {
+            writer.enqueue(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.challenge.assets.history;
+
+import com.challenge.assets.config.AssetHistoryProperties;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.repository.AssetHistoryRepository;
+import com.challenge.assets.repository.AssetHistoryRepository.NewEntry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes committed asset changes to {@code asset_history} off the request path. Changes wait in a bounded buffer
+ * and a single background thread writes whatever has accumulated, up to {@code batchSize} rows per JDBC batch,
+ * so the number of statements drops as the write rate rises. Snapshots are serialized on that thread too.
+ * <p>
+ * Backpressure: when the buffer is full (the database is slow or down and batches are being retried), committing
+ * requests block for up to {@code enqueueTimeout}; changes that still do not fit are dropped and counted.
+ * <p>
+ * On shutdown the writer stops after the web server has let in-flight requests finish, refuses new changes from
+ * the buffer (they are written directly by the caller instead) and writes what is buffered within
+ * {@code shutdownTimeout}. Whatever is left after that is counted as dropped and logged.
+ */
+@Slf4j
+@Component
+public class AssetHistoryWriter implements SmartLifecycle, MeterBinder {
+
+    /**
+     * Below the web server's start/stop phase ({@code DEFAULT_PHASE - 2048}): started before requests are served,
+     * stopped after they have drained.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    /**
+     * A committed change waiting to be written.
+     *
+     * @param event     the change, with its snapshots
+     * @param changedAt time of the change
+     */
+    record Change(AssetChangedEvent event, OffsetDateTime changedAt) {}
+
+    private final AssetHistoryRepository repository;
+    private final ObjectMapper objectMapper;
+    private final AssetHistoryProperties properties;
+    private final BlockingQueue<Change> buffer;
+    /** Read-held while offering to the buffer, write-held to flip {@link #running}: nothing is offered after stop. */
+    private final ReadWriteLock state = new ReentrantReadWriteLock();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AssetHistoryWriter(AssetHistoryRepository repository, ObjectMapper objectMapper,
+                              AssetHistoryProperties properties) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.bufferCapacity());
+    }
+
+    /**
+     * Queues committed changes for writing. Blocks while the buffer is full, up to {@code enqueueTimeout} in total.
+     * While the writer is not running, writes the changes directly instead.
+     */
+    void enqueue(List<Change> changes) {
+        state.readLock().lock();
+        try {
+            if (running) {
+                offer(changes);
+                return;
+            }
+        } finally {
+            state.readLock().unlock();
+        }
+        writeDirectly(changes);
+    }
+
+    /**
+     * Offers the changes against one deadline for the whole list, so a committing request waits at most
+     * {@code enqueueTimeout} however many assets it changed; once it passes, the remaining changes are dropped.
+     */
+    private void offer(List<Change> changes) {
+        long deadline = System.nanoTime() + properties.enqueueTimeout().toNanos();
+        for (int i = 0; i < changes.size(); i++) {
+            try {
+                if (!buffer.offer(changes.get(i), deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    dropped.add(changes.size() - i);
+                    log.error("History buffer full for {}, dropping {} changes", properties.enqueueTimeout(),
+                            changes.size() - i);
+                    return;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                dropped.add(changes.size() - i);
+                log.error("Interrupted while buffering history, dropping {} changes", changes.size() - i);
+                return;
+            }
+        }
+    }
+
+    private void writeDirectly(List<Change> changes) {
+        List<NewEntry> entries = toEntries(changes);
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            repository.insert(entries);
+            written.add(entries.size());
+        } catch (RuntimeException ex) {
+            dropped.add(entries.size());
+            log.error("Writing {} history entries failed, dropping them", entries.size(), ex);
+        }
+    }
+
+    private void drain() {
+        List<Change> batch = new ArrayList<>(properties.batchSize());
+        long pollNanos = properties.flushInterval().toNanos();
+        try {
+            while (true) {
+                Change first = buffer.poll(pollNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    // No offers are made once running is false, so an empty buffer then stays empty
+                    if (!running && buffer.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, properties.batchSize() - 1);
+                write(toEntries(batch));
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            dropped.add(batch.size());
+        }
+    }
+
+    /**
+     * Writes one batch, retrying until it succeeds. Meanwhile the buffer fills up and pushes back on writers.
+     */
+    private void write(List<NewEntry> entries) throws InterruptedException {
+        while (!entries.isEmpty()) {
+            try {
+                repository.insert(entries);
+                written.add(entries.size());
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("Writing {} history entries failed, retrying in {}: {}",
+                        entries.size(), properties.retryBackoff(), ex.getMessage());
+                Thread.sleep(properties.retryBackoff().toMillis());
+            }
+        }
+    }
+
+    private List<NewEntry> toEntries(List<Change> changes) {
+        List<NewEntry> entries = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            AssetChangedEvent event = change.event();
+            try {
+                entries.add(new NewEntry(event.assetId(), event.type().name(), change.changedAt(),
+                        serialize(event.previous()), serialize(event.current())));
+            } catch (UncheckedIOException ex) {
+                dropped.increment();
+                log.error("Cannot serialize {} of asset {}, dropping it", event.type(), event.assetId(), ex);
+            }
+        }
+        return entries;
+    }
+
+    private String serialize(AssetResponse snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void start() {
+        state.writeLock().lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            worker = new Thread(this::drain, "asset-history-writer");
+            worker.setDaemon(true);
+            worker.start();
+        } finally {
+            state.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        state.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            state.writeLock().unlock();
+        }
+        try {
+            worker.join(Math.max(1, properties.shutdownTimeout().toMillis()));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            worker.interrupt();
+        }
+        int left = buffer.size();
+        buffer.clear();
+        if (left > 0) {
+            dropped.add(left);
+            log.error("History writer did not finish within {}, {} buffered changes were not written",
+                    properties.shutdownTimeout(), left);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("assets.history.buffer.size", buffer, BlockingQueue::size)
+                .description("Committed changes waiting to be written to the history")
+                .register(registry);
+        FunctionCounter.builder("assets.history.entries", written, LongAdder::sum)
+                .description("Change history entries by outcome")
+                .tag("outcome", "written")
+                .register(registry);
+        FunctionCounter.builder("assets.history.entries", dropped, LongAdder::sum)
+                .description("Change history entries by outcome")
+                .tag("outcome", "dropped")
+                .register(registry);
+    }
+}
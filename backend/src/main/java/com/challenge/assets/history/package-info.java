@@ -0,0 +1,5 @@
+/**
+ * Asset change history: committed changes are buffered in memory and written to {@code asset_history} in
+ * batches by a background writer.
+ */
+package com.challenge.assets.history;
@@ -0,0 +1,29 @@
+package com.challenge.assets.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes {@code idempotency_keys} rows older than {@code assets.idempotency.ttl}. Expired rows are already
+ * ignored by lookups and taken over by new claims; this only keeps the table small.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyPurgeJob {
+
+    private final IdempotentRequestHandler handler;
+
+    @Scheduled(initialDelayString = "${assets.idempotency.purge-interval:PT1H}",
+            fixedDelayString = "${assets.idempotency.purge-interval:PT1H}")
+    public void purge() {
+        try {
+            int deleted = handler.purgeExpired();
+            log.debug("Purged {} expired idempotency keys", deleted);
+        } catch (RuntimeException ex) {
+            log.error("Idempotency key purge failed", ex);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.challenge.assets.idempotency;
+
+import com.challenge.assets.config.IdempotencyProperties;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.IdempotencyKeyException;
+import com.challenge.assets.repository.IdempotencyKeyRepository;
+import com.challenge.assets.repository.IdempotencyKeyRepository.StoredResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@code Idempotency-Key} support for write endpoints. The first request with a key runs and its response is
+ * stored; retries with the same key and the same request get that response back, marked
+ * {@code Idempotent-Replayed: true}, instead of writing again. A key reused for a different request is rejected
+ * with 422.
+ * <p>
+ * Stored responses live in {@code idempotency_keys} until {@code ttl}, with the most recent ones also kept in
+ * memory (bounded, W-TinyLFU), so a retry on the same instance costs a map lookup and one on another instance a
+ * single select. Only completed responses are stored: a request that fails with an exception leaves the key free
+ * and its retry runs again.
+ * <p>
+ * Duplicates that arrive while the first request is still running wait for it instead of running too: on the same
+ * instance on an in-memory future (without holding a connection), across instances on the key row, which is claimed
+ * in the write transaction before the write itself. A duplicate that waits longer than {@code inFlightTimeout}
+ * gets 409.
+ */
+@Component
+public class IdempotentRequestHandler implements MeterBinder {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String REPLAYED = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+    static final String METRICS_NAME = "idempotency";
+
+    private static final TypeReference<Map<String, List<String>>> HEADERS = new TypeReference<>() {};
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final TransactionTemplate writeTransaction;
+    private final Cache<String, StoredResponse> responses;
+    /** Requests running on this instance, by key; completed with their stored response, or null if they failed. */
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    public IdempotentRequestHandler(IdempotencyKeyRepository repository, ObjectMapper objectMapper,
+                                    IdempotencyProperties properties, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.memoryMaximumSize())
+                .expireAfter(new UntilExpiresAt())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Runs {@code action} once per key, or replays the response stored for the key.
+     *
+     * @param key       value of the {@code Idempotency-Key} header; without one the action simply runs
+     * @param operation name of the endpoint (e.g. {@code POST /assets}), part of the request fingerprint
+     * @param request   request body, part of the request fingerprint
+     * @param bodyType  type of the response body, to read a stored response back
+     * @param action    the write; it runs in a transaction that also claims and completes the key
+     * @return the response of the action, or the stored one
+     * @throws IdempotencyKeyException if the key is malformed, was used for a different request, or is still held
+     *                                 by a running request after {@code inFlightTimeout}
+     */
+    public <T> ResponseEntity<T> execute(String key, String operation, Object request, Class<T> bodyType,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyKeyException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        String requestHash = fingerprint(operation, request);
+        long deadline = System.nanoTime() + properties.inFlightTimeout().toNanos();
+        while (true) {
+            StoredResponse stored = responses.getIfPresent(key);
+            if (stored != null) {
+                return replay(stored, requestHash, bodyType);
+            }
+            CompletableFuture<StoredResponse> own = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, own);
+            if (running == null) {
+                return executeOwned(key, requestHash, bodyType, action, own);
+            }
+            stored = await(running, deadline);
+            if (stored != null) {
+                return replay(stored, requestHash, bodyType);
+            }
+            // The request we waited for failed and stored nothing: run this one instead
+        }
+    }
+
+    private <T> ResponseEntity<T> executeOwned(String key, String requestHash, Class<T> bodyType,
+                                               Supplier<ResponseEntity<T>> action,
+                                               CompletableFuture<StoredResponse> own) {
+        StoredResponse stored = null;
+        try {
+            stored = repository.find(key, OffsetDateTime.now()).orElse(null);
+            if (stored != null) {
+                responses.put(key, stored);
+                return replay(stored, requestHash, bodyType);
+            }
+            Execution<T> execution = writeTransaction.execute(status -> claimAndRun(key, requestHash, action));
+            stored = execution.stored();
+            responses.put(key, stored);
+            if (execution.response() == null) {
+                return replay(stored, requestHash, bodyType);
+            }
+            executed.increment();
+            return execution.response();
+        } finally {
+            inFlight.remove(key, own);
+            own.complete(stored);
+        }
+    }
+
+    private <T> Execution<T> claimAndRun(String key, String requestHash, Supplier<ResponseEntity<T>> action) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime expiresAt = now.plus(properties.ttl());
+        if (!repository.claim(key, requestHash, now, expiresAt)) {
+            // Another instance held the key; the claim waited for its transaction, whose response is now committed
+            StoredResponse stored = repository.find(key, now)
+                    .orElseThrow(() -> new IdempotencyKeyException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS));
+            return new Execution<>(null, stored);
+        }
+        ResponseEntity<T> response = action.get();
+        StoredResponse stored = new StoredResponse(requestHash, response.getStatusCode().value(),
+                write(response.getHeaders()), response.getBody() == null ? null : write(response.getBody()), expiresAt);
+        repository.complete(key, stored);
+        return new Execution<>(response, stored);
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running, long deadline) {
+        try {
+            return running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotencyKeyException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (ExecutionException ex) {
+            // Futures are only ever completed normally
+            return null;
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(StoredResponse stored, String requestHash, Class<T> bodyType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(read(stored.headers(), HEADERS));
+        headers.set(REPLAYED, "true");
+        replayed.increment();
+        return ResponseEntity.status(stored.status())
+                .headers(headers)
+                .body(stored.body() == null ? null : read(stored.body(), bodyType));
+    }
+
+    /**
+     * Deletes expired keys from the database; the memory tier expires its entries on its own.
+     *
+     * @return number of keys deleted
+     */
+    public int purgeExpired() {
+        return repository.deleteExpired(OffsetDateTime.now());
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private <T> T read(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responses, METRICS_NAME);
+        FunctionCounter.builder("assets.idempotency.requests", executed, LongAdder::sum)
+                .description("Requests with an Idempotency-Key by outcome")
+                .tag("outcome", "executed")
+                .register(registry);
+        FunctionCounter.builder("assets.idempotency.requests", replayed, LongAdder::sum)
+                .description("Requests with an Idempotency-Key by outcome")
+                .tag("outcome", "replayed")
+                .register(registry);
+    }
+
+    /**
+     * Outcome of the write transaction.
+     *
+     * @param response response of the action; null when another instance had already run it
+     * @param stored   the stored response for the key
+     */
+    private record Execution<T>(ResponseEntity<T> response, StoredResponse stored) {}
+
+    /**
+     * Keeps a response in memory until the key expires in the database too.
+     */
+    private static final class UntilExpiresAt implements Expiry<String, StoredResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, StoredResponse response, long currentTime) {
+            return Math.max(0, Duration.between(OffsetDateTime.now(), response.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoredResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoredResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
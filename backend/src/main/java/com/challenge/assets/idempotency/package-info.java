@@ -0,0 +1,5 @@
+/**
+ * {@code Idempotency-Key} support for write endpoints: the first response per key is stored in memory and in the
+ * database, and replayed to retries instead of writing again.
+ */
+package com.challenge.assets.idempotency;
@@ -0,0 +1,29 @@
+package com.challenge.assets.imports;
+
+import com.challenge.assets.service.AssetImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks import jobs whose lease expired as FAILED. The first run happens at startup, so jobs interrupted by a
+ * crash of this or another instance are failed once their lease runs out instead of staying RUNNING forever.
+ * Runs on every instance; jobs of live instances keep a fresh heartbeat and are left alone.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetImportLeaseJob {
+
+    private final AssetImportService importService;
+
+    @Scheduled(fixedDelayString = "${assets.import.lease-check-interval:PT1M}")
+    public void failAbandonedJobs() {
+        try {
+            importService.failAbandonedJobs();
+        } catch (RuntimeException ex) {
+            log.error("Import lease check failed", ex);
+        }
+    }
+}
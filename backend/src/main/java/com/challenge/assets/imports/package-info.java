@@ -0,0 +1,4 @@
+/**
+ * Maintenance of bulk import jobs: failing jobs left RUNNING by an instance that stopped.
+ */
+package com.challenge.assets.imports;
@@ -0,0 +1,18 @@
+package com.challenge.assets.mapper;
+
+import com.challenge.assets.domain.AssetImportError;
+import com.challenge.assets.domain.AssetImportJob;
+import com.challenge.assets.dto.AssetImportErrorResponse;
+import com.challenge.assets.dto.AssetImportJobResponse;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper for bulk import jobs and their errors.
+ */
+@Mapper(componentModel = "spring")
+public interface AssetImportMapper {
+
+    AssetImportJobResponse toResponse(AssetImportJob job);
+
+    AssetImportErrorResponse toResponse(AssetImportError error);
+}
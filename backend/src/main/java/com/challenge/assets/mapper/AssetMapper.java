@@ -2,6 +2,7 @@ package com.challenge.assets.mapper;
 
 import com.challenge.assets.domain.Asset;
 import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetPatchRequest;
 import com.challenge.assets.dto.AssetRequest;
 import com.challenge.assets.dto.AssetResponse;
 import org.mapstruct.Mapper;
@@ -23,9 +24,24 @@ public interface AssetMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "archived", ignore = true)
     @Mapping(target = "status", source = "status", qualifiedByName = "defaultStatus")
     Asset toEntity(AssetRequest request);
 
+    /**
+     * Maps a partial update to an entity holding only the fields to change; absent fields stay null.
+     *
+     * @param request the patch DTO
+     * @return the changes (not a persistable entity)
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "archived", ignore = true)
+    Asset toChanges(AssetPatchRequest request);
+
     /**
      * Maps an entity to a response DTO.
      *
@@ -0,0 +1,110 @@
+package com.challenge.assets.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each request executes and reports the total in the {@value #HEADER} response header.
+ * The header is written just before the response is committed, so statements issued while a body is already
+ * streaming (exports) or on an async dispatch are not included. A request that repeats the same statement
+ * at least {@code nPlusOneThreshold} times is logged as a likely N+1.
+ */
+@Slf4j
+public class SqlQueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final int nPlusOneThreshold;
+
+    public SqlQueryCountFilter(int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            CountingResponse countingResponse = new CountingResponse(response, scope);
+            try {
+                chain.doFilter(request, countingResponse);
+            } finally {
+                countingResponse.writeHeader();
+                warnOnRepeatedStatement(request, scope);
+            }
+        }
+    }
+
+    private void warnOnRepeatedStatement(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        scope.mostRepeated()
+                .filter(entry -> entry.getValue() >= nPlusOneThreshold)
+                .map(Map.Entry::getKey)
+                .ifPresent(sql -> log.warn("Possible N+1 on {} {}: {} of {} statements were [{}]",
+                        request.getMethod(), request.getRequestURI(),
+                        scope.executions().get(sql), scope.count(), sql));
+    }
+
+    /**
+     * Sets the count header as late as possible: on first access to the body, or when the filter chain returns.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementCounter.Scope scope;
+
+        CountingResponse(HttpServletResponse response, SqlStatementCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        void writeHeader() {
+            if (!isCommitted()) {
+                setHeader(HEADER, String.valueOf(scope.count()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
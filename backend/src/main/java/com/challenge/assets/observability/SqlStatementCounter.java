@@ -0,0 +1,88 @@
+package com.challenge.assets.observability;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Thread-bound count of JDBC statement executions. A {@link Scope} opened on a thread sees every statement
+ * that thread executes until it is closed; scopes nest, and an inner statement is counted by every enclosing scope.
+ * A JDBC batch counts as one execution, since it is one round trip.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Starts counting on the current thread. Close the returned scope on the same thread.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Records one execution of {@code sql} in every open scope of the current thread; a no-op when none is open.
+     */
+    public static void record(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.add(sql);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> executions = new LinkedHashMap<>();
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        /**
+         * Statements executed since this scope was opened.
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Executions per distinct SQL string, in first-seen order.
+         */
+        public Map<String, Integer> executions() {
+            return Map.copyOf(executions);
+        }
+
+        /**
+         * The SQL executed most often in this scope, with its execution count: the usual N+1 signature
+         * is the same single-row SELECT repeated once per parent row.
+         */
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return executions.entrySet().stream()
+                    .max(Comparator.comparingInt(Map.Entry::getValue))
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        private void add(String sql) {
+            count++;
+            executions.merge(sql, 1, Integer::sum);
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
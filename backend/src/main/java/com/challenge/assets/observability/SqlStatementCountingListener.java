@@ -0,0 +1,23 @@
+package com.challenge.assets.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy listener that feeds every statement execution, Hibernate and JdbcTemplate alike,
+ * into {@link SqlStatementCounter}.
+ */
+public class SqlStatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementCounter.record(queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery());
+    }
+}
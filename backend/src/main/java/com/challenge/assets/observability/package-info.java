@@ -0,0 +1,4 @@
+/**
+ * Runtime diagnostics: per-request SQL statement counting and N+1 detection.
+ */
+package com.challenge.assets.observability;
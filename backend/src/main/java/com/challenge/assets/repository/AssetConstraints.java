@@ -0,0 +1,41 @@
+package com.challenge.assets.repository;
+
+import java.util.Locale;
+
+/**
+ * Names of the database constraints on {@code assets} that the service layer maps to API errors.
+ * Must match the constraint names created by the Flyway migrations.
+ */
+public final class AssetConstraints {
+
+    /**
+     * Unique constraint on {@code assets.serial_number}. On PostgreSQL it is (serial_number, archived), and
+     * violations name the partition's index ({@code uk_assets_serial_number_hot}) or the primary key of the
+     * cross-partition serial number registry ({@code uk_assets_serial_number_global}), which start with this name.
+     */
+    public static final String SERIAL_NUMBER_UNIQUE = "uk_assets_serial_number";
+
+    private AssetConstraints() {
+    }
+
+    /**
+     * Tells whether a failed write was rejected by the serial number unique constraint.
+     * Walks the cause chain because the constraint name is only reported by the driver's exception message
+     * (PostgreSQL quotes it as is; H2 reports it upper-cased).
+     *
+     * @param failure exception thrown by the write (typically a {@code DataIntegrityViolationException})
+     * @return true if any cause names {@link #SERIAL_NUMBER_UNIQUE}
+     */
+    public static boolean isSerialNumberViolation(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(SERIAL_NUMBER_UNIQUE)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,152 @@
+package com.challenge.assets.repository;
+
+import com.challenge.assets.domain.enums.AssetCounterDimension;
+import com.challenge.assets.domain.enums.AssetStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Reads and adjusts the {@code asset_counters} aggregates behind {@code GET /assets/stats}.
+ * Adjustments are relative ({@code asset_count + delta}), so concurrent writers and the reconciliation job
+ * commute instead of overwriting each other. They use {@code INSERT ... ON CONFLICT} on PostgreSQL and
+ * {@code MERGE} on H2.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetCounterRepository {
+
+    private static final String SELECT_COUNTERS =
+            "SELECT dimension, bucket, asset_count FROM asset_counters WHERE asset_count <> 0";
+
+    // Rows are listed in key order so that concurrent transactions lock counter rows in the same order.
+    private static final String INCREMENT = """
+            INSERT INTO asset_counters (dimension, bucket, asset_count) VALUES %s
+            ON CONFLICT (dimension, bucket) DO UPDATE SET asset_count = asset_counters.asset_count + EXCLUDED.asset_count
+            """;
+
+    // H2 (the lightweight "test" profile) has no ON CONFLICT. PostgreSQL keeps it: there, two transactions
+    // creating the same new bucket through MERGE would fail one of them with a unique violation.
+    private static final String INCREMENT_MERGE = """
+            MERGE INTO asset_counters c
+            USING (VALUES %s) AS d (dimension, bucket, delta)
+            ON c.dimension = d.dimension AND c.bucket = d.bucket
+            WHEN MATCHED THEN UPDATE SET asset_count = c.asset_count + d.delta
+            WHEN NOT MATCHED THEN INSERT (dimension, bucket, asset_count) VALUES (d.dimension, d.bucket, d.delta)
+            """;
+
+    private static final String MERGE_ROW = "(CAST(? AS VARCHAR(32)), CAST(? AS VARCHAR(32)), CAST(? AS BIGINT))";
+
+    // Full scan, used only by reconciliation; months are taken in UTC to match CounterKey.acquisitionMonth.
+    private static final String AGGREGATE_ASSETS = """
+            SELECT status, acquisition_year, acquisition_month, COUNT(*) AS asset_count
+            FROM (
+                SELECT status,
+                       EXTRACT(YEAR FROM acquisition_date AT TIME ZONE 'UTC') AS acquisition_year,
+                       EXTRACT(MONTH FROM acquisition_date AT TIME ZONE 'UTC') AS acquisition_month
+                FROM assets
+            ) a
+            GROUP BY status, acquisition_year, acquisition_month
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Whether the database supports {@code ON CONFLICT}; looked up on the first increment. */
+    private volatile Boolean onConflictSupported;
+
+    /**
+     * Identifies one counter row.
+     *
+     * @param dimension axis of the counter
+     * @param bucket    value along the axis
+     */
+    public record CounterKey(AssetCounterDimension dimension, String bucket) {
+
+        public static final Comparator<CounterKey> ORDER =
+                Comparator.comparing(CounterKey::dimension).thenComparing(CounterKey::bucket);
+
+        public static CounterKey status(AssetStatus status) {
+            return new CounterKey(AssetCounterDimension.STATUS, status.name());
+        }
+
+        public static CounterKey acquisitionMonth(OffsetDateTime acquisitionDate) {
+            return acquisitionMonth(YearMonth.from(acquisitionDate.withOffsetSameInstant(ZoneOffset.UTC)));
+        }
+
+        static CounterKey acquisitionMonth(YearMonth month) {
+            return new CounterKey(AssetCounterDimension.ACQUISITION_MONTH, month.toString());
+        }
+    }
+
+    /**
+     * Current value of every non-zero counter.
+     */
+    public Map<CounterKey, Long> findAll() {
+        Map<CounterKey, Long> counters = new HashMap<>();
+        jdbcTemplate.query(SELECT_COUNTERS, rs -> {
+            counters.put(new CounterKey(AssetCounterDimension.valueOf(rs.getString("dimension")), rs.getString("bucket")),
+                    rs.getLong("asset_count"));
+        });
+        return counters;
+    }
+
+    /**
+     * Adds each delta to its counter, creating missing rows, with a single statement.
+     *
+     * @param deltas non-zero deltas in {@link CounterKey#ORDER}
+     */
+    public void increment(SortedMap<CounterKey, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(deltas.size() * 3);
+        deltas.forEach((key, delta) -> {
+            args.add(key.dimension().name());
+            args.add(key.bucket());
+            args.add(delta);
+        });
+        if (isOnConflictSupported()) {
+            jdbcTemplate.update(INCREMENT.formatted(String.join(", ", Collections.nCopies(deltas.size(), "(?, ?, ?)"))),
+                    args.toArray());
+        } else {
+            jdbcTemplate.update(INCREMENT_MERGE.formatted(String.join(", ", Collections.nCopies(deltas.size(), MERGE_ROW))),
+                    args.toArray());
+        }
+    }
+
+    private boolean isOnConflictSupported() {
+        Boolean supported = onConflictSupported;
+        if (supported == null) {
+            supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    !"H2".equals(connection.getMetaData().getDatabaseProductName()));
+            onConflictSupported = supported;
+        }
+        return supported;
+    }
+
+    /**
+     * Recomputes every counter from {@code assets}. Cost is a full scan; use only to detect and repair drift.
+     */
+    public Map<CounterKey, Long> aggregateAssets() {
+        Map<CounterKey, Long> counters = new HashMap<>();
+        jdbcTemplate.query(AGGREGATE_ASSETS, rs -> {
+            long count = rs.getLong("asset_count");
+            YearMonth month = YearMonth.of(rs.getInt("acquisition_year"), rs.getInt("acquisition_month"));
+            counters.merge(CounterKey.status(AssetStatus.valueOf(rs.getString("status"))), count, Long::sum);
+            counters.merge(CounterKey.acquisitionMonth(month), count, Long::sum);
+        });
+        return counters;
+    }
+}
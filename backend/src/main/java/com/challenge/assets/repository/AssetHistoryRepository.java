@@ -0,0 +1,84 @@
+package com.challenge.assets.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only {@code asset_history} access: the history writer inserts in batches, readers page one asset's
+ * history backwards by id.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetHistoryRepository {
+
+    private static final String INSERT = """
+            INSERT INTO asset_history (asset_id, change_type, changed_at, previous_state, current_state)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_BEFORE = """
+            SELECT id, asset_id, change_type, changed_at, previous_state, current_state
+            FROM asset_history
+            WHERE asset_id = ? AND id < ?
+            ORDER BY id DESC
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * History row to be written.
+     *
+     * @param assetId       ID of the changed asset
+     * @param changeType    {@link com.challenge.assets.event.AssetChangeType} name
+     * @param changedAt     time of the change
+     * @param previousState serialized snapshot before the change; null for creations
+     * @param currentState  serialized snapshot after the change; null for deletions
+     */
+    public record NewEntry(UUID assetId, String changeType, OffsetDateTime changedAt, String previousState,
+                           String currentState) {}
+
+    /**
+     * Stored history row.
+     *
+     * @param id            insertion order, used as the paging key
+     * @param assetId       ID of the changed asset
+     * @param changeType    {@link com.challenge.assets.event.AssetChangeType} name
+     * @param changedAt     time of the change
+     * @param previousState serialized snapshot before the change; null for creations
+     * @param currentState  serialized snapshot after the change; null for deletions
+     */
+    public record Entry(long id, UUID assetId, String changeType, OffsetDateTime changedAt, String previousState,
+                        String currentState) {}
+
+    /**
+     * Inserts all entries with one JDBC batch.
+     */
+    public void insert(List<NewEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, entry.assetId());
+            ps.setString(2, entry.changeType());
+            ps.setObject(3, entry.changedAt());
+            ps.setString(4, entry.previousState());
+            ps.setString(5, entry.currentState());
+        });
+    }
+
+    /**
+     * Up to {@code limit} entries of one asset with an id lower than {@code beforeId}, newest first.
+     */
+    public List<Entry> findByAssetBefore(UUID assetId, long beforeId, int limit) {
+        return jdbcTemplate.query(SELECT_BEFORE, (rs, rowNum) -> new Entry(
+                rs.getLong("id"),
+                rs.getObject("asset_id", UUID.class),
+                rs.getString("change_type"),
+                rs.getObject("changed_at", OffsetDateTime.class),
+                rs.getString("previous_state"),
+                rs.getString("current_state")), assetId, beforeId, limit);
+    }
+}
@@ -0,0 +1,25 @@
+package com.challenge.assets.repository;
+
+import com.challenge.assets.domain.AssetImportError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA repository for {@link AssetImportError}.
+ */
+@Repository
+public interface AssetImportErrorRepository extends JpaRepository<AssetImportError, UUID> {
+
+    /**
+     * Returns the rejected rows of a job ordered by CSV line number.
+     *
+     * @param jobId    import job ID
+     * @param pageable maximum number of rows
+     * @return rejected rows
+     */
+    List<AssetImportError> findByJobIdOrderByLineNumberAsc(UUID jobId, Pageable pageable);
+}
@@ -0,0 +1,75 @@
+package com.challenge.assets.repository;
+
+import com.challenge.assets.domain.AssetImportJob;
+import com.challenge.assets.domain.enums.ImportJobState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * JPA repository for {@link AssetImportJob}.
+ */
+@Repository
+public interface AssetImportJobRepository extends JpaRepository<AssetImportJob, UUID> {
+
+    /**
+     * Publishes progress counters of a running import. Runs in its own transaction so the
+     * status endpoint sees progress while the import transaction is still open.
+     *
+     * @param id           job ID
+     * @param rowsRead     CSV records read so far
+     * @param rowsRejected records rejected by validation so far
+     * @return number of updated rows (0 if the job does not exist)
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE AssetImportJob j SET j.rowsRead = :rowsRead, j.rowsRejected = :rowsRejected WHERE j.id = :id")
+    int updateProgress(@Param("id") UUID id, @Param("rowsRead") long rowsRead, @Param("rowsRejected") long rowsRejected);
+
+    /**
+     * Refreshes the lease of a running import. Runs in its own transaction, like {@link #updateProgress}.
+     *
+     * @param id          job ID
+     * @param heartbeatAt time of the heartbeat
+     * @return number of updated rows (0 if the job is no longer running)
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE AssetImportJob j SET j.heartbeatAt = :heartbeatAt "
+            + "WHERE j.id = :id AND j.state = com.challenge.assets.domain.enums.ImportJobState.RUNNING")
+    int heartbeat(@Param("id") UUID id, @Param("heartbeatAt") OffsetDateTime heartbeatAt);
+
+    /**
+     * Start time of the oldest job in the given state whose last heartbeat is not older than
+     * {@code heartbeatSince}, or null when there is none. Delta sync uses it to hold its watermark behind imports
+     * whose rows are not committed yet; jobs left behind by a stopped instance do not hold it.
+     */
+    @Query("SELECT MIN(j.startedAt) FROM AssetImportJob j WHERE j.state = :state AND j.heartbeatAt >= :heartbeatSince")
+    OffsetDateTime findEarliestStartedAt(@Param("state") ImportJobState state,
+                                         @Param("heartbeatSince") OffsetDateTime heartbeatSince);
+
+    /**
+     * Marks running jobs whose last heartbeat is older than {@code heartbeatBefore} (or missing) as FAILED.
+     *
+     * @param heartbeatBefore lease expiry bound
+     * @param finishedAt      time recorded as the end of the failed jobs
+     * @param errorMessage    error message recorded on the failed jobs
+     * @return number of jobs marked FAILED
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AssetImportJob j SET j.state = com.challenge.assets.domain.enums.ImportJobState.FAILED, "
+            + "j.finishedAt = :finishedAt, j.errorMessage = :errorMessage "
+            + "WHERE j.state = com.challenge.assets.domain.enums.ImportJobState.RUNNING "
+            + "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :heartbeatBefore)")
+    int failExpired(@Param("heartbeatBefore") OffsetDateTime heartbeatBefore,
+                    @Param("finishedAt") OffsetDateTime finishedAt,
+                    @Param("errorMessage") String errorMessage);
+}
@@ -0,0 +1,316 @@
+package com.challenge.assets.repository;
+
+import com.challenge.assets.domain.enums.ImportConflictMode;
+import com.challenge.assets.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * PostgreSQL-specific bulk load path for CSV imports: rows are streamed with {@code COPY} into a
+ * transaction-scoped staging table and merged into {@code assets} with one
+ * {@code INSERT ... ON CONFLICT (serial_number, archived)} statement. Serial numbers held by archived assets are
+ * left out of the merge and reported as conflicts in both modes: the archive partition is not an ON CONFLICT
+ * target, and serial numbers stay unique across partitions.
+ * All methods must run inside the same transaction: the staging tables are dropped on commit.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetImportStagingRepository {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE asset_import_staging (
+                line_number      BIGINT       NOT NULL,
+                id               UUID         NOT NULL,
+                name             VARCHAR(255) NOT NULL,
+                serial_number    VARCHAR(255) NOT NULL,
+                acquisition_date TIMESTAMPTZ  NOT NULL,
+                status           VARCHAR(32)  NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING =
+            "COPY asset_import_staging (line_number, id, name, serial_number, acquisition_date, status) "
+                    + "FROM STDIN WITH (FORMAT csv)";
+
+    // First occurrence of each serial number in the file wins; later ones are reported as duplicates.
+    private static final String DEDUPLICATE_STAGING = """
+            CREATE TEMP TABLE asset_import_candidates ON COMMIT DROP AS
+            SELECT DISTINCT ON (serial_number) line_number, id, name, serial_number, acquisition_date, status
+            FROM asset_import_staging
+            ORDER BY serial_number, line_number
+            """;
+
+    private static final String REPORT_IN_FILE_DUPLICATES = """
+            INSERT INTO asset_import_errors (id, job_id, line_number, code, message)
+            SELECT gen_random_uuid(), ?, s.line_number, ?, ? || s.serial_number
+            FROM asset_import_staging s
+            WHERE NOT EXISTS (SELECT 1 FROM asset_import_candidates c WHERE c.id = s.id)
+            ORDER BY s.line_number
+            LIMIT ?
+            """;
+
+    // Assets merged by the import with their state before and after it; feeds the change history and the outbox.
+    private static final String CREATE_MERGED = """
+            CREATE TEMP TABLE asset_import_merged (
+                id             UUID                     NOT NULL,
+                change_type    VARCHAR(16)              NOT NULL,
+                changed_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+                previous_state TEXT,
+                current_state  TEXT                     NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String MERGE_SKIP = """
+            WITH merged AS (
+                INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at)
+                SELECT id, name, serial_number, acquisition_date, status, ?, ?
+                FROM asset_import_candidates c
+                WHERE NOT EXISTS (SELECT 1 FROM assets x WHERE x.archived AND x.serial_number = c.serial_number)
+                ORDER BY line_number
+                ON CONFLICT (serial_number, archived) DO NOTHING
+                RETURNING *
+            )
+            INSERT INTO asset_import_merged (id, change_type, changed_at, previous_state, current_state)
+            SELECT m.id, 'CREATED', m.updated_at, NULL, %s
+            FROM merged m
+            """.formatted(snapshot("m"));
+
+    // All CTEs see the table as it was before the statement, so "previous" holds the overwritten state.
+    // New rows keep the initial version 0 while overwritten ones get a higher one; system columns such as
+    // xmax cannot be returned from the partitioned assets table.
+    private static final String MERGE_UPDATE = """
+            WITH previous AS (
+                SELECT a.id, %s AS state
+                FROM assets a
+                JOIN asset_import_candidates c ON c.serial_number = a.serial_number
+                WHERE NOT a.archived
+            ), merged AS (
+                INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at)
+                SELECT id, name, serial_number, acquisition_date, status, ?, ?
+                FROM asset_import_candidates c
+                WHERE NOT EXISTS (SELECT 1 FROM assets x WHERE x.archived AND x.serial_number = c.serial_number)
+                ORDER BY line_number
+                ON CONFLICT (serial_number, archived) DO UPDATE SET
+                    name = EXCLUDED.name,
+                    acquisition_date = EXCLUDED.acquisition_date,
+                    status = EXCLUDED.status,
+                    updated_at = EXCLUDED.updated_at,
+                    version = assets.version + 1
+                RETURNING *
+            )
+            INSERT INTO asset_import_merged (id, change_type, changed_at, previous_state, current_state)
+            SELECT m.id, CASE WHEN m.version = 0 THEN 'CREATED' ELSE 'UPDATED' END, m.updated_at, p.state, %s
+            FROM merged m
+            LEFT JOIN previous p ON p.id = m.id
+            """.formatted(snapshot("a"), snapshot("m"));
+
+    private static final String COUNT_MERGED = """
+            SELECT count(*) FILTER (WHERE change_type = 'CREATED') AS inserted,
+                   count(*) FILTER (WHERE change_type = 'UPDATED') AS updated
+            FROM asset_import_merged
+            """;
+
+    private static final String RECORD_HISTORY = """
+            INSERT INTO asset_history (asset_id, change_type, changed_at, previous_state, current_state)
+            SELECT id, change_type, changed_at, previous_state, current_state
+            FROM asset_import_merged
+            ORDER BY id
+            """;
+
+    // One entry for the whole import: per-asset entries would overflow every subscriber's buffer and, allocated
+    // long before the import commits, fall into a gap the relay has already skipped.
+    private static final String RECORD_OUTBOX = """
+            INSERT INTO asset_outbox (event_type, asset_id, payload, created_at)
+            VALUES (?, NULL, json_build_object('jobId', ?, 'inserted', ?, 'updated', ?)::text, ?)
+            """;
+
+    // Candidates whose id did not land in assets lost to an existing serial number: any one in SKIP mode, an
+    // archived asset's in UPDATE mode.
+    private static final String REPORT_CONFLICTS = """
+            INSERT INTO asset_import_errors (id, job_id, line_number, code, message)
+            SELECT gen_random_uuid(), ?, c.line_number, ?, ? || c.serial_number
+            FROM asset_import_candidates c
+            WHERE NOT EXISTS (SELECT 1 FROM assets a WHERE a.id = c.id)
+            ORDER BY c.line_number
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Receives validated rows to be written to the COPY stream.
+     */
+    @FunctionalInterface
+    public interface StagingSink {
+        void accept(long lineNumber, UUID id, String name, String serialNumber,
+                    OffsetDateTime acquisitionDate, String status) throws IOException;
+    }
+
+    /**
+     * Produces rows into a {@link StagingSink}; typically a streaming CSV parser.
+     */
+    @FunctionalInterface
+    public interface RowProducer {
+        void produce(StagingSink sink) throws IOException;
+    }
+
+    /**
+     * Counts produced by {@link #merge}.
+     *
+     * @param inserted         new assets
+     * @param updated          existing assets overwritten (UPDATE mode)
+     * @param duplicatesInFile staged rows dropped because the serial number repeats earlier in the file
+     * @param conflicts        rows dropped because the serial number already exists (SKIP mode) or belongs to an
+     *                         archived asset
+     */
+    public record MergeResult(long inserted, long updated, long duplicatesInFile, long conflicts) {}
+
+    /**
+     * Creates the staging table, streams the produced rows into it through COPY and keeps the first
+     * occurrence of each serial number as merge candidates.
+     *
+     * @param producer source of validated rows
+     * @return number of rows copied into the staging table
+     */
+    public long stage(RowProducer producer) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        long staged = copy(producer);
+        jdbcTemplate.execute(DEDUPLICATE_STAGING);
+        return staged;
+    }
+
+    /**
+     * Merges the staged candidates into {@code assets} with a single {@code INSERT ... ON CONFLICT} statement,
+     * keeping each merged asset's state before and after the merge for {@link #recordHistory}.
+     *
+     * @param mode   conflict handling for existing serial numbers
+     * @param staged number of rows returned by {@link #stage}
+     * @return merge counters
+     */
+    public MergeResult merge(ImportConflictMode mode, long staged) {
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.execute(CREATE_MERGED);
+        jdbcTemplate.update(mode == ImportConflictMode.UPDATE ? MERGE_UPDATE : MERGE_SKIP, now, now);
+        Map<String, Object> counts = jdbcTemplate.queryForMap(COUNT_MERGED);
+        long inserted = ((Number) counts.get("inserted")).longValue();
+        long updated = ((Number) counts.get("updated")).longValue();
+        Long candidateCount = jdbcTemplate.queryForObject("SELECT count(*) FROM asset_import_candidates", Long.class);
+        long candidates = candidateCount != null ? candidateCount : 0;
+        return new MergeResult(inserted, updated, staged - candidates, candidates - inserted - updated);
+    }
+
+    /**
+     * Writes one {@code asset_history} entry per asset merged by {@link #merge}: {@code CREATED} for new assets,
+     * {@code UPDATED} with the overwritten state for existing ones. Written in the import transaction, unlike the
+     * buffered history of single writes, since an import may touch far more assets than the buffer holds.
+     *
+     * @return number of history entries written
+     */
+    public int recordHistory() {
+        return jdbcTemplate.update(RECORD_HISTORY);
+    }
+
+    /**
+     * Appends one {@link AssetOutboxRepository#RESET_EVENT_TYPE} entry for the whole import, telling
+     * {@code GET /assets/stream} subscribers to refetch the list. Must be the last statement of the import
+     * transaction: the relay orders by id, and the id allocated here becomes visible right after.
+     *
+     * @param jobId  import job ID
+     * @param result counters returned by {@link #merge}
+     */
+    public void recordOutbox(UUID jobId, MergeResult result) {
+        jdbcTemplate.update(RECORD_OUTBOX, AssetOutboxRepository.RESET_EVENT_TYPE, jobId, result.inserted(),
+                result.updated(), OffsetDateTime.now());
+    }
+
+    /**
+     * Records staged rows that were not merged (in-file duplicates first, then conflicts) as import errors.
+     *
+     * @param jobId  import job the errors belong to
+     * @param result counters returned by {@link #merge}
+     * @param limit  maximum number of error rows to write
+     * @return number of error rows written
+     */
+    public long reportRejectedRows(UUID jobId, MergeResult result, long limit) {
+        long written = 0;
+        if (result.duplicatesInFile() > 0 && limit > written) {
+            written += jdbcTemplate.update(REPORT_IN_FILE_DUPLICATES, jobId,
+                    ErrorCode.ASSET_SERIAL_DUPLICATE_IN_BATCH.getCode(),
+                    ErrorCode.ASSET_SERIAL_DUPLICATE_IN_BATCH.getMessage() + ": ", limit - written);
+        }
+        if (result.conflicts() > 0 && limit > written) {
+            written += jdbcTemplate.update(REPORT_CONFLICTS, jobId,
+                    ErrorCode.ASSET_SERIAL_DUPLICATE.getCode(),
+                    ErrorCode.ASSET_SERIAL_DUPLICATE.getMessage() + ": ", limit - written);
+        }
+        return written;
+    }
+
+    private long copy(RowProducer producer) {
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            PGCopyOutputStream copyStream = new PGCopyOutputStream(pgConnection, COPY_STAGING, COPY_BUFFER_SIZE);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+            try {
+                producer.produce((lineNumber, id, name, serialNumber, acquisitionDate, status) -> {
+                    writer.write(Long.toString(lineNumber));
+                    writer.write(',');
+                    writer.write(id.toString());
+                    writer.write(',');
+                    writeCopyField(writer, name);
+                    writer.write(',');
+                    writeCopyField(writer, serialNumber);
+                    writer.write(',');
+                    writer.write(acquisitionDate.toString());
+                    writer.write(',');
+                    writer.write(status);
+                    writer.write('\n');
+                });
+                writer.flush();
+                return copyStream.endCopy();
+            } catch (IOException | RuntimeException ex) {
+                if (copyStream.isActive()) {
+                    copyStream.cancelCopy();
+                }
+                throw ex instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) ex;
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+
+    /**
+     * JSON of the asset row {@code alias}, in the shape of a serialized
+     * {@link com.challenge.assets.dto.AssetResponse}.
+     */
+    private static String snapshot(String alias) {
+        return """
+                json_build_object('id', %1$s.id, 'name', %1$s.name, 'serialNumber', %1$s.serial_number,
+                    'acquisitionDate', %1$s.acquisition_date, 'status', %1$s.status, 'createdAt', %1$s.created_at,
+                    'updatedAt', %1$s.updated_at, 'version', %1$s.version)::text""".formatted(alias);
+    }
+
+    /**
+     * Always quotes text fields so empty strings are not read back as NULL by COPY (FORMAT csv).
+     */
+    private static void writeCopyField(Writer writer, String value) throws IOException {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,99 @@
+package com.challenge.assets.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only {@code asset_outbox} access for the change feed: writers insert in their own transaction,
+ * the relay reads forward by id.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetOutboxRepository {
+
+    /**
+     * Event type of entries that replace many asset changes at once (bulk imports); they have no asset ID and
+     * are streamed as the {@code reset} event.
+     */
+    public static final String RESET_EVENT_TYPE = "RESET";
+
+    private static final String INSERT =
+            "INSERT INTO asset_outbox (event_type, asset_id, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_AFTER = """
+            SELECT id, event_type, asset_id, payload, created_at
+            FROM asset_outbox
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Outbox row to be written.
+     *
+     * @param eventType {@link com.challenge.assets.event.AssetChangeType} name or {@link #RESET_EVENT_TYPE}
+     * @param assetId   ID of the changed asset; null for {@link #RESET_EVENT_TYPE}
+     * @param payload   serialized event data
+     * @param createdAt time of the change
+     */
+    public record NewEntry(String eventType, UUID assetId, String payload, OffsetDateTime createdAt) {}
+
+    /**
+     * Stored outbox row.
+     *
+     * @param id        position in the feed, also used as the SSE event id
+     * @param eventType {@link com.challenge.assets.event.AssetChangeType} name or {@link #RESET_EVENT_TYPE}
+     * @param assetId   ID of the changed asset; null for {@link #RESET_EVENT_TYPE}
+     * @param payload   serialized event data
+     * @param createdAt time of the change
+     */
+    public record Entry(long id, String eventType, UUID assetId, String payload, OffsetDateTime createdAt) {}
+
+    /**
+     * Inserts all entries with one JDBC batch.
+     */
+    public void insert(List<NewEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.eventType());
+            ps.setObject(2, entry.assetId());
+            ps.setString(3, entry.payload());
+            ps.setObject(4, entry.createdAt());
+        });
+    }
+
+    /**
+     * Up to {@code limit} entries with an id greater than {@code afterId}, in id order.
+     */
+    public List<Entry> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER, (rs, rowNum) -> new Entry(
+                rs.getLong("id"),
+                rs.getString("event_type"),
+                rs.getObject("asset_id", UUID.class),
+                rs.getString("payload"),
+                rs.getObject("created_at", OffsetDateTime.class)), afterId, limit);
+    }
+
+    /**
+     * Highest id written so far, or 0 when the outbox is empty.
+     */
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM asset_outbox", Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    /**
+     * Deletes entries created before {@code cutoff}.
+     *
+     * @return number of entries deleted
+     */
+    public int deleteCreatedBefore(OffsetDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM asset_outbox WHERE created_at < ?", cutoff);
+    }
+}
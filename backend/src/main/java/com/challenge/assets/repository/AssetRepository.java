@@ -1,52 +1,31 @@
 package com.challenge.assets.repository;
 
 import com.challenge.assets.domain.Asset;
-import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetSuggestion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA repository for {@link Asset} persistence.
+ * Filtered listings live in {@link AssetRepositoryCustom} because their predicates depend on the supplied filters;
+ * so do the single-statement batch insert, update and delete. Serial number uniqueness is enforced by the database
+ * ({@link AssetConstraints#SERIAL_NUMBER_UNIQUE}), not checked beforehand.
  */
 @Repository
-public interface AssetRepository extends JpaRepository<Asset, UUID> {
+public interface AssetRepository extends JpaRepository<Asset, UUID>, AssetRepositoryCustom {
 
     /**
-     * Checks whether an asset with the given serial number already exists.
-     *
-     * @param serialNumber the serial number to check
-     * @return true if an asset exists with this serial number, false otherwise
+     * Streams the typeahead fields of every asset as a constructor projection (no entities are loaded).
+     * Must be consumed (and closed) inside a transaction.
      */
-    boolean existsBySerialNumber(String serialNumber);
-
-    /**
-     * Checks whether an asset with the given serial number exists with a different ID (for update validation).
-     *
-     * @param serialNumber the serial number to check
-     * @param id           the asset ID to exclude (e.g. current entity being updated)
-     * @return true if another asset exists with this serial number
-     */
-    boolean existsBySerialNumberAndIdNot(String serialNumber, UUID id);
-
-    /**
-     * Finds assets with optional filters (name, serial number, status).
-     * For name/serialNumber, pass empty string for "match all" (LIKE '%%').
-     *
-     * @param name         filter for name (partial, case-insensitive); use "" for match all
-     * @param serialNumber filter for serial number (partial, case-insensitive); use "" for match all
-     * @param status       optional filter for exact status match (null = no filter)
-     * @return list of matching assets
-     */
-    @Query("SELECT a FROM Asset a WHERE " +
-            "LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%')) AND " +
-            "LOWER(a.serialNumber) LIKE LOWER(CONCAT('%', :serialNumber, '%')) AND " +
-            "(:status IS NULL OR a.status = :status)")
-    List<Asset> findWithFilters(@Param("name") String name,
-                                @Param("serialNumber") String serialNumber,
-                                @Param("status") AssetStatus status);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.challenge.assets.dto.AssetSuggestion(a.id, a.serialNumber, a.name) FROM Asset a")
+    Stream<AssetSuggestion> streamSuggestions();
 }
@@ -0,0 +1,148 @@
+package com.challenge.assets.repository;
+
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.domain.enums.AssetStatus;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Custom queries for {@link Asset} whose WHERE clause depends on which filters are supplied.
+ * Implemented by {@link AssetRepositoryCustomImpl} and exposed through {@link AssetRepository}.
+ */
+public interface AssetRepositoryCustom {
+
+    /**
+     * Finds assets matching the supplied filters. Absent filters add no predicate.
+     *
+     * @param criteria optional filters
+     * @return list of matching assets (unordered)
+     */
+    List<Asset> findWithFilters(AssetSearchCriteria criteria);
+
+    /**
+     * Finds assets matching the filters, selecting only the given attributes as a tuple projection:
+     * no entity is instantiated, snapshotted or attached to the persistence context.
+     *
+     * @param criteria   optional filters
+     * @param attributes {@link Asset} attribute names to select, in output order
+     * @return one attribute-to-value map per matching asset (unordered)
+     */
+    List<Map<String, Object>> findProjectionWithFilters(AssetSearchCriteria criteria, List<String> attributes);
+
+    /**
+     * Returns one keyset page of assets matching the filters, ordered by (createdAt, id).
+     *
+     * @param criteria       optional filters
+     * @param afterCreatedAt creation timestamp of the last row of the previous page; null for the first page
+     * @param afterId        ID of the last row of the previous page; null for the first page
+     * @param limit          maximum number of rows to return
+     * @return up to {@code limit} assets
+     */
+    List<Asset> findPage(AssetSearchCriteria criteria, OffsetDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * Returns one keyset page of assets matching the filters, ordered by ID, from the primary key index.
+     *
+     * @param criteria optional filters
+     * @param afterId  ID of the last row of the previous page; null for the first page
+     * @param limit    maximum number of rows to return
+     * @return up to {@code limit} assets
+     */
+    List<Asset> findPageById(AssetSearchCriteria criteria, UUID afterId, int limit);
+
+    /**
+     * Returns assets changed after a sync watermark, ordered by (updatedAt, id), from the {@code updated_at} index.
+     *
+     * @param afterUpdatedAt {@code updated_at} of the watermark
+     * @param afterId        ID of the watermark (tie-breaker for equal timestamps)
+     * @param upTo           inclusive upper bound for {@code updated_at}
+     * @param limit          maximum number of rows to return
+     * @return up to {@code limit} assets
+     */
+    List<Asset> findChangedAfter(OffsetDateTime afterUpdatedAt, UUID afterId, OffsetDateTime upTo, int limit);
+
+    /**
+     * Returns the row count and latest {@code updated_at} of the assets matching the filters, without loading rows.
+     * Any insert, update or delete in the filtered set changes at least one of the two, so together they act as a
+     * cheap validator for the collection.
+     *
+     * @param criteria optional filters
+     * @return count and max(updated_at) (null when nothing matches)
+     */
+    CollectionStamp findCollectionStamp(AssetSearchCriteria criteria);
+
+    /**
+     * Streams assets matching the filters, ordered by (createdAt, id), from a forward-only JDBC cursor.
+     * Rows are read {@code fetchSize} at a time and detached as they are emitted, so memory stays flat
+     * regardless of the result size. Must be consumed (and closed) inside a transaction.
+     *
+     * @param criteria  optional filters
+     * @param fetchSize rows per JDBC round trip
+     * @return a lazily populated stream of detached assets
+     */
+    Stream<Asset> streamWithFilters(AssetSearchCriteria criteria, int fetchSize);
+
+    /**
+     * Moves up to {@code limit} assets with the given status, last updated before {@code updatedBefore}, to the
+     * archive in one statement, oldest first. Rows locked by concurrent writers are skipped. {@code updated_at}
+     * and {@code version} are left as they are: archival is not a change of the asset.
+     *
+     * @param status        status of the assets to archive
+     * @param updatedBefore exclusive upper bound for {@code updated_at}
+     * @param limit         maximum number of assets to move
+     * @return number of assets archived
+     */
+    int archiveBefore(AssetStatus status, OffsetDateTime updatedBefore, int limit);
+
+    /**
+     * Inserts the assets in a single {@code INSERT ... ON CONFLICT (serial_number, archived) DO NOTHING ... RETURNING}
+     * statement. An asset whose serial number is already taken, by an archived asset or by a concurrent insert that
+     * commits while this one waits on it, is skipped instead of failing the statement. IDs are generated here, {@code created_at}
+     * and {@code updated_at} are set to {@code now} and {@code version} starts at 0.
+     *
+     * @param assets new assets with distinct serial numbers (their IDs and audit fields are ignored)
+     * @param now    creation time
+     * @return the inserted rows, in no particular order
+     */
+    List<Asset> insertSkippingConflicts(List<Asset> assets, OffsetDateTime now);
+
+    /**
+     * Updates the non-null mutable fields of {@code changes} in a single {@code UPDATE ... RETURNING} statement,
+     * returning the row as it was before and after the update. Null fields keep their current value, so the same
+     * call serves full ({@code PUT}) and partial ({@code PATCH}) updates. {@code updated_at} is set to {@code now}
+     * and {@code version} is incremented; an archived asset is moved back to the hot set.
+     * A serial number already used by another asset surfaces as a
+     * {@link org.springframework.dao.DataIntegrityViolationException} on {@link AssetConstraints#SERIAL_NUMBER_UNIQUE}.
+     *
+     * @param id              asset ID
+     * @param changes         new name, serial number, acquisition date and/or status (other fields are ignored)
+     * @param expectedVersion when not null, the row is only updated if its version still equals this value
+     * @param now             new {@code updated_at}
+     * @return previous and current state, or empty if no asset has this ID (or its version differs)
+     */
+    Optional<AssetRevision> updateReturning(UUID id, Asset changes, Long expectedVersion, OffsetDateTime now);
+
+    /**
+     * Deletes an asset and records its tombstone for delta sync in a single {@code DELETE ... RETURNING} statement.
+     *
+     * @param id        asset ID
+     * @param deletedAt time recorded on the tombstone
+     * @return the deleted row, or empty if no asset has this ID
+     */
+    Optional<Asset> deleteReturning(UUID id, OffsetDateTime deletedAt);
+
+    /**
+     * State of an asset before and after an update.
+     */
+    record AssetRevision(Asset previous, Asset current) {}
+
+    /**
+     * Size and latest modification of a filtered set of assets.
+     */
+    record CollectionStamp(long count, OffsetDateTime lastUpdatedAt) {}
+}
@@ -0,0 +1,334 @@
+package com.challenge.assets.repository;
+
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.domain.TimeOrderedUuidGenerator;
+import com.challenge.assets.domain.enums.AssetStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of {@link AssetRepositoryCustom}.
+ * Substring filters compile to {@code LOWER(col) LIKE '%term%'}, the exact expression indexed by the
+ * trigram GIN indexes from migration V2, and are only emitted when the filter is supplied.
+ * Single-row writes and the batch insert are native PostgreSQL {@code ... RETURNING} statements run through
+ * {@link JdbcTemplate}, so each costs one round trip and concurrent writers are arbitrated by the row lock and the
+ * unique constraint.
+ */
+@RequiredArgsConstructor
+public class AssetRepositoryCustomImpl implements AssetRepositoryCustom {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private static final String COLUMNS =
+            "id, name, serial_number, acquisition_date, status, created_at, updated_at, version";
+
+    // One array parameter per column keeps the statement text, and its server-side plan, the same for any batch size.
+    // ON CONFLICT only covers the hot partition; serial numbers held by archived assets are filtered out first,
+    // since the serial number registry would otherwise fail the whole statement.
+    private static final String INSERT_SKIPPING_CONFLICTS = """
+            INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+            SELECT i.id::uuid, i.name, i.serial_number, i.acquisition_date::timestamptz, i.status, ?, ?, 0
+            FROM unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::text[])
+                 WITH ORDINALITY AS i(id, name, serial_number, acquisition_date, status, position)
+            WHERE NOT EXISTS (SELECT 1 FROM assets x WHERE x.archived AND x.serial_number = i.serial_number)
+            ORDER BY i.position
+            ON CONFLICT (serial_number, archived) DO NOTHING
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    // The FOR UPDATE sub-select reads the pre-update row under the same lock the UPDATE takes.
+    // %1$s is the SET list of the supplied fields, %2$s the optional version condition.
+    private static final String UPDATE_RETURNING = """
+            UPDATE assets a
+            SET %1$supdated_at = ?, version = a.version + 1, archived = FALSE
+            FROM (SELECT %3$s FROM assets WHERE id = ? FOR UPDATE) p
+            WHERE a.id = p.id%2$s
+            RETURNING p.id AS p_id, p.name AS p_name, p.serial_number AS p_serial_number,
+                      p.acquisition_date AS p_acquisition_date, p.status AS p_status,
+                      p.created_at AS p_created_at, p.updated_at AS p_updated_at, p.version AS p_version,
+                      a.id, a.name, a.serial_number, a.acquisition_date, a.status, a.created_at, a.updated_at,
+                      a.version
+            """;
+
+    // Oldest candidates first; rows locked by a concurrent writer or archival run are left for the next chunk.
+    // On PostgreSQL, setting archived moves the row from the hot partition to the archive partition; the serial
+    // number registry keeps serial numbers unique across both, so the move never conflicts.
+    private static final String ARCHIVE_BEFORE = """
+            UPDATE assets SET archived = TRUE
+            WHERE NOT archived AND id IN (
+                SELECT c.id FROM assets c
+                WHERE NOT c.archived AND c.status = ? AND c.updated_at < ?
+                ORDER BY c.updated_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            """;
+
+    // The tombstone insert is a data-modifying CTE, so it commits or rolls back with the delete in one round trip.
+    private static final String DELETE_RETURNING = """
+            WITH deleted AS (DELETE FROM assets WHERE id = ? RETURNING %1$s),
+                 tombstone AS (INSERT INTO asset_tombstones (asset_id, deleted_at) SELECT id, ? FROM deleted)
+            SELECT %1$s FROM deleted
+            """.formatted(COLUMNS);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Asset> findWithFilters(AssetSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Asset> query = cb.createQuery(Asset.class);
+        Root<Asset> root = query.from(Asset.class);
+        query.select(root).where(filterPredicates(cb, root, criteria).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findProjectionWithFilters(AssetSearchCriteria criteria, List<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Asset> root = query.from(Asset.class);
+        query.multiselect(attributes.stream().<Selection<?>>map(attribute -> root.get(attribute).alias(attribute)).toList())
+                .where(filterPredicates(cb, root, criteria).toArray(Predicate[]::new));
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>(attributes.size() * 2);
+            for (int i = 0; i < attributes.size(); i++) {
+                row.put(attributes.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public List<Asset> findPage(AssetSearchCriteria criteria, OffsetDateTime afterCreatedAt, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Asset> query = cb.createQuery(Asset.class);
+        Root<Asset> root = query.from(Asset.class);
+        List<Predicate> predicates = filterPredicates(cb, root, criteria);
+        if (afterCreatedAt != null && afterId != null) {
+            predicates.addAll(keysetAfter(cb, root.get("createdAt"), root.get("id"), afterCreatedAt, afterId));
+        }
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Asset> findPageById(AssetSearchCriteria criteria, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Asset> query = cb.createQuery(Asset.class);
+        Root<Asset> root = query.from(Asset.class);
+        List<Predicate> predicates = filterPredicates(cb, root, criteria);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.<UUID>get("id"), afterId));
+        }
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Asset> findChangedAfter(OffsetDateTime afterUpdatedAt, UUID afterId, OffsetDateTime upTo, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Asset> query = cb.createQuery(Asset.class);
+        Root<Asset> root = query.from(Asset.class);
+        Path<OffsetDateTime> updatedAt = root.get("updatedAt");
+        List<Predicate> predicates = keysetAfter(cb, updatedAt, root.get("id"), afterUpdatedAt, afterId);
+        predicates.add(cb.lessThanOrEqualTo(updatedAt, upTo));
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(updatedAt), cb.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public CollectionStamp findCollectionStamp(AssetSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Asset> root = query.from(Asset.class);
+        query.multiselect(cb.count(root), cb.greatest(root.<OffsetDateTime>get("updatedAt")))
+                .where(filterPredicates(cb, root, criteria).toArray(Predicate[]::new));
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+        return new CollectionStamp(result.get(0, Long.class), result.get(1, OffsetDateTime.class));
+    }
+
+    @Override
+    public Stream<Asset> streamWithFilters(AssetSearchCriteria criteria, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Asset> query = cb.createQuery(Asset.class);
+        Root<Asset> root = query.from(Asset.class);
+        query.select(root)
+                .where(filterPredicates(cb, root, criteria).toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(asset -> {
+                    entityManager.detach(asset);
+                    return asset;
+                });
+    }
+
+    @Override
+    public List<Asset> insertSkippingConflicts(List<Asset> assets, OffsetDateTime now) {
+        if (assets.isEmpty()) {
+            return List.of();
+        }
+        int size = assets.size();
+        String[] ids = new String[size];
+        String[] names = new String[size];
+        String[] serialNumbers = new String[size];
+        String[] acquisitionDates = new String[size];
+        String[] statuses = new String[size];
+        for (int i = 0; i < size; i++) {
+            Asset asset = assets.get(i);
+            ids[i] = TimeOrderedUuidGenerator.next().toString();
+            names[i] = asset.getName();
+            serialNumbers[i] = asset.getSerialNumber();
+            acquisitionDates[i] = asset.getAcquisitionDate().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            statuses[i] = asset.getStatus().name();
+        }
+        return jdbcTemplate.query(INSERT_SKIPPING_CONFLICTS, (rs, rowNum) -> mapAsset(rs, ""),
+                now, now, ids, names, serialNumbers, acquisitionDates, statuses);
+    }
+
+    @Override
+    public Optional<AssetRevision> updateReturning(UUID id, Asset changes, Long expectedVersion, OffsetDateTime now) {
+        StringBuilder set = new StringBuilder();
+        List<Object> args = new ArrayList<>(7);
+        if (changes.getName() != null) {
+            set.append("name = ?, ");
+            args.add(changes.getName());
+        }
+        if (changes.getSerialNumber() != null) {
+            set.append("serial_number = ?, ");
+            args.add(changes.getSerialNumber());
+        }
+        if (changes.getAcquisitionDate() != null) {
+            set.append("acquisition_date = ?, ");
+            args.add(changes.getAcquisitionDate());
+        }
+        if (changes.getStatus() != null) {
+            set.append("status = ?, ");
+            args.add(changes.getStatus().name());
+        }
+        args.add(now);
+        args.add(id);
+        if (expectedVersion != null) {
+            args.add(expectedVersion);
+        }
+        String sql = UPDATE_RETURNING.formatted(set, expectedVersion != null ? " AND p.version = ?" : "", COLUMNS);
+        return jdbcTemplate.query(sql,
+                        (rs, rowNum) -> new AssetRevision(mapAsset(rs, "p_"), mapAsset(rs, "")),
+                        args.toArray())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Asset> deleteReturning(UUID id, OffsetDateTime deletedAt) {
+        return jdbcTemplate.query(DELETE_RETURNING, (rs, rowNum) -> mapAsset(rs, ""), id, deletedAt)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public int archiveBefore(AssetStatus status, OffsetDateTime updatedBefore, int limit) {
+        return jdbcTemplate.update(ARCHIVE_BEFORE, status.name(), updatedBefore, limit);
+    }
+
+    static Asset mapAsset(ResultSet rs, String prefix) throws SQLException {
+        return Asset.builder()
+                .id(rs.getObject(prefix + "id", UUID.class))
+                .name(rs.getString(prefix + "name"))
+                .serialNumber(rs.getString(prefix + "serial_number"))
+                .acquisitionDate(rs.getObject(prefix + "acquisition_date", OffsetDateTime.class))
+                .status(AssetStatus.valueOf(rs.getString(prefix + "status")))
+                .createdAt(rs.getObject(prefix + "created_at", OffsetDateTime.class))
+                .updatedAt(rs.getObject(prefix + "updated_at", OffsetDateTime.class))
+                .version(rs.getLong(prefix + "version"))
+                .build();
+    }
+
+    /**
+     * Keyset condition {@code (timestamp, id) > (afterTimestamp, afterId)}, written as the expanded OR plus a
+     * redundant {@code timestamp >= afterTimestamp}: the criteria API has no row comparison, and without the extra
+     * conjunct the OR gives the planner no range bound on the (timestamp, id) index.
+     */
+    private static List<Predicate> keysetAfter(CriteriaBuilder cb, Path<OffsetDateTime> timestamp, Path<UUID> id,
+                                               OffsetDateTime afterTimestamp, UUID afterId) {
+        List<Predicate> predicates = new ArrayList<>(2);
+        predicates.add(cb.greaterThanOrEqualTo(timestamp, afterTimestamp));
+        predicates.add(cb.or(
+                cb.greaterThan(timestamp, afterTimestamp),
+                cb.and(cb.equal(timestamp, afterTimestamp), cb.greaterThan(id, afterId))));
+        return predicates;
+    }
+
+    /**
+     * Builds one predicate per supplied filter, plus {@code NOT archived} unless archived assets are included;
+     * on PostgreSQL that predicate prunes the archive partition.
+     */
+    static List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Asset> root, AssetSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>(4);
+        if (!criteria.includeArchived()) {
+            predicates.add(cb.isFalse(root.get("archived")));
+        }
+        if (criteria.hasName()) {
+            predicates.add(cb.like(cb.lower(root.get("name")), containsPattern(criteria.name()), LIKE_ESCAPE));
+        }
+        if (criteria.hasSerialNumber()) {
+            predicates.add(cb.like(cb.lower(root.get("serialNumber")), containsPattern(criteria.serialNumber()), LIKE_ESCAPE));
+        }
+        if (criteria.hasStatus()) {
+            predicates.add(cb.equal(root.get("status"), criteria.status()));
+        }
+        return predicates;
+    }
+
+    /**
+     * Lower-cases the term and escapes LIKE wildcards so user input is matched literally.
+     */
+    static String containsPattern(String term) {
+        String lowered = term.toLowerCase(Locale.ROOT);
+        StringBuilder pattern = new StringBuilder(lowered.length() + 2).append('%');
+        for (int i = 0; i < lowered.length(); i++) {
+            char c = lowered.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.challenge.assets.repository;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+import org.springframework.util.StringUtils;
+
+/**
+ * Optional filters for asset listings. Null or blank values mean "no filter" and produce no SQL predicate.
+ * Archived assets are excluded unless {@code includeArchived} is set.
+ *
+ * @param name            partial, case-insensitive match on name
+ * @param serialNumber    partial, case-insensitive match on serial number
+ * @param status          exact status match
+ * @param includeArchived whether to also match assets moved to the archive
+ */
+public record AssetSearchCriteria(String name, String serialNumber, AssetStatus status, boolean includeArchived) {
+
+    /**
+     * Filters over the hot (non-archived) assets only.
+     */
+    public AssetSearchCriteria(String name, String serialNumber, AssetStatus status) {
+        this(name, serialNumber, status, false);
+    }
+
+    public boolean hasName() {
+        return StringUtils.hasText(name);
+    }
+
+    public boolean hasSerialNumber() {
+        return StringUtils.hasText(serialNumber);
+    }
+
+    public boolean hasStatus() {
+        return status != null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.challenge.assets.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read and purge access to {@code asset_tombstones}. Tombstones are written by
+ * {@link AssetRepositoryCustom#deleteReturning}, in the same statement as the delete.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetTombstoneRepository {
+
+    // The row comparison is a range scan on (deleted_at, asset_id), starting right after the watermark.
+    private static final String SELECT_AFTER = """
+            SELECT asset_id, deleted_at
+            FROM asset_tombstones
+            WHERE (deleted_at, asset_id) > (?, ?) AND deleted_at <= ?
+            ORDER BY deleted_at, asset_id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Stored tombstone.
+     *
+     * @param assetId   ID of the deleted asset
+     * @param deletedAt time of the delete
+     */
+    public record Tombstone(UUID assetId, OffsetDateTime deletedAt) {}
+
+    /**
+     * Up to {@code limit} tombstones after a sync watermark, ordered by (deletedAt, assetId).
+     *
+     * @param afterDeletedAt timestamp of the watermark
+     * @param afterId        ID of the watermark (tie-breaker for equal timestamps)
+     * @param upTo           inclusive upper bound for {@code deleted_at}
+     * @param limit          maximum number of rows to return
+     */
+    public List<Tombstone> findAfter(OffsetDateTime afterDeletedAt, UUID afterId, OffsetDateTime upTo, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER, (rs, rowNum) -> new Tombstone(
+                rs.getObject("asset_id", UUID.class),
+                rs.getObject("deleted_at", OffsetDateTime.class)), afterDeletedAt, afterId, upTo, limit);
+    }
+
+    /**
+     * Deletes tombstones recorded before {@code cutoff}.
+     *
+     * @return number of tombstones deleted
+     */
+    public int deleteDeletedBefore(OffsetDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM asset_tombstones WHERE deleted_at < ?", cutoff);
+    }
+}
@@ -0,0 +1,95 @@
+package com.challenge.assets.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+/**
+ * {@code idempotency_keys} access. A key is claimed and completed in the transaction of the write it protects, so a
+ * committed row always carries its response; until then the uncommitted claim makes concurrent claims of the same
+ * key wait.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    /** Inserts the key, or takes over an expired row; blocks while another transaction holds an uncommitted claim. */
+    private static final String CLAIM = """
+            INSERT INTO idempotency_keys (idempotency_key, request_hash, created_at, expires_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (idempotency_key) DO UPDATE SET
+                request_hash = EXCLUDED.request_hash,
+                response_status = NULL,
+                response_headers = NULL,
+                response_body = NULL,
+                created_at = EXCLUDED.created_at,
+                expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.expires_at <= EXCLUDED.created_at
+            """;
+
+    private static final String COMPLETE = """
+            UPDATE idempotency_keys SET response_status = ?, response_headers = ?, response_body = ?
+            WHERE idempotency_key = ?
+            """;
+
+    private static final String SELECT = """
+            SELECT request_hash, response_status, response_headers, response_body, expires_at
+            FROM idempotency_keys
+            WHERE idempotency_key = ? AND expires_at > ? AND response_status IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Response stored for a key.
+     *
+     * @param requestHash fingerprint of the request that produced the response
+     * @param status      HTTP status
+     * @param headers     response headers, serialized as a JSON object of header name to values
+     * @param body        serialized response body; null when there was none
+     * @param expiresAt   time after which the key may be reused
+     */
+    public record StoredResponse(String requestHash, int status, String headers, String body,
+                                 OffsetDateTime expiresAt) {}
+
+    /**
+     * Claims {@code key} for the current transaction. Must run in the transaction of the write, followed by
+     * {@link #complete}.
+     *
+     * @return true if the key was free (or expired) and is now claimed; false if another request already holds it
+     */
+    public boolean claim(String key, String requestHash, OffsetDateTime now, OffsetDateTime expiresAt) {
+        return jdbcTemplate.update(CLAIM, key, requestHash, now, expiresAt) == 1;
+    }
+
+    /**
+     * Stores the response of a claimed key.
+     */
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update(COMPLETE, response.status(), response.headers(), response.body(), key);
+    }
+
+    /**
+     * The response stored for {@code key}, unless the key is unknown or expired.
+     */
+    public Optional<StoredResponse> find(String key, OffsetDateTime now) {
+        return jdbcTemplate.query(SELECT, (rs, rowNum) -> new StoredResponse(
+                rs.getString("request_hash"),
+                rs.getInt("response_status"),
+                rs.getString("response_headers"),
+                rs.getString("response_body"),
+                rs.getObject("expires_at", OffsetDateTime.class)), key, now).stream().findFirst();
+    }
+
+    /**
+     * Deletes keys that expired before {@code now}.
+     *
+     * @return number of keys deleted
+     */
+    public int deleteExpired(OffsetDateTime now) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at <= ?", now);
+    }
+}
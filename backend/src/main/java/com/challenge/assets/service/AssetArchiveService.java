@@ -0,0 +1,49 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.AssetArchiveProperties;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.repository.AssetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Moves DISPOSED assets that have not changed for {@code assets.archive.min-age} out of the hot set. On
+ * PostgreSQL they land in the archive partition of {@code assets}, so default listings and their indexes only
+ * cover live assets, while {@code GET /assets/{id}} and {@code includeArchived} listings still find them.
+ * <p>
+ * Each chunk is one autocommitted statement, so row locks are held briefly and a large backlog never becomes
+ * one long transaction. Counters, the delta sync feed and cached responses are unaffected: the asset itself
+ * does not change.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetArchiveService {
+
+    private final AssetRepository repository;
+    private final AssetArchiveProperties properties;
+
+    /**
+     * Archives eligible assets in chunks until none are left or the per-run limit is reached.
+     *
+     * @return number of assets archived
+     */
+    public int archiveDisposed() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.minAge());
+        int archived = 0;
+        for (int chunk = 0; chunk < properties.maxChunksPerRun(); chunk++) {
+            int moved = repository.archiveBefore(AssetStatus.DISPOSED, cutoff, properties.chunkSize());
+            archived += moved;
+            if (moved < properties.chunkSize()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} disposed assets", archived);
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,128 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.AssetBatchProperties;
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.dto.AssetRequest;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.BatchCreateResponse;
+import com.challenge.assets.dto.BatchItemResult;
+import com.challenge.assets.dto.BatchItemStatus;
+import com.challenge.assets.dto.error.ApiErrorResponse;
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.exception.BatchSizeExceededException;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.mapper.AssetMapper;
+import com.challenge.assets.repository.AssetRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batch creation of assets with per-item outcomes.
+ * All valid items are inserted with one {@code INSERT ... ON CONFLICT DO NOTHING ... RETURNING} statement: the unique
+ * constraint, not a prior existence check, decides which serial numbers are taken, so an asset created concurrently
+ * with the same serial number turns its item into a conflict instead of failing the whole batch.
+ */
+@Service
+@RequiredArgsConstructor
+public class AssetBatchService {
+
+    private final AssetRepository repository;
+    private final AssetMapper mapper;
+    private final Validator validator;
+    private final AssetBatchProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates every valid, non-duplicate item of the batch. Invalid items and items whose serial number
+     * already exists (in the database or earlier in the same batch) are reported instead of failing the batch.
+     *
+     * @param requests items to create
+     * @return per-item results in request order, plus totals
+     * @throws BatchSizeExceededException if the batch is larger than {@code assets.batch.max-size}
+     */
+    @Transactional
+    public BatchCreateResponse createBatch(List<AssetRequest> requests) {
+        if (requests.size() > properties.maxSize()) {
+            throw new BatchSizeExceededException(ErrorCode.BATCH_SIZE_EXCEEDED, requests.size(), properties.maxSize());
+        }
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> candidates = new ArrayList<>(requests.size());
+        Set<String> seenSerials = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            AssetRequest request = requests.get(i);
+            List<ApiErrorResponse.ValidationError> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.invalid(i, ErrorCode.VALIDATION_ERROR.getCode(),
+                        ErrorCode.VALIDATION_ERROR.getMessage(), errors);
+            } else if (!seenSerials.add(request.serialNumber())) {
+                results[i] = BatchItemResult.conflict(i, ErrorCode.ASSET_SERIAL_DUPLICATE_IN_BATCH.getCode(),
+                        ErrorCode.ASSET_SERIAL_DUPLICATE_IN_BATCH.getMessage() + ": " + request.serialNumber());
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        List<Asset> entities = new ArrayList<>(candidates.size());
+        for (int index : candidates) {
+            entities.add(mapper.toEntity(requests.get(index)));
+        }
+        Map<String, Asset> inserted = new HashMap<>();
+        for (Asset asset : repository.insertSkippingConflicts(entities, OffsetDateTime.now())) {
+            inserted.put(asset.getSerialNumber(), asset);
+        }
+        for (int index : candidates) {
+            String serialNumber = requests.get(index).serialNumber();
+            Asset asset = inserted.get(serialNumber);
+            if (asset == null) {
+                results[index] = BatchItemResult.conflict(index, ErrorCode.ASSET_SERIAL_DUPLICATE.getCode(),
+                        ErrorCode.ASSET_SERIAL_DUPLICATE.getMessage() + ": " + serialNumber);
+            } else {
+                AssetResponse created = mapper.toResponse(asset);
+                results[index] = BatchItemResult.created(index, created);
+                eventPublisher.publishEvent(AssetChangedEvent.created(created));
+            }
+        }
+        return summarize(Arrays.asList(results));
+    }
+
+    private List<ApiErrorResponse.ValidationError> validate(AssetRequest request) {
+        if (request == null) {
+            return List.of(new ApiErrorResponse.ValidationError("item", "item must not be null"));
+        }
+        Set<ConstraintViolation<AssetRequest>> violations = validator.validate(request);
+        return violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> new ApiErrorResponse.ValidationError(v.getPropertyPath().toString(), v.getMessage()))
+                .toList();
+    }
+
+    private static BatchCreateResponse summarize(List<BatchItemResult> results) {
+        int created = 0;
+        int conflicts = 0;
+        int invalid = 0;
+        for (BatchItemResult result : results) {
+            if (result.status() == BatchItemStatus.CREATED) {
+                created++;
+            } else if (result.status() == BatchItemStatus.CONFLICT) {
+                conflicts++;
+            } else {
+                invalid++;
+            }
+        }
+        return new BatchCreateResponse(created, conflicts, invalid, results);
+    }
+}
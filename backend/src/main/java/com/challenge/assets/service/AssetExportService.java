@@ -0,0 +1,123 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.ExportProperties;
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.ExportFormat;
+import com.challenge.assets.mapper.AssetMapper;
+import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.repository.AssetSearchCriteria;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams the asset inventory to an output stream as NDJSON or CSV.
+ * Rows flow from a JDBC cursor through {@link AssetMapper} straight to the stream, one at a time,
+ * so heap usage does not depend on the number of rows exported.
+ */
+@Service
+@RequiredArgsConstructor
+public class AssetExportService {
+
+    static final String CSV_HEADER = "id,name,serialNumber,acquisitionDate,status,createdAt,updatedAt";
+
+    private final AssetRepository repository;
+    private final AssetMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+
+    /**
+     * Writes all assets matching the filters to {@code out}, ordered by (createdAt, id).
+     * The read-only transaction stays open while the stream is written; the caller owns {@code out}.
+     *
+     * @param criteria optional filters
+     * @param format   output format
+     * @param out      destination stream (not closed by this method)
+     * @throws IOException if writing to {@code out} fails (e.g. client disconnected)
+     */
+    @Transactional(readOnly = true)
+    public void export(AssetSearchCriteria criteria, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Asset> rows = repository.streamWithFilters(criteria, properties.fetchSize())) {
+            Iterator<AssetResponse> responses = rows.map(mapper::toResponse).iterator();
+            switch (format) {
+                case NDJSON -> writeNdjson(responses, out);
+                case CSV -> writeCsv(responses, out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<AssetResponse> responses, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long written = 0;
+        while (responses.hasNext()) {
+            generator.writeObject(responses.next());
+            generator.writeRaw('\n');
+            // Flush the first row right away so the client sees bytes before the cursor is drained
+            if (++written == 1 || written % properties.flushEvery() == 0) {
+                generator.flush();
+            }
+        }
+        generator.close();
+    }
+
+    private void writeCsv(Iterator<AssetResponse> responses, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        writer.flush();
+        long written = 0;
+        while (responses.hasNext()) {
+            AssetResponse asset = responses.next();
+            writer.write(String.valueOf(asset.id()));
+            writer.write(',');
+            writeCsvField(writer, asset.name());
+            writer.write(',');
+            writeCsvField(writer, asset.serialNumber());
+            writer.write(',');
+            writer.write(String.valueOf(asset.acquisitionDate()));
+            writer.write(',');
+            writer.write(String.valueOf(asset.status()));
+            writer.write(',');
+            writer.write(String.valueOf(asset.createdAt()));
+            writer.write(',');
+            writer.write(String.valueOf(asset.updatedAt()));
+            writer.write('\n');
+            if (++written % properties.flushEvery() == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes a field per RFC 4180: quoted (with doubled quotes) only when it contains a delimiter, quote or line break.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,70 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.dto.AssetHistoryCursor;
+import com.challenge.assets.dto.AssetHistoryEntryResponse;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.CursorPageResponse;
+import com.challenge.assets.event.AssetChangeType;
+import com.challenge.assets.repository.AssetHistoryRepository;
+import com.challenge.assets.repository.AssetHistoryRepository.Entry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the change history of an asset, newest first, from {@code asset_history}.
+ * The history is written asynchronously after commit ({@link com.challenge.assets.history.AssetHistoryWriter}),
+ * so a change may take a moment to appear.
+ */
+@Service
+@RequiredArgsConstructor
+public class AssetHistoryService {
+
+    private final AssetHistoryRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Returns one page of the history of an asset. Deleted assets keep their history; an ID that never existed
+     * yields an empty page.
+     *
+     * @param assetId asset ID
+     * @param limit   requested page size, clamped to [1, {@link AssetService#MAX_PAGE_SIZE}]
+     * @param cursor  opaque cursor from the previous page; null or blank for the newest changes
+     * @return the page and the cursor for the next (older) one, null when there are no more entries
+     * @throws com.challenge.assets.exception.InvalidCursorException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AssetHistoryEntryResponse> findHistory(UUID assetId, int limit, String cursor) {
+        int pageSize = Math.max(1, Math.min(limit, AssetService.MAX_PAGE_SIZE));
+        AssetHistoryCursor before = cursor == null || cursor.isBlank()
+                ? AssetHistoryCursor.LATEST : AssetHistoryCursor.decode(cursor);
+        // Fetch one extra row to know whether a next page exists without a count query
+        List<Entry> rows = repository.findByAssetBefore(assetId, before.id(), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Entry> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? new AssetHistoryCursor(page.get(page.size() - 1).id()).encode() : null;
+        return new CursorPageResponse<>(page.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
+    private AssetHistoryEntryResponse toResponse(Entry entry) {
+        return new AssetHistoryEntryResponse(AssetChangeType.valueOf(entry.changeType()), entry.changedAt(),
+                deserialize(entry.previousState()), deserialize(entry.currentState()));
+    }
+
+    private AssetResponse deserialize(String snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(snapshot, AssetResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
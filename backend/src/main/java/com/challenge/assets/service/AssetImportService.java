@@ -0,0 +1,376 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.AssetImportProperties;
+import com.challenge.assets.domain.AssetImportError;
+import com.challenge.assets.domain.AssetImportJob;
+import com.challenge.assets.domain.TimeOrderedUuidGenerator;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.domain.enums.ImportConflictMode;
+import com.challenge.assets.domain.enums.ImportJobState;
+import com.challenge.assets.dto.AssetImportErrorResponse;
+import com.challenge.assets.dto.AssetImportJobResponse;
+import com.challenge.assets.dto.AssetRequest;
+import com.challenge.assets.event.AssetsBulkImportedEvent;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.ImportJobNotFoundException;
+import com.challenge.assets.exception.ImportQueueFullException;
+import com.challenge.assets.mapper.AssetImportMapper;
+import com.challenge.assets.repository.AssetImportErrorRepository;
+import com.challenge.assets.repository.AssetImportJobRepository;
+import com.challenge.assets.repository.AssetImportStagingRepository;
+import com.challenge.assets.repository.AssetImportStagingRepository.MergeResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk CSV import pipeline: the uploaded file is parsed as a stream, each record is validated with the
+ * same constraints as {@link AssetRequest}, valid rows are COPYed into a staging table and merged into
+ * {@code assets} in one statement. Rejected rows go to the job's error report.
+ * Jobs run on a dedicated executor; progress is published to {@code asset_import_jobs} as the file is read.
+ * While a job runs, a heartbeat on the task scheduler refreshes its lease ({@code heartbeat_at}), so jobs left
+ * RUNNING by a stopped instance can be told apart and failed by {@link #failAbandonedJobs()}.
+ */
+@Slf4j
+@Service
+public class AssetImportService {
+
+    static final String COLUMN_NAME = "name";
+    static final String COLUMN_SERIAL_NUMBER = "serialnumber";
+    static final String COLUMN_ACQUISITION_DATE = "acquisitiondate";
+    static final String COLUMN_STATUS = "status";
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    static final String ABANDONED_MESSAGE = "Import abandoned: the instance running it stopped";
+
+    private final AssetImportJobRepository jobRepository;
+    private final AssetImportErrorRepository errorRepository;
+    private final AssetImportStagingRepository stagingRepository;
+    private final AssetImportMapper mapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final TaskScheduler scheduler;
+    private final AssetImportProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AssetImportService(AssetImportJobRepository jobRepository,
+                              AssetImportErrorRepository errorRepository,
+                              AssetImportStagingRepository stagingRepository,
+                              AssetImportMapper mapper,
+                              Validator validator,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier("assetImportExecutor") ThreadPoolTaskExecutor executor,
+                              TaskScheduler scheduler,
+                              AssetImportProperties properties,
+                              ApplicationEventPublisher eventPublisher) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.stagingRepository = stagingRepository;
+        this.mapper = mapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Registers an import job for the given file and queues it. The file is deleted once the job ends.
+     *
+     * @param file         uploaded CSV (header row required: name, serialNumber, acquisitionDate[, status])
+     * @param fileName     original file name, for reference only
+     * @param conflictMode how to treat serial numbers that already exist
+     * @return the queued job
+     * @throws ImportQueueFullException if no import slot or queue position is available
+     */
+    public AssetImportJobResponse submit(Path file, String fileName, ImportConflictMode conflictMode) {
+        AssetImportJob job = jobRepository.save(AssetImportJob.builder()
+                .id(UUID.randomUUID())
+                .fileName(fileName)
+                .conflictMode(conflictMode)
+                .state(ImportJobState.QUEUED)
+                .createdAt(OffsetDateTime.now())
+                .build());
+        try {
+            executor.execute(() -> run(job.getId(), file, conflictMode));
+        } catch (TaskRejectedException ex) {
+            deleteQuietly(file);
+            jobRepository.delete(job);
+            throw new ImportQueueFullException(ErrorCode.IMPORT_QUEUE_FULL);
+        }
+        return mapper.toResponse(job);
+    }
+
+    /**
+     * Returns an import job with its current progress.
+     *
+     * @throws ImportJobNotFoundException if not found
+     */
+    public AssetImportJobResponse findJob(UUID id) {
+        return jobRepository.findById(id)
+                .map(mapper::toResponse)
+                .orElseThrow(() -> new ImportJobNotFoundException(ErrorCode.IMPORT_NOT_FOUND, id));
+    }
+
+    /**
+     * Returns the recorded rejected rows of an import job, ordered by line number.
+     *
+     * @throws ImportJobNotFoundException if the job does not exist
+     */
+    public List<AssetImportErrorResponse> findErrors(UUID id) {
+        if (!jobRepository.existsById(id)) {
+            throw new ImportJobNotFoundException(ErrorCode.IMPORT_NOT_FOUND, id);
+        }
+        return errorRepository.findByJobIdOrderByLineNumberAsc(id, Pageable.ofSize(properties.maxErrors()))
+                .stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Marks RUNNING jobs whose lease expired as FAILED: the instance running them stopped before the import
+     * ended, and its transaction was rolled back. Jobs of live instances keep a fresh heartbeat.
+     *
+     * @return number of jobs marked FAILED
+     */
+    public int failAbandonedJobs() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int failed = jobRepository.failExpired(now.minus(properties.leaseTimeout()), now, ABANDONED_MESSAGE);
+        if (failed > 0) {
+            log.warn("Marked {} abandoned import jobs as FAILED", failed);
+        }
+        return failed;
+    }
+
+    void run(UUID jobId, Path file, ImportConflictMode conflictMode) {
+        AssetImportJob job = jobRepository.findById(jobId).orElseThrow();
+        OffsetDateTime startedAt = OffsetDateTime.now();
+        job.setState(ImportJobState.RUNNING);
+        job.setStartedAt(startedAt);
+        job.setHeartbeatAt(startedAt);
+        job = jobRepository.save(job);
+        ScheduledFuture<?> heartbeat = scheduler.scheduleAtFixedRate(() -> heartbeat(jobId),
+                startedAt.toInstant().plus(properties.heartbeatInterval()), properties.heartbeatInterval());
+        ImportProgress progress = new ImportProgress(jobId);
+        try {
+            MergeResult result = transactionTemplate.execute(status -> {
+                long staged = stagingRepository.stage(sink -> parse(file, progress, sink));
+                MergeResult merge = stagingRepository.merge(conflictMode, staged);
+                stagingRepository.recordHistory();
+                errorRepository.saveAll(progress.errors);
+                stagingRepository.reportRejectedRows(jobId, merge, properties.maxErrors() - progress.errors.size());
+                if (merge.inserted() + merge.updated() > 0) {
+                    // Pending JPA inserts would otherwise run at commit, after the outbox entry
+                    errorRepository.flush();
+                    stagingRepository.recordOutbox(jobId, merge);
+                }
+                return merge;
+            });
+            job.setState(ImportJobState.COMPLETED);
+            job.setRowsInserted(result.inserted());
+            job.setRowsUpdated(result.updated());
+            job.setRowsConflicted(result.conflicts() + result.duplicatesInFile());
+            log.info("Import {} completed: read={}, rejected={}, inserted={}, updated={}, conflicted={}",
+                    jobId, progress.rowsRead, progress.rowsRejected, result.inserted(), result.updated(),
+                    job.getRowsConflicted());
+            eventPublisher.publishEvent(new AssetsBulkImportedEvent(jobId, result.inserted(), result.updated()));
+        } catch (RuntimeException ex) {
+            log.error("Import {} failed", jobId, ex);
+            job.setState(ImportJobState.FAILED);
+            job.setErrorMessage(truncate(String.valueOf(ex.getMessage())));
+        } finally {
+            heartbeat.cancel(false);
+            job.setRowsRead(progress.rowsRead);
+            job.setRowsRejected(progress.rowsRejected);
+            job.setFinishedAt(OffsetDateTime.now());
+            jobRepository.save(job);
+            deleteQuietly(file);
+        }
+    }
+
+    private void heartbeat(UUID jobId) {
+        try {
+            jobRepository.heartbeat(jobId, OffsetDateTime.now());
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh the lease of import {}", jobId, ex);
+        }
+    }
+
+    private void parse(Path file, ImportProgress progress, AssetImportStagingRepository.StagingSink sink) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CsvRecordReader csv = new CsvRecordReader(reader);
+            Map<String, Integer> columns = readHeader(csv);
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                long line = csv.recordLine();
+                progress.rowsRead++;
+                RowResult row = toRequest(record, columns);
+                if (row.errors.isEmpty()) {
+                    AssetRequest request = row.request;
+                    AssetStatus status = request.status() != null ? request.status() : AssetStatus.AVAILABLE;
+                    sink.accept(line, TimeOrderedUuidGenerator.next(), request.name(), request.serialNumber(),
+                            request.acquisitionDate(), status.name());
+                } else {
+                    progress.reject(line, String.join("; ", row.errors));
+                }
+                if (progress.rowsRead % properties.progressInterval() == 0) {
+                    jobRepository.updateProgress(progress.jobId, progress.rowsRead, progress.rowsRejected);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the header row and maps the expected columns (case-insensitive) to their positions.
+     * Unknown columns (e.g. id, createdAt from an export) are ignored.
+     */
+    static Map<String, Integer> readHeader(CsvRecordReader csv) throws IOException {
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IOException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).strip().toLowerCase(Locale.ROOT);
+            // Spreadsheet exports often start with a UTF-8 byte order mark
+            if (i == 0 && column.startsWith("\uFEFF")) {
+                column = column.substring(1).strip();
+            }
+            columns.putIfAbsent(column, i);
+        }
+        for (String required : List.of(COLUMN_NAME, COLUMN_SERIAL_NUMBER, COLUMN_ACQUISITION_DATE)) {
+            if (!columns.containsKey(required)) {
+                throw new IOException("CSV header is missing required column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    RowResult toRequest(List<String> record, Map<String, Integer> columns) {
+        List<String> errors = new ArrayList<>(0);
+        OffsetDateTime acquisitionDate = null;
+        String rawDate = field(record, columns, COLUMN_ACQUISITION_DATE);
+        if (rawDate != null && !rawDate.isBlank()) {
+            acquisitionDate = parseDate(rawDate.strip());
+            if (acquisitionDate == null) {
+                errors.add("acquisitionDate must be an ISO-8601 date or date-time");
+            }
+        }
+        AssetStatus status = null;
+        String rawStatus = field(record, columns, COLUMN_STATUS);
+        if (rawStatus != null && !rawStatus.isBlank()) {
+            try {
+                status = AssetStatus.valueOf(rawStatus.strip().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                errors.add("status must be one of " + List.of(AssetStatus.values()));
+            }
+        }
+        AssetRequest request = new AssetRequest(
+                field(record, columns, COLUMN_NAME),
+                field(record, columns, COLUMN_SERIAL_NUMBER),
+                acquisitionDate,
+                status);
+        Set<ConstraintViolation<AssetRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            errors.addAll(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.toList()));
+        }
+        // A date that failed to parse is also reported by @NotNull; keep only the parse message
+        if (rawDate != null && !rawDate.isBlank() && acquisitionDate == null) {
+            errors.remove("acquisitionDate must not be null");
+        }
+        return new RowResult(request, errors);
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < record.size() ? record.get(index) : null;
+    }
+
+    private static OffsetDateTime parseDate(String value) {
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (DateTimeParseException ignored) {
+            // fall through to date-only
+        }
+        try {
+            return LocalDate.parse(value).atStartOfDay().atOffset(ZoneOffset.UTC);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete import file {}", file, ex);
+        }
+    }
+
+    record RowResult(AssetRequest request, List<String> errors) {}
+
+    /**
+     * Per-job counters and the bounded list of validation errors to persist.
+     */
+    private final class ImportProgress {
+        private final UUID jobId;
+        private final List<AssetImportError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long rowsRejected;
+
+        private ImportProgress(UUID jobId) {
+            this.jobId = jobId;
+        }
+
+        private void reject(long lineNumber, String message) {
+            rowsRejected++;
+            if (errors.size() < properties.maxErrors()) {
+                errors.add(AssetImportError.builder()
+                        .jobId(jobId)
+                        .lineNumber(lineNumber)
+                        .code(ErrorCode.VALIDATION_ERROR.getCode())
+                        .message(truncate(message))
+                        .build());
+            }
+        }
+    }
+}
@@ -1,33 +1,59 @@
 package com.challenge.assets.service;
 
+import com.challenge.assets.cache.AssetResponseCache;
 import com.challenge.assets.domain.Asset;
-import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetCursor;
+import com.challenge.assets.dto.AssetField;
+import com.challenge.assets.dto.AssetPageOrder;
+import com.challenge.assets.dto.AssetPatchRequest;
 import com.challenge.assets.dto.AssetRequest;
 import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.CursorPageResponse;
+import com.challenge.assets.event.AssetChangedEvent;
 import com.challenge.assets.exception.AssetAlreadyExistsException;
 import com.challenge.assets.exception.AssetNotFoundException;
+import com.challenge.assets.exception.AssetVersionMismatchException;
 import com.challenge.assets.exception.ErrorCode;
 import com.challenge.assets.mapper.AssetMapper;
+import com.challenge.assets.repository.AssetConstraints;
 import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.repository.AssetRepositoryCustom.AssetRevision;
+import com.challenge.assets.repository.AssetRepositoryCustom.CollectionStamp;
+import com.challenge.assets.repository.AssetSearchCriteria;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Business logic for Asset CRUD operations.
+ * Every write publishes an {@link AssetChangedEvent} inside its transaction; derived state (cache, etc.)
+ * is maintained by listeners.
  */
 @Service
 @RequiredArgsConstructor
 public class AssetService {
 
+    /**
+     * Upper bound for the page size of {@link #findPage}; larger requests are clamped.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final AssetRepository repository;
     private final AssetMapper mapper;
+    private final AssetResponseCache cache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Creates a new asset. Fails if serial number already exists.
+     * Creates a new asset with a single INSERT. Serial number uniqueness is left to the database constraint,
+     * which also settles concurrent creates of the same serial.
      *
      * @param request creation data
      * @return created asset response
@@ -35,73 +61,171 @@ public class AssetService {
      */
     @Transactional
     public AssetResponse create(AssetRequest request) {
-        if (repository.existsBySerialNumber(request.serialNumber())) {
-            throw new AssetAlreadyExistsException(ErrorCode.ASSET_SERIAL_DUPLICATE, request.serialNumber());
+        Asset entity;
+        try {
+            entity = repository.saveAndFlush(mapper.toEntity(request));
+        } catch (DataIntegrityViolationException ex) {
+            throw translateSerialConflict(ex, request.serialNumber());
         }
-        Asset entity = mapper.toEntity(request);
-        entity = repository.save(entity);
-        return mapper.toResponse(entity);
+        AssetResponse created = mapper.toResponse(entity);
+        eventPublisher.publishEvent(AssetChangedEvent.created(created));
+        return created;
     }
 
     /**
-     * Returns assets with optional filters. All parameters are optional; when null, no filter is applied.
+     * Returns assets with optional filters. Null or blank filters are not applied; archived assets are only
+     * included when the criteria ask for them.
      *
-     * @param name         optional filter for name (partial, case-insensitive)
-     * @param serialNumber optional filter for serial number (partial, case-insensitive)
-     * @param status       optional filter for exact status match
+     * @param criteria optional filters
      * @return list of matching assets
      */
     @Transactional(readOnly = true)
-    public List<AssetResponse> findAll(String name, String serialNumber, AssetStatus status) {
-        String searchName = name == null ? "" : name;
-        String searchSerial = serialNumber == null ? "" : serialNumber;
-        return repository.findWithFilters(searchName, searchSerial, status)
+    public List<AssetResponse> findAll(AssetSearchCriteria criteria) {
+        return repository.findWithFilters(criteria)
                 .stream()
                 .map(mapper::toResponse)
                 .toList();
     }
 
     /**
-     * Returns an asset by ID.
+     * Returns assets with optional filters, restricted to the requested fields. The query selects only those
+     * columns into tuples, skipping entity hydration, dirty-checking snapshots and the mapper.
      *
-     * @throws AssetNotFoundException if not found
+     * @param criteria optional filters
+     * @param fields   comma-separated {@link AssetField} JSON names; the ID is always included
+     * @return one field-to-value map per matching asset
+     * @throws com.challenge.assets.exception.InvalidFieldsException if a field is unknown
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAllFields(AssetSearchCriteria criteria, String fields) {
+        List<String> attributes = AssetField.parse(fields).stream().map(AssetField::getJsonName).toList();
+        return repository.findProjectionWithFilters(criteria, attributes);
+    }
+
+    /**
+     * Returns the validator of the filtered asset collection: row count and latest {@code updated_at},
+     * computed by one aggregate query over the indexes, without hydrating rows.
+     * Lets {@code GET /assets} answer 304 before running the listing query.
+     *
+     * @param criteria optional filters
+     * @return count and max(updated_at) of the matching assets
      */
     @Transactional(readOnly = true)
+    public CollectionStamp collectionStamp(AssetSearchCriteria criteria) {
+        return repository.findCollectionStamp(criteria);
+    }
+
+    /**
+     * Returns one keyset page of assets with optional filters, ordered by (createdAt, id) or by id alone.
+     * Each page is a bounded index seek after the cursor position, so latency does not grow with depth.
+     *
+     * @param criteria optional filters
+     * @param limit    requested page size, clamped to [1, {@link #MAX_PAGE_SIZE}]
+     * @param cursor   opaque cursor from a previous page of the same order; null or blank for the first page
+     * @param order    page ordering; null means {@link AssetPageOrder#CREATED_AT}
+     * @return the page and the cursor for the next one (null when there are no more rows)
+     * @throws com.challenge.assets.exception.InvalidCursorException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AssetResponse> findPage(AssetSearchCriteria criteria, int limit, String cursor,
+                                                      AssetPageOrder order) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        AssetCursor after = cursor == null || cursor.isBlank() ? null : AssetCursor.decode(cursor);
+        // Fetch one extra row to know whether a next page exists without a count query
+        List<Asset> rows = order == AssetPageOrder.ID
+                ? repository.findPageById(criteria, after != null ? after.id() : null, pageSize + 1)
+                : repository.findPage(criteria,
+                        after != null ? after.createdAt() : null,
+                        after != null ? after.id() : null,
+                        pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Asset> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? AssetCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(page.stream().map(mapper::toResponse).toList(), nextCursor);
+    }
+
+    /**
+     * Returns an asset by ID, served from {@link AssetResponseCache} when possible.
+     * Not transactional on purpose: a cache hit never borrows a connection; a miss runs the repository's
+     * own read-only transaction. Unknown IDs are cached too, so repeated misses do not reach the database.
+     *
+     * @throws AssetNotFoundException if not found
+     */
     public AssetResponse findById(UUID id) {
-        Asset asset = repository.findById(id)
+        return cache.get(id, this::load)
                 .orElseThrow(() -> new AssetNotFoundException(ErrorCode.ASSET_NOT_FOUND, id));
-        return mapper.toResponse(asset);
+    }
+
+    private Optional<AssetResponse> load(UUID id) {
+        return repository.findById(id).map(mapper::toResponse);
     }
 
     /**
-     * Updates an asset by ID. Fails if not found or if new serial number is already used by another asset.
+     * Updates an asset by ID with a single {@code UPDATE ... RETURNING}. Fails if not found or if new serial number
+     * is already used by another asset (detected by the unique constraint).
      *
-     * @throws AssetNotFoundException     if asset not found
-     * @throws AssetAlreadyExistsException if serial number is duplicate (for another asset)
+     * @param expectedVersion version from {@code If-Match}; null for an unconditional update
+     * @throws AssetNotFoundException        if asset not found
+     * @throws AssetAlreadyExistsException   if serial number is duplicate (for another asset)
+     * @throws AssetVersionMismatchException if {@code expectedVersion} is no longer current
      */
     @Transactional
-    public AssetResponse update(UUID id, AssetRequest request) {
-        Asset existing = repository.findById(id)
-                .orElseThrow(() -> new AssetNotFoundException(ErrorCode.ASSET_NOT_FOUND, id));
-        if (repository.existsBySerialNumberAndIdNot(request.serialNumber(), id)) {
-            throw new AssetAlreadyExistsException(ErrorCode.ASSET_SERIAL_DUPLICATE, request.serialNumber());
+    public AssetResponse update(UUID id, AssetRequest request, Long expectedVersion) {
+        return applyChanges(id, mapper.toEntity(request), expectedVersion);
+    }
+
+    /**
+     * Partially updates an asset: only the fields present in the request are written, in one
+     * {@code UPDATE ... WHERE id = ? [AND version = ?]}. Lets clients change e.g. the status without reading first.
+     *
+     * @param expectedVersion version from {@code If-Match}; null for an unconditional update
+     * @throws AssetNotFoundException        if asset not found
+     * @throws AssetAlreadyExistsException   if serial number is duplicate (for another asset)
+     * @throws AssetVersionMismatchException if {@code expectedVersion} is no longer current
+     */
+    @Transactional
+    public AssetResponse patch(UUID id, AssetPatchRequest request, Long expectedVersion) {
+        return applyChanges(id, mapper.toChanges(request), expectedVersion);
+    }
+
+    private AssetResponse applyChanges(UUID id, Asset changes, Long expectedVersion) {
+        Optional<AssetRevision> revision;
+        try {
+            revision = repository.updateReturning(id, changes, expectedVersion, OffsetDateTime.now());
+        } catch (DataIntegrityViolationException ex) {
+            throw translateSerialConflict(ex, changes.getSerialNumber());
+        }
+        if (revision.isEmpty()) {
+            // Nothing matched: tell a stale If-Match apart from a missing asset (only on this failure path).
+            if (expectedVersion != null && repository.existsById(id)) {
+                throw new AssetVersionMismatchException(ErrorCode.ASSET_VERSION_MISMATCH, id);
+            }
+            throw new AssetNotFoundException(ErrorCode.ASSET_NOT_FOUND, id);
         }
-        Asset toSave = mapper.toEntity(request);
-        toSave.setId(existing.getId());
-        toSave.setCreatedAt(existing.getCreatedAt());
-        return mapper.toResponse(repository.save(toSave));
+        AssetResponse updated = mapper.toResponse(revision.get().current());
+        eventPublisher.publishEvent(AssetChangedEvent.updated(mapper.toResponse(revision.get().previous()), updated));
+        return updated;
     }
 
     /**
-     * Deletes an asset by ID.
+     * Deletes an asset by ID with a single {@code DELETE ... RETURNING}, which also records its tombstone for delta sync.
      *
      * @throws AssetNotFoundException if not found
      */
     @Transactional
     public void deleteById(UUID id) {
-        if (!repository.existsById(id)) {
-            throw new AssetNotFoundException(ErrorCode.DELETE_ASSET_NOT_FOUND, id);
+        Asset deleted = repository.deleteReturning(id, OffsetDateTime.now())
+                .orElseThrow(() -> new AssetNotFoundException(ErrorCode.DELETE_ASSET_NOT_FOUND, id));
+        eventPublisher.publishEvent(AssetChangedEvent.deleted(mapper.toResponse(deleted)));
+    }
+
+    /**
+     * Maps a unique violation on the serial number to {@link AssetAlreadyExistsException}; anything else is rethrown.
+     */
+    private static RuntimeException translateSerialConflict(DataIntegrityViolationException ex, String serialNumber) {
+        if (AssetConstraints.isSerialNumberViolation(ex)) {
+            return new AssetAlreadyExistsException(ErrorCode.ASSET_SERIAL_DUPLICATE, serialNumber);
         }
-        repository.deleteById(id);
+        return ex;
     }
 }
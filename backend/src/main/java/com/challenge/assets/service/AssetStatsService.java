@@ -0,0 +1,103 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.domain.enums.AssetCounterDimension;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetStatsResponse;
+import com.challenge.assets.repository.AssetCounterRepository;
+import com.challenge.assets.repository.AssetCounterRepository.CounterKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Serves asset aggregates from {@code asset_counters}, whose size depends on the number of statuses and
+ * acquisition months rather than on the number of assets, and repairs those counters when they drift.
+ */
+@Slf4j
+@Service
+public class AssetStatsService {
+
+    private final AssetCounterRepository counterRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Counter driftCounter;
+
+    public AssetStatsService(AssetCounterRepository counterRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.counterRepository = counterRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.driftCounter = Counter.builder("assets.counters.drift")
+                .description("Counter buckets found out of sync with the assets table and repaired")
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public AssetStatsResponse getStats() {
+        Map<AssetStatus, Long> byStatus = new EnumMap<>(AssetStatus.class);
+        for (AssetStatus status : AssetStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<String, Long> byYear = new TreeMap<>();
+        Map<String, Long> byMonth = new TreeMap<>();
+        long total = 0;
+        for (Map.Entry<CounterKey, Long> counter : counterRepository.findAll().entrySet()) {
+            String bucket = counter.getKey().bucket();
+            long count = counter.getValue();
+            if (counter.getKey().dimension() == AssetCounterDimension.STATUS) {
+                byStatus.put(AssetStatus.valueOf(bucket), count);
+                total += count;
+            } else {
+                byMonth.put(bucket, count);
+                byYear.merge(bucket.substring(0, bucket.indexOf('-')), count, Long::sum);
+            }
+        }
+        return new AssetStatsResponse(total, byStatus, byYear, byMonth);
+    }
+
+    /**
+     * Compares the counters with a fresh aggregate of {@code assets} and applies the difference as deltas.
+     * Both sides are read from one repeatable-read snapshot, so the correction is exact for that snapshot,
+     * and because it is applied relatively it does not undo writes that committed in the meantime.
+     *
+     * @return number of counter buckets that had drifted
+     */
+    public int reconcile() {
+        SortedMap<CounterKey, Long> corrections = snapshotTransaction.execute(status -> {
+            Map<CounterKey, Long> stored = counterRepository.findAll();
+            Map<CounterKey, Long> actual = counterRepository.aggregateAssets();
+            Set<CounterKey> keys = new HashSet<>(stored.keySet());
+            keys.addAll(actual.keySet());
+            SortedMap<CounterKey, Long> diff = new TreeMap<>(CounterKey.ORDER);
+            for (CounterKey key : keys) {
+                long delta = actual.getOrDefault(key, 0L) - stored.getOrDefault(key, 0L);
+                if (delta != 0) {
+                    diff.put(key, delta);
+                }
+            }
+            return diff;
+        });
+        if (corrections == null || corrections.isEmpty()) {
+            return 0;
+        }
+        log.warn("Asset counters drifted in {} bucket(s), applying corrections: {}", corrections.size(), corrections);
+        writeTransaction.executeWithoutResult(status -> counterRepository.increment(corrections));
+        driftCounter.increment(corrections.size());
+        return corrections.size();
+    }
+}
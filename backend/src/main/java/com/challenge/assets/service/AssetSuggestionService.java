@@ -0,0 +1,61 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.dto.AssetSuggestion;
+import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.suggest.AssetSuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead over serial numbers and names, answered from {@link AssetSuggestionIndex} without touching the
+ * database. The index is loaded from the table by {@link #rebuildIndex()}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetSuggestionService {
+
+    /**
+     * Upper bound for the number of suggestions; larger requests are clamped.
+     */
+    public static final int MAX_SUGGESTIONS = 50;
+
+    private final AssetSuggestionIndex index;
+    private final AssetRepository repository;
+
+    /**
+     * Returns assets whose serial number, then name, starts with {@code prefix} (case-insensitive).
+     *
+     * @param prefix typed text; blank returns no suggestions
+     * @param limit  requested number of suggestions, clamped to [1, {@link #MAX_SUGGESTIONS}]
+     * @return serial number matches first, then name matches, each in alphabetical order
+     */
+    public List<AssetSuggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return index.suggest(prefix.strip(), Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * Reloads the index from a projection of the assets table.
+     */
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        long start = System.nanoTime();
+        boolean rebuilt = index.rebuild(() -> {
+            try (Stream<AssetSuggestion> rows = repository.streamSuggestions()) {
+                return rows.toList();
+            }
+        });
+        if (rebuilt) {
+            log.debug("Asset suggestion index rebuilt: {} entries, ~{} bytes, {} ms", index.size(),
+                    index.estimatedBytes(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.AssetImportProperties;
+import com.challenge.assets.config.AssetSyncProperties;
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.domain.enums.ImportJobState;
+import com.challenge.assets.dto.AssetChangesResponse;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.AssetSyncWatermark;
+import com.challenge.assets.dto.AssetTombstoneResponse;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.SyncWatermarkExpiredException;
+import com.challenge.assets.mapper.AssetMapper;
+import com.challenge.assets.repository.AssetImportJobRepository;
+import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.repository.AssetTombstoneRepository;
+import com.challenge.assets.repository.AssetTombstoneRepository.Tombstone;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync: what changed after a client's watermark, as upserts (from the {@code updated_at} index) and
+ * tombstones (from {@code asset_tombstones}), merged in one (changedAt, id) order. The cost of a call depends on
+ * the number of changes since the watermark, not on the size of the inventory.
+ * <p>
+ * Timestamps are taken before their transaction commits, so the watermark never moves past
+ * {@code now - settleWindow}, nor past the start of a running import, whose rows stay invisible until the
+ * whole import commits. Anything at or before the returned watermark is therefore already visible. Imports whose
+ * lease expired were left behind by a stopped instance and rolled back, so they do not hold the watermark.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetSyncService {
+
+    private final AssetRepository repository;
+    private final AssetTombstoneRepository tombstoneRepository;
+    private final AssetImportJobRepository jobRepository;
+    private final AssetMapper mapper;
+    private final AssetSyncProperties properties;
+    private final AssetImportProperties importProperties;
+
+    /**
+     * Returns up to {@code limit} changes after the watermark {@code since}.
+     *
+     * @param since watermark from a previous call ({@code nextSince}); null or blank to start from the beginning
+     * @param limit requested number of changes, clamped to [1, {@link AssetService#MAX_PAGE_SIZE}]
+     * @return the changes and the watermark for the next call
+     * @throws com.challenge.assets.exception.InvalidCursorException if the watermark is malformed
+     * @throws SyncWatermarkExpiredException if the watermark is older than the tombstone retention
+     */
+    @Transactional(readOnly = true)
+    public AssetChangesResponse findChanges(String since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, AssetService.MAX_PAGE_SIZE));
+        boolean initial = since == null || since.isBlank();
+        AssetSyncWatermark after = initial ? AssetSyncWatermark.ORIGIN : AssetSyncWatermark.decode(since);
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (!initial && after.changedAt().isBefore(now.minus(properties.tombstoneRetention()))) {
+            throw new SyncWatermarkExpiredException(ErrorCode.SYNC_WATERMARK_EXPIRED, after.changedAt());
+        }
+        OffsetDateTime upTo = visibleUpTo(now);
+
+        List<Asset> assets = repository.findChangedAfter(after.changedAt(), after.id(), upTo, pageSize + 1);
+        List<Tombstone> tombstones = tombstoneRepository.findAfter(after.changedAt(), after.id(), upTo, pageSize + 1);
+
+        List<AssetResponse> upserted = new ArrayList<>();
+        List<AssetTombstoneResponse> deleted = new ArrayList<>();
+        AssetSyncWatermark last = null;
+        int a = 0;
+        int t = 0;
+        while (upserted.size() + deleted.size() < pageSize && (a < assets.size() || t < tombstones.size())) {
+            AssetSyncWatermark nextAsset = a < assets.size()
+                    ? new AssetSyncWatermark(assets.get(a).getUpdatedAt(), assets.get(a).getId()) : null;
+            AssetSyncWatermark nextTombstone = t < tombstones.size()
+                    ? new AssetSyncWatermark(tombstones.get(t).deletedAt(), tombstones.get(t).assetId()) : null;
+            if (nextTombstone == null || (nextAsset != null && AssetSyncWatermark.ORDER.compare(nextAsset, nextTombstone) < 0)) {
+                upserted.add(mapper.toResponse(assets.get(a++)));
+                last = nextAsset;
+            } else {
+                Tombstone tombstone = tombstones.get(t++);
+                deleted.add(new AssetTombstoneResponse(tombstone.assetId(), tombstone.deletedAt()));
+                last = nextTombstone;
+            }
+        }
+        boolean hasMore = a < assets.size() || t < tombstones.size();
+
+        // Without more changes, jump to the visibility bound so idle clients do not fall behind the retention.
+        AssetSyncWatermark next = hasMore ? last : new AssetSyncWatermark(upTo, AssetSyncWatermark.MAX_ID);
+        if (AssetSyncWatermark.ORDER.compare(next, after) < 0) {
+            next = after;
+        }
+        return new AssetChangesResponse(upserted, deleted, next.encode(), hasMore);
+    }
+
+    /**
+     * Deletes tombstones older than the retention.
+     *
+     * @return number of tombstones deleted
+     */
+    @Transactional
+    public int purgeTombstones() {
+        int purged = tombstoneRepository.deleteDeletedBefore(OffsetDateTime.now().minus(properties.tombstoneRetention()));
+        if (purged > 0) {
+            log.info("Purged {} asset tombstones", purged);
+        }
+        return purged;
+    }
+
+    /**
+     * Latest change timestamp guaranteed to be committed: {@code now - settleWindow}, held just before the
+     * start of the oldest running import with a live lease.
+     */
+    private OffsetDateTime visibleUpTo(OffsetDateTime now) {
+        OffsetDateTime upTo = now.minus(properties.settleWindow());
+        OffsetDateTime importStartedAt = jobRepository.findEarliestStartedAt(ImportJobState.RUNNING,
+                now.minus(importProperties.leaseTimeout()));
+        if (importStartedAt != null && !importStartedAt.isAfter(upTo)) {
+            upTo = importStartedAt.minus(1, ChronoUnit.MICROS);
+        }
+        return upTo;
+    }
+}
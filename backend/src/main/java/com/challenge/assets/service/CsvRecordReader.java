@@ -0,0 +1,107 @@
+package com.challenge.assets.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: quoted fields, doubled quotes and line breaks inside quotes.
+ * Reads one record at a time, so memory is bounded by the longest record, not the file.
+ */
+class CsvRecordReader {
+
+    private final Reader reader;
+    private long line = 1;
+    private long recordLine;
+    private int pushedBack = -2;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the 1-based line on which the record last returned by {@link #next()} starts.
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record fields, or null at end of input
+     * @throws IOException on read failure or an unterminated quoted field
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean atFieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && atFieldStart) {
+                quoted = true;
+                atFieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                atFieldStart = true;
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '\r') {
+                int following = read();
+                if (following != '\n') {
+                    unread(following);
+                }
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                atFieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
@@ -0,0 +1,89 @@
+package com.challenge.assets.stats;
+
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.event.AssetsBulkImportedEvent;
+import com.challenge.assets.repository.AssetCounterRepository;
+import com.challenge.assets.repository.AssetCounterRepository.CounterKey;
+import com.challenge.assets.service.AssetStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Keeps {@code asset_counters} in step with asset writes. Deltas from every {@link AssetChangedEvent} of a
+ * transaction are summed and written just before it commits, in the same transaction and with one statement,
+ * so a batch of N creates costs one counter write and a rolled-back write never touches the counters.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetCounterListener {
+
+    private final AssetCounterRepository counterRepository;
+    private final AssetStatsService statsService;
+
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counterRepository.increment(new PendingDeltas(counterRepository).add(event).deltas);
+            return;
+        }
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(PendingDeltas.class);
+        if (pending == null) {
+            pending = new PendingDeltas(counterRepository);
+            TransactionSynchronizationManager.bindResource(PendingDeltas.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(event);
+    }
+
+    /**
+     * Bulk imports bypass per-asset events, so their effect on the counters is recomputed from the table.
+     */
+    @EventListener
+    public void onBulkImport(AssetsBulkImportedEvent event) {
+        if (event.inserted() > 0 || event.updated() > 0) {
+            statsService.reconcile();
+        }
+    }
+
+    private static final class PendingDeltas implements TransactionSynchronization {
+
+        private final AssetCounterRepository repository;
+        private final SortedMap<CounterKey, Long> deltas = new TreeMap<>(CounterKey.ORDER);
+
+        private PendingDeltas(AssetCounterRepository repository) {
+            this.repository = repository;
+        }
+
+        PendingDeltas add(AssetChangedEvent event) {
+            apply(event.previous(), -1);
+            apply(event.current(), 1);
+            deltas.values().removeIf(delta -> delta == 0);
+            return this;
+        }
+
+        private void apply(AssetResponse asset, long sign) {
+            if (asset == null) {
+                return;
+            }
+            deltas.merge(CounterKey.status(asset.status()), sign, Long::sum);
+            deltas.merge(CounterKey.acquisitionMonth(asset.acquisitionDate()), sign, Long::sum);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            repository.increment(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingDeltas.class);
+        }
+    }
+}
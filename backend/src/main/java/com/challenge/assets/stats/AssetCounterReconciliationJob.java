@@ -0,0 +1,30 @@
+package com.challenge.assets.stats;
+
+import com.challenge.assets.service.AssetStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills {@code asset_counters} shortly after startup (the migration creates it empty) and then periodically
+ * detects and repairs drift, e.g. from writes made outside the application.
+ * Runs on every instance; a correction applied twice by overlapping runs is itself repaired by the next run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetCounterReconciliationJob {
+
+    private final AssetStatsService statsService;
+
+    @Scheduled(initialDelayString = "${assets.stats.reconcile-initial-delay:PT10S}",
+            fixedDelayString = "${assets.stats.reconcile-interval:PT1H}")
+    public void reconcile() {
+        try {
+            statsService.reconcile();
+        } catch (RuntimeException ex) {
+            log.error("Asset counter reconciliation failed", ex);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Maintenance of the {@code asset_counters} aggregates: per-transaction deltas and periodic reconciliation.
+ */
+package com.challenge.assets.stats;
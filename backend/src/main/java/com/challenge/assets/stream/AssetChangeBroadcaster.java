@@ -0,0 +1,220 @@
+package com.challenge.assets.stream;
+
+import com.challenge.assets.config.AssetStreamProperties;
+import com.challenge.assets.repository.AssetOutboxRepository.Entry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans relayed outbox entries out to {@code GET /assets/stream} subscribers.
+ * <ul>
+ *   <li>Each subscriber has a bounded queue drained by the shared sender executor. A subscriber whose queue
+ *       is full is disconnected rather than slowing down the others; its browser reconnects and resumes.</li>
+ *   <li>The last {@code replayCapacity} events stay in memory. A client reconnecting with {@code Last-Event-ID}
+ *       gets the events it missed from there, or a {@code reset} event (refetch the list) when they are no
+ *       longer available or would not fit in its queue.</li>
+ *   <li>Bulk imports are relayed as a single {@code reset} event with the job's counters, so an import of any
+ *       size costs one slot per queue.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AssetChangeBroadcaster {
+
+    static final String RESET_EVENT = "reset";
+
+    private final AssetStreamProperties properties;
+    private final Executor sender;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+
+    // Guarded by this: recent events, the id just before the oldest of them, and the id of the newest
+    private final Deque<StreamEvent> recent = new ArrayDeque<>();
+    private long replayFloor = -1;
+    private long lastEventId = -1;
+
+    public AssetChangeBroadcaster(AssetStreamProperties properties,
+                                  @Qualifier("assetStreamExecutor") Executor sender,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sender = sender;
+        Gauge.builder("assets.stream.subscribers", subscribers, Set::size)
+                .description("Open GET /assets/stream connections")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("assets.stream.dropped")
+                .description("Subscribers disconnected because their event buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sets the feed position once the relay knows where the outbox ends.
+     */
+    public synchronized void start(long lastEventId) {
+        this.lastEventId = lastEventId;
+        this.replayFloor = lastEventId;
+    }
+
+    /**
+     * Opens a stream that receives every event published after this call.
+     *
+     * @param resumeAfter {@code Last-Event-ID} sent by a reconnecting client, or null for a fresh stream
+     */
+    public SseEmitter subscribe(Long resumeAfter) {
+        SseEmitter emitter = createEmitter(properties.emitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, properties.subscriberBuffer());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        synchronized (this) {
+            if (resumeAfter != null) {
+                replay(subscriber, resumeAfter);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Queues an outbox entry for every subscriber. Called by the relay, one entry at a time and in id order.
+     */
+    public void publish(Entry entry) {
+        StreamEvent event = new StreamEvent(entry.id(), entry.eventType().toLowerCase(Locale.ROOT), entry.payload());
+        List<Subscriber> targets;
+        synchronized (this) {
+            recent.addLast(event);
+            if (recent.size() > properties.replayCapacity()) {
+                replayFloor = recent.removeFirst().id();
+            }
+            lastEventId = entry.id();
+            targets = List.copyOf(subscribers);
+        }
+        targets.forEach(subscriber -> deliver(subscriber, event));
+    }
+
+    /**
+     * Sends an SSE comment to every subscriber so idle connections are not closed by proxies.
+     */
+    public void heartbeat() {
+        List.copyOf(subscribers).forEach(subscriber -> deliver(subscriber, StreamEvent.HEARTBEAT));
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void replay(Subscriber subscriber, long resumeAfter) {
+        if (resumeAfter >= lastEventId && lastEventId >= 0) {
+            subscriber.skipUntil(resumeAfter);
+            return;
+        }
+        List<StreamEvent> missed = recent.stream().filter(event -> event.id() > resumeAfter).toList();
+        if (replayFloor < 0 || resumeAfter < replayFloor || missed.size() > properties.subscriberBuffer()) {
+            subscriber.offer(new StreamEvent(Math.max(lastEventId, 0), RESET_EVENT, "{}"));
+            return;
+        }
+        missed.forEach(subscriber::offer);
+    }
+
+    private void deliver(Subscriber subscriber, StreamEvent event) {
+        if (subscriber.offer(event)) {
+            subscriber.schedule();
+            return;
+        }
+        if (subscribers.remove(subscriber)) {
+            dropped.increment();
+            log.debug("Disconnecting slow change feed subscriber ({} events queued)", properties.subscriberBuffer());
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * One SSE message; {@link #HEARTBEAT} is written as a comment line.
+     */
+    record StreamEvent(long id, String name, String data) {
+
+        static final StreamEvent HEARTBEAT = new StreamEvent(-1, null, null);
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Highest event id queued; later duplicates (replay overlapping a publish) are skipped
+        private volatile long queuedUntil = -1;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void skipUntil(long id) {
+            queuedUntil = id;
+        }
+
+        boolean offer(StreamEvent event) {
+            if (event != StreamEvent.HEARTBEAT) {
+                if (event.id() <= queuedUntil) {
+                    return true;
+                }
+                if (!queue.offer(event)) {
+                    return false;
+                }
+                queuedUntil = event.id();
+                return true;
+            }
+            return queue.offer(event);
+        }
+
+        void schedule() {
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event.toSse());
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away or the emitter already completed
+                subscribers.remove(this);
+                queue.clear();
+            } finally {
+                draining.set(false);
+            }
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.challenge.assets.stream;
+
+import com.challenge.assets.config.AssetStreamProperties;
+import com.challenge.assets.repository.AssetOutboxRepository;
+import com.challenge.assets.repository.AssetOutboxRepository.Entry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Polls {@code asset_outbox} forward by id and hands new entries to the {@link AssetChangeBroadcaster}.
+ * Every instance relays the whole outbox to its own subscribers, so database load depends on the number of
+ * instances and the poll interval, never on the number of open streams.
+ * <p>
+ * Ids are allocated before commit, so a lower id can become visible after a higher one. The relay therefore
+ * stops at a missing id until the entry after the gap is older than {@code gapTimeout}, then assumes the
+ * missing id belongs to a rolled-back transaction and moves on.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetOutboxRelay {
+
+    private final AssetOutboxRepository outboxRepository;
+    private final AssetChangeBroadcaster broadcaster;
+    private final AssetStreamProperties properties;
+
+    private long lastId = -1;
+
+    @Scheduled(fixedDelayString = "${assets.stream.poll-interval:PT0.5S}")
+    public void poll() {
+        try {
+            if (lastId < 0) {
+                // Start from the current end of the outbox; history is not replayed to new instances
+                lastId = outboxRepository.findMaxId();
+                broadcaster.start(lastId);
+                return;
+            }
+            boolean more = true;
+            while (more) {
+                List<Entry> entries = outboxRepository.findAfter(lastId, properties.batchSize());
+                int relayed = relay(entries, OffsetDateTime.now().minus(properties.gapTimeout()));
+                more = relayed == properties.batchSize();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Asset outbox relay failed, retrying on next poll", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${assets.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        broadcaster.heartbeat();
+    }
+
+    @Scheduled(fixedDelayString = "${assets.stream.purge-interval:PT1H}")
+    public void purge() {
+        try {
+            int purged = outboxRepository.deleteCreatedBefore(OffsetDateTime.now().minus(properties.retention()));
+            if (purged > 0) {
+                log.info("Purged {} asset outbox entries", purged);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Asset outbox purge failed", ex);
+        }
+    }
+
+    /**
+     * Publishes entries in order up to the first gap that is still recent.
+     *
+     * @return number of entries published
+     */
+    int relay(List<Entry> entries, OffsetDateTime gapDeadline) {
+        int relayed = 0;
+        for (Entry entry : entries) {
+            if (entry.id() != lastId + 1 && entry.createdAt().isAfter(gapDeadline)) {
+                break;
+            }
+            broadcaster.publish(entry);
+            lastId = entry.id();
+            relayed++;
+        }
+        return relayed;
+    }
+}
@@ -0,0 +1,80 @@
+package com.challenge.assets.stream;
+
+import com.challenge.assets.dto.AssetChangeMessage;
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.repository.AssetOutboxRepository;
+import com.challenge.assets.repository.AssetOutboxRepository.NewEntry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends every {@link AssetChangedEvent} to {@code asset_outbox} in the transaction that made the change, so the
+ * feed carries exactly the committed changes. Entries are serialized once here and written as one JDBC batch
+ * just before commit.
+ * <p>
+ * Bulk imports publish no per-asset events; the import itself writes one reset entry
+ * ({@link com.challenge.assets.repository.AssetImportStagingRepository#recordOutbox}).
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetOutboxWriter {
+
+    private final AssetOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        NewEntry entry = toEntry(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.insert(List.of(entry));
+            return;
+        }
+        PendingEntries pending = (PendingEntries) TransactionSynchronizationManager.getResource(PendingEntries.class);
+        if (pending == null) {
+            pending = new PendingEntries(outboxRepository);
+            TransactionSynchronizationManager.bindResource(PendingEntries.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.entries.add(entry);
+    }
+
+    private NewEntry toEntry(AssetChangedEvent event) {
+        AssetChangeMessage message = new AssetChangeMessage(event.type(), event.assetId(), event.current());
+        try {
+            return new NewEntry(event.type().name(), event.assetId(), objectMapper.writeValueAsString(message),
+                    OffsetDateTime.now());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static final class PendingEntries implements TransactionSynchronization {
+
+        private final AssetOutboxRepository repository;
+        private final List<NewEntry> entries = new ArrayList<>();
+
+        private PendingEntries(AssetOutboxRepository repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            repository.insert(entries);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingEntries.class);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Asset change feed: transactional outbox writer, outbox relay and SSE fan-out to subscribers.
+ */
+package com.challenge.assets.stream;
@@ -0,0 +1,279 @@
+package com.challenge.assets.suggest;
+
+import com.challenge.assets.dto.AssetSuggestion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory prefix index over serial numbers and names for typeahead. Each field is a skip list of
+ * {@link AssetSuggestion} references (one object per asset, names interned), ordered case-insensitively, so a
+ * lookup is a ceiling search followed by a scan of at most {@code limit} entries, and a committed write costs
+ * O(log N) per changed asset.
+ * <p>
+ * Readers and writers do not block each other: writers share a read lock that only a rebuild takes exclusively,
+ * for the moment it swaps in the reloaded entries. A reader may see a transaction's changes partly applied.
+ * Memory is exposed as {@code assets.suggest.index.entries} and {@code assets.suggest.index.bytes} (an estimate
+ * assuming compressed references and Latin-1 strings).
+ */
+@Component
+public class AssetSuggestionIndex implements MeterBinder {
+
+    private static final Comparator<String> IGNORE_CASE = String.CASE_INSENSITIVE_ORDER;
+    private static final Comparator<AssetSuggestion> BY_SERIAL = order(AssetSuggestion::serialNumber, null);
+    private static final Comparator<AssetSuggestion> BY_NAME = order(AssetSuggestion::name, BY_SERIAL);
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private volatile Entries entries = Entries.of(List.of());
+    /** Changes applied while a rebuild reads the table; replayed on top of the rebuilt entries. */
+    private volatile Queue<Map<UUID, AssetSuggestion>> changesDuringRebuild;
+    /** Set when a rebuild is asked for while another runs; the running one then loads the table again. */
+    private boolean rebuildRequested;
+
+    /**
+     * Up to {@code limit} assets whose serial number, then name, starts with {@code prefix} (case-insensitive).
+     * Serial number matches come first; each group is in alphabetical order.
+     */
+    public List<AssetSuggestion> suggest(String prefix, int limit) {
+        Entries current = entries;
+        List<AssetSuggestion> matches = new ArrayList<>(Math.min(limit, 16));
+        collect(current.bySerial, AssetSuggestion::serialNumber, new AssetSuggestion(null, prefix, prefix), limit, matches);
+        collect(current.byName, AssetSuggestion::name, new AssetSuggestion(null, prefix, prefix), limit, matches);
+        return matches;
+    }
+
+    /**
+     * Applies the committed changes of one transaction.
+     *
+     * @param changes latest state per asset ID; a null value removes the asset
+     */
+    public void apply(Map<UUID, AssetSuggestion> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            Queue<Map<UUID, AssetSuggestion>> pending = changesDuringRebuild;
+            if (pending != null) {
+                pending.add(changes);
+            }
+            entries.apply(changes);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the index with the rows returned by {@code loader}. Changes applied while the loader runs are
+     * replayed afterwards, so a write that committed after the loader's snapshot is not lost.
+     * If another rebuild is in progress, that one runs its loader again once done instead, so rows committed
+     * after its loader started (e.g. by a bulk import) are not left out until the next periodic rebuild.
+     *
+     * @return false if handed over to the rebuild in progress
+     */
+    public boolean rebuild(Supplier<List<AssetSuggestion>> loader) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                rebuildRequested = true;
+                return false;
+            }
+            changesDuringRebuild = new ConcurrentLinkedQueue<>();
+        }
+        try {
+            do {
+                Entries rebuilt = Entries.of(loader.get());
+                swapLock.writeLock().lock();
+                try {
+                    for (Map<UUID, AssetSuggestion> changes : changesDuringRebuild) {
+                        rebuilt.apply(changes);
+                    }
+                    changesDuringRebuild.clear();
+                    entries = rebuilt;
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            } while (takeRebuildRequest());
+            return true;
+        } finally {
+            synchronized (rebuildLock) {
+                changesDuringRebuild = null;
+                rebuildRequested = false;
+            }
+        }
+    }
+
+    private boolean takeRebuildRequest() {
+        synchronized (rebuildLock) {
+            boolean requested = rebuildRequested;
+            rebuildRequested = false;
+            return requested;
+        }
+    }
+
+    public int size() {
+        return entries.byId.size();
+    }
+
+    public long estimatedBytes() {
+        return entries.estimatedBytes.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("assets.suggest.index.entries", this, AssetSuggestionIndex::size)
+                .description("Assets in the typeahead index")
+                .register(registry);
+        Gauge.builder("assets.suggest.index.bytes", this, AssetSuggestionIndex::estimatedBytes)
+                .description("Estimated heap used by the typeahead index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Case-insensitive order on {@code field}, then exact, then {@code tieBreak} and the ID. A probe (null ID)
+     * sorts before every entry whose field is equal ignoring case, so {@code ceiling(probe)} is the first entry
+     * that can start with the probe's text.
+     */
+    private static Comparator<AssetSuggestion> order(Function<AssetSuggestion, String> field,
+                                                     Comparator<AssetSuggestion> tieBreak) {
+        return (left, right) -> {
+            int result = IGNORE_CASE.compare(field.apply(left), field.apply(right));
+            if (result != 0) {
+                return result;
+            }
+            if (left.id() == null || right.id() == null) {
+                return left.id() == right.id() ? 0 : left.id() == null ? -1 : 1;
+            }
+            result = field.apply(left).compareTo(field.apply(right));
+            if (result == 0 && tieBreak != null) {
+                result = tieBreak.compare(left, right);
+            }
+            return result != 0 ? result : left.id().compareTo(right.id());
+        };
+    }
+
+    /**
+     * Appends the entries of {@code sorted} whose field starts with the probe's text until {@code matches} holds
+     * {@code limit} entries, skipping assets already present.
+     */
+    private static void collect(NavigableSet<AssetSuggestion> sorted, Function<AssetSuggestion, String> field,
+                                AssetSuggestion probe, int limit, List<AssetSuggestion> matches) {
+        String prefix = field.apply(probe);
+        int alreadyMatched = matches.size();
+        for (AssetSuggestion entry : sorted.tailSet(probe, false)) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            if (!field.apply(entry).regionMatches(true, 0, prefix, 0, prefix.length())) {
+                return;
+            }
+            if (!matches.subList(0, alreadyMatched).contains(entry)) {
+                matches.add(entry);
+            }
+        }
+    }
+
+    private static final class Entries {
+
+        private static final long REFERENCE = 4;
+        private static final long ENTRY = 24;
+        private static final long UUID_OBJECT = 32;
+        private static final long STRING = 24 + 16;
+        /** Skip list node plus its share of index nodes, per set. */
+        private static final long SKIP_LIST_NODE = 24 + 8;
+        private static final long HASH_NODE = 32 + REFERENCE;
+
+        private final ConcurrentHashMap<UUID, AssetSuggestion> byId = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<AssetSuggestion> bySerial = new ConcurrentSkipListSet<>(BY_SERIAL);
+        private final ConcurrentSkipListSet<AssetSuggestion> byName = new ConcurrentSkipListSet<>(BY_NAME);
+        private final LongAdder estimatedBytes = new LongAdder();
+
+        static Entries of(List<AssetSuggestion> rows) {
+            Entries entries = new Entries();
+            Set<String> names = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (AssetSuggestion row : rows) {
+                AssetSuggestion entry = compact(row);
+                entries.put(entry);
+                if (names.add(entry.name())) {
+                    entries.estimatedBytes.add(stringBytes(entry.name()));
+                }
+            }
+            return entries;
+        }
+
+        /**
+         * Removes the assets in {@code changes} and inserts their non-null new state. Each asset is updated
+         * under its hash bin's lock, so concurrent changes to one asset cannot leave two entries for it. The byte
+         * estimate is adjusted without names, which are interned and mostly shared; the next rebuild recomputes
+         * it exactly.
+         */
+        void apply(Map<UUID, AssetSuggestion> changes) {
+            changes.forEach((id, change) -> byId.compute(id, (key, previous) -> {
+                if (previous != null) {
+                    bySerial.remove(previous);
+                    byName.remove(previous);
+                    estimatedBytes.add(-entryBytes(previous));
+                }
+                if (change == null) {
+                    return null;
+                }
+                AssetSuggestion entry = compact(change);
+                bySerial.add(entry);
+                byName.add(entry);
+                estimatedBytes.add(entryBytes(entry));
+                return entry;
+            }));
+        }
+
+        private void put(AssetSuggestion entry) {
+            AssetSuggestion previous = byId.put(entry.id(), entry);
+            if (previous != null) {
+                bySerial.remove(previous);
+                byName.remove(previous);
+                estimatedBytes.add(-entryBytes(previous));
+            }
+            bySerial.add(entry);
+            byName.add(entry);
+            estimatedBytes.add(entryBytes(entry));
+        }
+
+        /**
+         * Interns the name: many assets share a model name, and the index keeps one copy of it.
+         */
+        private static AssetSuggestion compact(AssetSuggestion entry) {
+            return new AssetSuggestion(entry.id(), entry.serialNumber(), entry.name().intern());
+        }
+
+        /**
+         * A node in each skip list and in the ID map, the entry, its UUID and its serial number string.
+         */
+        private static long entryBytes(AssetSuggestion entry) {
+            return 2 * SKIP_LIST_NODE + HASH_NODE + ENTRY + UUID_OBJECT + stringBytes(entry.serialNumber());
+        }
+
+        private static long stringBytes(String value) {
+            return STRING + ((value.length() + 7) & ~7);
+        }
+    }
+}
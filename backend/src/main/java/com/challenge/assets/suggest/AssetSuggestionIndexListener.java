@@ -0,0 +1,84 @@
+package com.challenge.assets.suggest;
+
+import com.challenge.assets.datasource.ReadYourWrites;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.AssetSuggestion;
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.event.AssetsBulkImportedEvent;
+import com.challenge.assets.service.AssetSuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps {@link AssetSuggestionIndex} in step with asset writes. The changes of a transaction are collected and
+ * applied once it has committed, so a rolled-back write never shows up in suggestions.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetSuggestionIndexListener {
+
+    private final AssetSuggestionIndex index;
+    private final AssetSuggestionService suggestionService;
+
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.apply(new PendingChanges(index).add(event).changes);
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (pending == null) {
+            pending = new PendingChanges(index);
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(event);
+    }
+
+    /**
+     * Bulk imports bypass per-asset events, so the index is reloaded from the table. The reload reads from the
+     * primary: a lagging replica may not have replayed the import yet.
+     */
+    @EventListener
+    public void onBulkImport(AssetsBulkImportedEvent event) {
+        if (event.inserted() > 0 || event.updated() > 0) {
+            try (ReadYourWrites.Scope ignored = ReadYourWrites.open(true, () -> { })) {
+                suggestionService.rebuildIndex();
+            }
+        }
+    }
+
+    private static final class PendingChanges implements TransactionSynchronization {
+
+        private final AssetSuggestionIndex index;
+        private final Map<UUID, AssetSuggestion> changes = new LinkedHashMap<>();
+
+        private PendingChanges(AssetSuggestionIndex index) {
+            this.index = index;
+        }
+
+        PendingChanges add(AssetChangedEvent event) {
+            AssetResponse current = event.current();
+            changes.put(event.assetId(),
+                    current != null ? new AssetSuggestion(current.id(), current.serialNumber(), current.name()) : null);
+            return this;
+        }
+
+        @Override
+        public void afterCommit() {
+            index.apply(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+        }
+    }
+}
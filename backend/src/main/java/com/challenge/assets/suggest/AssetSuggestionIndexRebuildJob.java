@@ -0,0 +1,29 @@
+package com.challenge.assets.suggest;
+
+import com.challenge.assets.service.AssetSuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds {@link AssetSuggestionIndex} right after startup and reloads it periodically, which also picks up
+ * writes made on other instances or outside the application.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetSuggestionIndexRebuildJob {
+
+    private final AssetSuggestionService suggestionService;
+
+    @Scheduled(initialDelayString = "${assets.suggest.rebuild-initial-delay:PT0S}",
+            fixedDelayString = "${assets.suggest.rebuild-interval:PT10M}")
+    public void rebuild() {
+        try {
+            suggestionService.rebuildIndex();
+        } catch (RuntimeException ex) {
+            log.error("Asset suggestion index rebuild failed", ex);
+        }
+    }
+}
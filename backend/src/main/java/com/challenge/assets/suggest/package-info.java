@@ -0,0 +1,4 @@
+/**
+ * In-memory typeahead index over serial numbers and names, kept current from asset writes.
+ */
+package com.challenge.assets.suggest;
@@ -0,0 +1,28 @@
+package com.challenge.assets.sync;
+
+import com.challenge.assets.service.AssetSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compacts {@code asset_tombstones} by dropping entries older than {@code assets.sync.tombstone-retention}.
+ * Clients whose watermark is older than that get 410 from {@code GET /assets/changes} and resync in full.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetTombstonePurgeJob {
+
+    private final AssetSyncService syncService;
+
+    @Scheduled(fixedDelayString = "${assets.sync.purge-interval:PT1H}")
+    public void purge() {
+        try {
+            syncService.purgeTombstones();
+        } catch (RuntimeException ex) {
+            log.error("Asset tombstone purge failed", ex);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Maintenance of the delta sync state: purging expired tombstones.
+ */
+package com.challenge.assets.sync;
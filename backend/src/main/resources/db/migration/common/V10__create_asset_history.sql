@@ -0,0 +1,13 @@
+-- Change history behind GET /assets/{id}/history: one row per committed asset change with the snapshots before
+-- and after it (JSON, null for creation/deletion). Written asynchronously in batches; read newest first per asset.
+CREATE TABLE IF NOT EXISTS asset_history (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    asset_id       UUID                     NOT NULL,
+    change_type    VARCHAR(16)              NOT NULL,
+    changed_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    previous_state TEXT,
+    current_state  TEXT,
+    CONSTRAINT pk_asset_history PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_asset_history_asset_id_id ON asset_history (asset_id, id);
@@ -0,0 +1,15 @@
+-- Idempotency-Key store behind POST /assets and POST /assets/batch: the response to the first request with a key,
+-- replayed to retries until expires_at. The row is claimed inside the write transaction, before the write runs, so a
+-- concurrent duplicate on another instance waits on the key instead of writing twice.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key  VARCHAR(255)             NOT NULL,
+    request_hash     VARCHAR(64)              NOT NULL,
+    response_status  INTEGER,
+    response_headers TEXT,
+    response_body    TEXT,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
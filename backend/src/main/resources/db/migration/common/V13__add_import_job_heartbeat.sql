@@ -0,0 +1,4 @@
+-- Lease of running imports: the instance running a job refreshes heartbeat_at every assets.import.heartbeat-interval.
+-- A RUNNING job whose heartbeat is older than assets.import.lease-timeout belongs to an instance that stopped;
+-- delta sync no longer holds its watermark for it, and the lease check marks it FAILED.
+ALTER TABLE asset_import_jobs ADD COLUMN heartbeat_at TIMESTAMP WITH TIME ZONE;
@@ -0,0 +1,3 @@
+-- Change feed entries that are not about a single asset: a bulk import writes one RESET entry (subscribers
+-- refetch the list) instead of one entry per merged asset, so asset_id becomes optional.
+ALTER TABLE asset_outbox ALTER COLUMN asset_id DROP NOT NULL;
@@ -0,0 +1,6 @@
+-- GET /assets/changes reads upserts in (updated_at, id) order after a watermark; with id in the index the
+-- tie-breaker is resolved in the index scan. The composite index also answers max(updated_at) for the collection
+-- validator, so it replaces idx_assets_updated_at.
+CREATE INDEX IF NOT EXISTS idx_assets_updated_at_id ON assets (updated_at, id);
+
+DROP INDEX IF EXISTS idx_assets_updated_at;
@@ -0,0 +1,16 @@
+-- Baseline schema for assets (portable between PostgreSQL and H2).
+-- IF NOT EXISTS keeps this migration safe on databases previously created by ddl-auto: update.
+CREATE TABLE IF NOT EXISTS assets (
+    id               UUID                     NOT NULL,
+    name             VARCHAR(255)             NOT NULL,
+    serial_number    VARCHAR(255)             NOT NULL,
+    acquisition_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    status           VARCHAR(32)              NOT NULL,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_assets PRIMARY KEY (id),
+    CONSTRAINT uk_assets_serial_number UNIQUE (serial_number)
+);
+
+-- Keyset pagination on (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_assets_created_at_id ON assets (created_at, id);
@@ -0,0 +1,29 @@
+-- Bulk CSV import jobs (POST /assets/imports) and their rejected rows.
+CREATE TABLE IF NOT EXISTS asset_import_jobs (
+    id               UUID                     NOT NULL,
+    file_name        VARCHAR(255),
+    conflict_mode    VARCHAR(16)              NOT NULL,
+    state            VARCHAR(16)              NOT NULL,
+    rows_read        BIGINT                   NOT NULL DEFAULT 0,
+    rows_rejected    BIGINT                   NOT NULL DEFAULT 0,
+    rows_inserted    BIGINT                   NOT NULL DEFAULT 0,
+    rows_updated     BIGINT                   NOT NULL DEFAULT 0,
+    rows_conflicted  BIGINT                   NOT NULL DEFAULT 0,
+    error_message    VARCHAR(1000),
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    started_at       TIMESTAMP WITH TIME ZONE,
+    finished_at      TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT pk_asset_import_jobs PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS asset_import_errors (
+    id          UUID          NOT NULL,
+    job_id      UUID          NOT NULL,
+    line_number BIGINT        NOT NULL,
+    code        VARCHAR(16)   NOT NULL,
+    message     VARCHAR(1000) NOT NULL,
+    CONSTRAINT pk_asset_import_errors PRIMARY KEY (id),
+    CONSTRAINT fk_asset_import_errors_job FOREIGN KEY (job_id) REFERENCES asset_import_jobs (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_asset_import_errors_job_line ON asset_import_errors (job_id, line_number);
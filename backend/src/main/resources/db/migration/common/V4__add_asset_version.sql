@@ -0,0 +1,3 @@
+-- Optimistic locking counter for assets, exposed as the ETag of GET/PUT/PATCH /assets/{id}.
+-- Existing rows start at 0; every update increments it.
+ALTER TABLE assets ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,8 @@
+-- Collection validators for conditional GET /assets: count(*) and max(updated_at) per filter.
+-- (updated_at) answers max() for the unfiltered list with one index probe; (status, updated_at) does the same
+-- per status and keeps serving plain status filters, so it replaces idx_assets_status.
+CREATE INDEX IF NOT EXISTS idx_assets_updated_at ON assets (updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_assets_status_updated_at ON assets (status, updated_at);
+
+DROP INDEX IF EXISTS idx_assets_status;
@@ -0,0 +1,9 @@
+-- Incrementally maintained aggregates for GET /assets/stats: one row per (dimension, bucket), e.g.
+-- ('STATUS', 'IN_USE') or ('ACQUISITION_MONTH', '2024-01'). Rows are adjusted in the same transaction as each
+-- asset write and filled/repaired by the periodic reconciliation job, so the table starts empty.
+CREATE TABLE IF NOT EXISTS asset_counters (
+    dimension   VARCHAR(32) NOT NULL,
+    bucket      VARCHAR(32) NOT NULL,
+    asset_count BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_asset_counters PRIMARY KEY (dimension, bucket)
+);
@@ -0,0 +1,12 @@
+-- Transactional outbox for the GET /assets/stream change feed: one row per asset change, written in the same
+-- transaction as the change and relayed to SSE subscribers in id order. Rows are purged after a retention period.
+CREATE TABLE IF NOT EXISTS asset_outbox (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_type VARCHAR(16)              NOT NULL,
+    asset_id   UUID                     NOT NULL,
+    payload    TEXT                     NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_asset_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_asset_outbox_created_at ON asset_outbox (created_at);
@@ -0,0 +1,10 @@
+-- Tombstones for GET /assets/changes: one row per deleted asset, written by the DELETE statement itself, so
+-- delta sync clients learn about deletions. Rows older than assets.sync.tombstone-retention are purged; a
+-- watermark older than that is rejected and the client falls back to a full resync.
+CREATE TABLE IF NOT EXISTS asset_tombstones (
+    asset_id   UUID                     NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_asset_tombstones PRIMARY KEY (asset_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_asset_tombstones_deleted_at ON asset_tombstones (deleted_at, asset_id);
@@ -0,0 +1,4 @@
+-- H2 fallback for V12 (tests only): H2 has no partitioning, so the serial number key goes back to the
+-- serial_number column alone and stays unique across archived and non-archived assets, as on PostgreSQL.
+ALTER TABLE assets DROP CONSTRAINT uk_assets_serial_number;
+ALTER TABLE assets ADD CONSTRAINT uk_assets_serial_number UNIQUE (serial_number);
@@ -0,0 +1,2 @@
+-- H2 fallback for V2 (tests only): H2 has no pg_trgm, so only the plain indexes are created.
+CREATE INDEX IF NOT EXISTS idx_assets_status ON assets (status);
@@ -0,0 +1,6 @@
+-- H2 fallback for V9 (tests only): H2 has no declarative partitioning, so archived is a plain column.
+-- Serial numbers get the same rule as on PostgreSQL, unique per archived value: an archived asset no longer holds
+-- its serial number.
+ALTER TABLE assets ADD COLUMN archived BOOLEAN DEFAULT FALSE NOT NULL;
+ALTER TABLE assets DROP CONSTRAINT uk_assets_serial_number;
+ALTER TABLE assets ADD CONSTRAINT uk_assets_serial_number UNIQUE (serial_number, archived);
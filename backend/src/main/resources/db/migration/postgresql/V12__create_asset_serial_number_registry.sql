@@ -0,0 +1,44 @@
+-- Keeps serial numbers unique across the hot and archive partitions of assets. The partitioned unique key
+-- uk_assets_serial_number must include archived, so on its own it lets a new asset reuse the serial number of
+-- an archived one. Every asset row has one entry here, maintained by the triggers below in the same statement
+-- as the write; the primary key name keeps the uk_assets_serial_number prefix, so violations map to AST-002
+-- like the partition keys. Moving a row between partitions runs as a delete followed by an insert, which
+-- releases and takes the same serial number again.
+-- The backfill fails if assets written under V9 already share a serial number across partitions; rename them
+-- before migrating.
+CREATE TABLE asset_serial_numbers (
+    serial_number VARCHAR(255) NOT NULL,
+    asset_id      UUID         NOT NULL,
+    CONSTRAINT uk_assets_serial_number_global PRIMARY KEY (serial_number)
+);
+
+INSERT INTO asset_serial_numbers (serial_number, asset_id)
+SELECT serial_number, id FROM assets;
+
+CREATE FUNCTION asset_serial_numbers_insert() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO asset_serial_numbers (serial_number, asset_id) VALUES (NEW.serial_number, NEW.id);
+    RETURN NULL;
+END $$;
+
+CREATE FUNCTION asset_serial_numbers_delete() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    DELETE FROM asset_serial_numbers WHERE serial_number = OLD.serial_number;
+    RETURN NULL;
+END $$;
+
+CREATE FUNCTION asset_serial_numbers_update() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE asset_serial_numbers SET serial_number = NEW.serial_number WHERE serial_number = OLD.serial_number;
+    RETURN NULL;
+END $$;
+
+CREATE TRIGGER trg_assets_serial_number_insert AFTER INSERT ON assets
+    FOR EACH ROW EXECUTE FUNCTION asset_serial_numbers_insert();
+
+CREATE TRIGGER trg_assets_serial_number_delete AFTER DELETE ON assets
+    FOR EACH ROW EXECUTE FUNCTION asset_serial_numbers_delete();
+
+CREATE TRIGGER trg_assets_serial_number_update AFTER UPDATE OF serial_number ON assets
+    FOR EACH ROW WHEN (OLD.serial_number IS DISTINCT FROM NEW.serial_number)
+    EXECUTE FUNCTION asset_serial_numbers_update();
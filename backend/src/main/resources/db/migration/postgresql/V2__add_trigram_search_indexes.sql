@@ -0,0 +1,11 @@
+-- Substring search on name / serial_number: the repository filters with LOWER(col) LIKE '%term%',
+-- which a trigram GIN index on LOWER(col) can serve instead of a sequential scan.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_assets_name_trgm
+    ON assets USING gin (LOWER(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_assets_serial_number_trgm
+    ON assets USING gin (LOWER(serial_number) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_assets_status ON assets (status);
@@ -0,0 +1,58 @@
+-- Splits assets into a hot partition (archived = FALSE) and an archive partition (archived = TRUE). The archival
+-- job moves old DISPOSED assets with UPDATE ... SET archived = TRUE, so listings that filter on NOT archived only
+-- touch the hot partition and its indexes, while lookups by id still find archived rows.
+-- Primary and unique keys of a partitioned table must include the partition key, so serial numbers are unique
+-- within each partition: an archived asset no longer holds its serial number.
+ALTER TABLE assets ADD COLUMN archived BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- The existing table becomes the hot partition. Its secondary indexes are renamed out of the way and adopted
+-- below by the parent's indexes of the same definition, so they are not rebuilt.
+ALTER TABLE assets RENAME TO assets_hot;
+ALTER INDEX IF EXISTS idx_assets_created_at_id RENAME TO assets_hot_created_at_id_idx;
+ALTER INDEX IF EXISTS idx_assets_updated_at RENAME TO assets_hot_updated_at_idx;
+ALTER INDEX IF EXISTS idx_assets_status_updated_at RENAME TO assets_hot_status_updated_at_idx;
+ALTER INDEX IF EXISTS idx_assets_name_trgm RENAME TO assets_hot_name_trgm_idx;
+ALTER INDEX IF EXISTS idx_assets_serial_number_trgm RENAME TO assets_hot_serial_number_trgm_idx;
+
+-- Primary and unique keys are replaced by ones that include archived (names differ on ddl-auto databases).
+DO $$
+DECLARE
+    key_constraint RECORD;
+BEGIN
+    FOR key_constraint IN
+        SELECT conname FROM pg_constraint WHERE conrelid = 'assets_hot'::regclass AND contype IN ('p', 'u')
+    LOOP
+        EXECUTE format('ALTER TABLE assets_hot DROP CONSTRAINT %I', key_constraint.conname);
+    END LOOP;
+END $$;
+
+CREATE TABLE assets (
+    id               UUID                     NOT NULL,
+    name             VARCHAR(255)             NOT NULL,
+    serial_number    VARCHAR(255)             NOT NULL,
+    acquisition_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    status           VARCHAR(32)              NOT NULL,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    version          BIGINT DEFAULT 0         NOT NULL,
+    archived         BOOLEAN DEFAULT FALSE    NOT NULL,
+    CONSTRAINT pk_assets PRIMARY KEY (id, archived),
+    CONSTRAINT uk_assets_serial_number UNIQUE (serial_number, archived)
+) PARTITION BY LIST (archived);
+
+-- Partition keys are created under their own names before attaching, so they are adopted by the parent's keys;
+-- unique violations are reported with the partition's index name, which keeps the uk_assets_serial_number prefix.
+ALTER TABLE assets_hot ADD CONSTRAINT pk_assets_hot PRIMARY KEY (id, archived);
+ALTER TABLE assets_hot ADD CONSTRAINT uk_assets_serial_number_hot UNIQUE (serial_number, archived);
+ALTER TABLE assets ATTACH PARTITION assets_hot FOR VALUES IN (FALSE);
+
+CREATE TABLE assets_archive (LIKE assets INCLUDING DEFAULTS);
+ALTER TABLE assets_archive ADD CONSTRAINT pk_assets_archive PRIMARY KEY (id, archived);
+ALTER TABLE assets_archive ADD CONSTRAINT uk_assets_serial_number_archive UNIQUE (serial_number, archived);
+ALTER TABLE assets ATTACH PARTITION assets_archive FOR VALUES IN (TRUE);
+
+CREATE INDEX idx_assets_created_at_id ON assets (created_at, id);
+CREATE INDEX idx_assets_updated_at ON assets (updated_at);
+CREATE INDEX idx_assets_status_updated_at ON assets (status, updated_at);
+CREATE INDEX idx_assets_name_trgm ON assets USING gin (LOWER(name) gin_trgm_ops);
+CREATE INDEX idx_assets_serial_number_trgm ON assets USING gin (LOWER(serial_number) gin_trgm_ops);
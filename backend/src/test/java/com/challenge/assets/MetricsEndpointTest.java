@@ -0,0 +1,43 @@
+package com.challenge.assets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the Prometheus scrape endpoint exposes the request, pool, Hibernate and cache meters.
+ * Runs on the H2 "test" profile, so it does not require Docker.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("GET /actuator/prometheus should expose latency histograms, Hikari, Hibernate and cache meters")
+    void prometheus_afterRequest_exposesMeters() {
+        restTemplate.getForEntity("/assets", String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .contains("http_server_requests_seconds_bucket{application=\"assets-manager\"")
+                .contains("uri=\"/assets\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_statements_total")
+                .contains("cache_gets_total{application=\"assets-manager\",cache=\"assets\"")
+                .contains("assets_suggest_index_bytes");
+    }
+}
@@ -0,0 +1,45 @@
+package com.challenge.assets;
+
+import com.challenge.assets.observability.SqlQueryCountFilter;
+import com.challenge.assets.observability.SqlStatementCounter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round-trip budgets for tests: fails when a request or a block of code issues more SQL statements than allowed.
+ * Relies on {@code assets.query-count.enabled}, which is on outside the prod profile.
+ */
+public final class SqlQueryBudget {
+
+    private SqlQueryBudget() {
+    }
+
+    /**
+     * MockMvc matcher on the {@code X-Query-Count} header: {@code .andExpect(SqlQueryBudget.atMost(1))}.
+     */
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlQueryCountFilter.HEADER);
+            assertThat(header).as("%s header", SqlQueryCountFilter.HEADER).isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("SQL statements for %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(maxStatements);
+        };
+    }
+
+    /**
+     * Runs {@code action} on the current thread and fails if it executed more than {@code maxStatements} statements.
+     */
+    public static <T> T atMost(int maxStatements, Callable<T> action) throws Exception {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            T result = action.call();
+            assertThat(scope.count())
+                    .as("SQL statements, by statement: %s", scope.executions())
+                    .isLessThanOrEqualTo(maxStatements);
+            return result;
+        }
+    }
+}
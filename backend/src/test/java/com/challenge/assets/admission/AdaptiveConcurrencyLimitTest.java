@@ -0,0 +1,96 @@
+package com.challenge.assets.admission;
+
+import com.challenge.assets.admission.AdaptiveConcurrencyLimit.Permit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final Duration TARGET = Duration.ofMillis(100);
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = TARGET.plusMillis(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("tryAcquire should admit up to the limit and reject beyond it until a permit is released")
+    void tryAcquire_atLimit_rejects() {
+        AdaptiveConcurrencyLimit limit = limit(2, 1, 10);
+
+        Permit first = limit.tryAcquire();
+        Permit second = limit.tryAcquire();
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(limit.tryAcquire()).isNull();
+        assertThat(limit.rejected()).isEqualTo(1);
+
+        first.release();
+        assertThat(limit.inFlight()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("release should feed the measured latency into the limit")
+    void release_slowRequest_decreasesLimit() {
+        AdaptiveConcurrencyLimit limit = limit(20, 5, 100);
+        Permit permit = limit.tryAcquire();
+
+        clock.addAndGet(SLOW);
+        permit.release();
+
+        assertThat(limit.limit()).isEqualTo(18);
+        assertThat(limit.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Requests slower than the target should shrink the limit multiplicatively, down to the minimum")
+    void onSample_slow_decreasesToMinimum() {
+        AdaptiveConcurrencyLimit limit = limit(20, 5, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(SLOW, 1);
+        }
+
+        assertThat(limit.limit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("A fast request while at least half the limit is in use should grow the limit by one, up to the maximum")
+    void onSample_fastSaturated_increasesToMaximum() {
+        AdaptiveConcurrencyLimit limit = limit(4, 1, 5);
+
+        limit.onSample(FAST, 2);
+        assertThat(limit.limit()).isEqualTo(5);
+
+        limit.onSample(FAST, 5);
+        assertThat(limit.limit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("A fast request while the limit is mostly unused should leave the limit unchanged")
+    void onSample_fastIdle_keepsLimit() {
+        AdaptiveConcurrencyLimit limit = limit(10, 1, 100);
+
+        limit.onSample(FAST, 1);
+
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("The constructor should reject a backoff ratio outside (0, 1)")
+    void constructor_invalidBackoffRatio_throws() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(10, 1, 100, TARGET, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveConcurrencyLimit limit(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimit(initial, min, max, TARGET, 0.9, clock::get);
+    }
+}
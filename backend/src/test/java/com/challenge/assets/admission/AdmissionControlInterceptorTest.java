@@ -0,0 +1,111 @@
+package com.challenge.assets.admission;
+
+import com.challenge.assets.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdmissionControlInterceptorTest {
+
+    private AdaptiveConcurrencyLimit readLimit;
+    private AdaptiveConcurrencyLimit writeLimit;
+    private AdaptiveConcurrencyLimit bulkLimit;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        readLimit = new AdaptiveConcurrencyLimit(1, 1, 1, Duration.ofSeconds(1), 0.9);
+        writeLimit = new AdaptiveConcurrencyLimit(1, 1, 1, Duration.ofSeconds(1), 0.9);
+        bulkLimit = new AdaptiveConcurrencyLimit(1, 1, 1, Duration.ofSeconds(1), 0.9);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StubController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new AdmissionControlInterceptor(readLimit, writeLimit, bulkLimit, Duration.ofSeconds(2)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("A request admitted under the limit should release its permit when it completes")
+    void get_underLimit_admitsAndReleases() throws Exception {
+        mockMvc.perform(get("/assets").param("limit", "10")).andExpect(status().isOk());
+
+        assertThat(readLimit.inFlight()).isZero();
+        assertThat(readLimit.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("A request over the limit should fail fast with 503, Retry-After and code GEN-005")
+    void get_limitReached_returnsServiceUnavailable() throws Exception {
+        readLimit.tryAcquire();
+
+        mockMvc.perform(get("/assets").param("limit", "10"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("GEN-005"));
+
+        assertThat(readLimit.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Reads and writes should be admitted through separate limits")
+    void post_readLimitReached_stillAdmitted() throws Exception {
+        readLimit.tryAcquire();
+
+        mockMvc.perform(post("/assets")).andExpect(status().isOk());
+
+        assertThat(writeLimit.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("The unpaged list and batch creates should be admitted through the bulk limit only")
+    void unpagedListAndBatch_readAndWriteLimitsReached_useBulkLimit() throws Exception {
+        readLimit.tryAcquire();
+        writeLimit.tryAcquire();
+
+        mockMvc.perform(get("/assets")).andExpect(status().isOk());
+        mockMvc.perform(post("/assets/batch")).andExpect(status().isOk());
+        bulkLimit.tryAcquire();
+        mockMvc.perform(get("/assets")).andExpect(status().isServiceUnavailable());
+
+        assertThat(readLimit.rejected()).isZero();
+        assertThat(writeLimit.rejected()).isZero();
+        assertThat(bulkLimit.rejected()).isEqualTo(1);
+    }
+
+    @RestController
+    static class StubController {
+
+        @GetMapping("/assets")
+        String list() {
+            return "[]";
+        }
+
+        @GetMapping(value = "/assets", params = "limit")
+        String page() {
+            return "{}";
+        }
+
+        @PostMapping("/assets/batch")
+        String createBatch() {
+            return "{}";
+        }
+
+        @PostMapping("/assets")
+        String create() {
+            return "{}";
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.challenge.assets.archive;
+
+import com.challenge.assets.AbstractIntegrationTest;
+import com.challenge.assets.repository.AssetConstraints;
+import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.service.AssetArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class AssetArchivalIT extends AbstractIntegrationTest {
+
+    private static final String INSERT = """
+            INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+            VALUES (?, 'Laptop Dell', ?, ?, ?, ?, ?, 0)
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository repository;
+
+    @Autowired
+    private AssetArchiveService archiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID oldDisposed;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        OffsetDateTime longAgo = OffsetDateTime.now().minusYears(1);
+        oldDisposed = insert("SN-OLD-DISPOSED", "DISPOSED", longAgo);
+        insert("SN-NEW-DISPOSED", "DISPOSED", OffsetDateTime.now());
+        insert("SN-OLD-IN-USE", "IN_USE", longAgo);
+    }
+
+    @Test
+    @DisplayName("Archival moves only old DISPOSED assets to the archive partition and GET /assets hides them by default")
+    void archiveDisposed_oldDisposedAsset_leavesHotListing() throws Exception {
+        assertThat(archiveService.archiveDisposed()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM assets_archive", UUID.class)).containsExactly(oldDisposed);
+        mockMvc.perform(get("/assets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].serialNumber", containsInAnyOrder("SN-NEW-DISPOSED", "SN-OLD-IN-USE")));
+        mockMvc.perform(get("/assets").param("includeArchived", "true"))
+                .andExpect(jsonPath("$[*].serialNumber",
+                        containsInAnyOrder("SN-OLD-DISPOSED", "SN-NEW-DISPOSED", "SN-OLD-IN-USE")));
+        mockMvc.perform(get("/assets/{id}", oldDisposed))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.serialNumber").value("SN-OLD-DISPOSED"));
+    }
+
+    @Test
+    @DisplayName("An archived asset keeps its serial number: creating another asset with it returns 409")
+    void create_serialOfArchivedAsset_returnsConflict() throws Exception {
+        archiveService.archiveDisposed();
+
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Laptop Dell", "serialNumber": "SN-OLD-DISPOSED", "acquisitionDate": "2024-01-15T10:00:00Z"}
+                                """))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("AST-002"));
+    }
+
+    @Test
+    @DisplayName("A batch item with the serial of an archived asset is a CONFLICT while the other items are created")
+    void createBatch_serialOfArchivedAsset_reportsConflict() throws Exception {
+        archiveService.archiveDisposed();
+
+        mockMvc.perform(post("/assets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"name": "Laptop Dell", "serialNumber": "SN-OLD-DISPOSED", "acquisitionDate": "2024-01-15T10:00:00Z"},
+                                 {"name": "Laptop Dell", "serialNumber": "SN-BATCH-NEW", "acquisitionDate": "2024-01-15T10:00:00Z"}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CONFLICT"))
+                .andExpect(jsonPath("$.results[0].code").value("AST-002"))
+                .andExpect(jsonPath("$.results[1].status").value("CREATED"));
+    }
+
+    @Test
+    @DisplayName("Renaming a hot asset to the serial of an archived asset returns 409")
+    void patch_serialOfArchivedAsset_returnsConflict() throws Exception {
+        archiveService.archiveDisposed();
+        UUID hot = jdbcTemplate.queryForObject("SELECT id FROM assets WHERE serial_number = 'SN-OLD-IN-USE'", UUID.class);
+
+        mockMvc.perform(patch("/assets/{id}", hot)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"serialNumber\": \"SN-OLD-DISPOSED\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("AST-002"));
+    }
+
+    @Test
+    @DisplayName("Updating an archived asset moves it back to the hot set")
+    void patch_archivedAsset_returnsToHotSet() throws Exception {
+        archiveService.archiveDisposed();
+
+        mockMvc.perform(patch("/assets/{id}", oldDisposed)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Laptop Dell Refurbished\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM assets_archive", Long.class)).isZero();
+        mockMvc.perform(get("/assets").param("serialNumber", "SN-OLD-DISPOSED"))
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("Laptop Dell Refurbished")));
+    }
+
+    @Test
+    @DisplayName("A row inserted directly with the serial of an archived asset is rejected by the serial registry")
+    void insert_serialOfArchivedAsset_violatesSerialRegistry() {
+        archiveService.archiveDisposed();
+
+        assertThatThrownBy(() -> insert("SN-OLD-DISPOSED", "DISPOSED", OffsetDateTime.now()))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(failure -> assertThat(AssetConstraints.isSerialNumberViolation(failure)).isTrue());
+    }
+
+    private UUID insert(String serialNumber, String status, OffsetDateTime updatedAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT, id, serialNumber, updatedAt, status, updatedAt, updatedAt);
+        return id;
+    }
+}
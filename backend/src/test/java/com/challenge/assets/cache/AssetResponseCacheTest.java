@@ -0,0 +1,113 @@
+package com.challenge.assets.cache;
+
+import com.challenge.assets.config.AssetCacheProperties;
+import com.challenge.assets.datasource.ReadYourWrites;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetResponseCacheTest {
+
+    private static final OffsetDateTime SAMPLE_DATE = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+    private static final AssetCacheProperties PROPERTIES =
+            new AssetCacheProperties(true, 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+    private LocalAssetCacheInvalidationChannel channel;
+    private AssetResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        channel = new LocalAssetCacheInvalidationChannel();
+        cache = new AssetResponseCache(PROPERTIES, channel);
+    }
+
+    @Test
+    @DisplayName("get should call the loader once and serve later lookups from the cache")
+    void get_repeatedLookups_loadsOnce() {
+        UUID id = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(id, key -> {
+                loads.incrementAndGet();
+                return Optional.of(sample(key, "Laptop"));
+            })).map(AssetResponse::name).contains("Laptop");
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get should cache unknown IDs as negative entries")
+    void get_unknownId_cachesNegativeEntry() {
+        UUID id = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(id, key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<AssetResponse> second = cache.get(id, key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(second).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("invalidate should drop the entry on every cache sharing the channel")
+    void invalidate_sharedChannel_dropsEntryOnAllNodes() {
+        AssetResponseCache otherNode = new AssetResponseCache(PROPERTIES, channel);
+        UUID id = UUID.randomUUID();
+        cache.get(id, key -> Optional.of(sample(key, "Old")));
+        otherNode.get(id, key -> Optional.of(sample(key, "Old")));
+
+        cache.invalidate(id);
+
+        assertThat(otherNode.get(id, key -> Optional.of(sample(key, "New")))).map(AssetResponse::name).contains("New");
+        assertThat(cache.get(id, key -> Optional.of(sample(key, "New")))).map(AssetResponse::name).contains("New");
+    }
+
+    @Test
+    @DisplayName("get should load misses pinned to the primary, so a lagging replica value is never cached")
+    void get_miss_loadsPinnedToPrimary() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(cache.get(id, key -> Optional.of(sample(key, String.valueOf(ReadYourWrites.isPinnedToPrimary())))))
+                .map(AssetResponse::name).contains("true");
+        assertThat(ReadYourWrites.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("get should always call the loader when the cache is disabled")
+    void get_disabled_alwaysLoads() {
+        AssetResponseCache disabled = new AssetResponseCache(
+                new AssetCacheProperties(false, 100, Duration.ofMinutes(5), Duration.ofSeconds(30)), channel);
+        UUID id = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        disabled.get(id, key -> Optional.of(sample(key, String.valueOf(loads.incrementAndGet()))));
+        disabled.get(id, key -> Optional.of(sample(key, String.valueOf(loads.incrementAndGet()))));
+
+        assertThat(loads).hasValue(2);
+        assertThat(disabled.estimatedSize()).isZero();
+    }
+
+    private static AssetResponse sample(UUID id, String name) {
+        return new AssetResponse(id, name, "SN-" + id, SAMPLE_DATE, AssetStatus.AVAILABLE, SAMPLE_DATE, SAMPLE_DATE, 0L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.challenge.assets.config;
+
+import com.challenge.assets.datasource.ReplicaLagMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingStartupCheckTest {
+
+    @Mock
+    private ObjectProvider<ReplicaLagMonitor> monitor;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Test
+    @DisplayName("Startup should fail when the replica URL is set but replica routing was not configured")
+    void check_replicaUrlWithoutRouting_throws() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(ReplicaRoutingStartupCheck.REPLICA_URL, "jdbc:postgresql://replica:5432/assets_db");
+
+        assertThatThrownBy(() -> new ReplicaRoutingStartupCheck(environment, monitor))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.aot.enabled=false");
+    }
+
+    @Test
+    @DisplayName("Startup should pass with replica routing configured, or without a replica URL")
+    void check_routingConfiguredOrNoReplica_passes() {
+        MockEnvironment withReplica = new MockEnvironment()
+                .withProperty(ReplicaRoutingStartupCheck.REPLICA_URL, "jdbc:postgresql://replica:5432/assets_db");
+        when(monitor.getIfAvailable()).thenReturn(replicaLagMonitor);
+
+        assertThatCode(() -> new ReplicaRoutingStartupCheck(withReplica, monitor)).doesNotThrowAnyException();
+        assertThatCode(() -> new ReplicaRoutingStartupCheck(new MockEnvironment(), monitor)).doesNotThrowAnyException();
+    }
+}
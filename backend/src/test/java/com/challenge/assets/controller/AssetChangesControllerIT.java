@@ -0,0 +1,162 @@
+package com.challenge.assets.controller;
+
+import com.challenge.assets.AbstractIntegrationTest;
+import com.challenge.assets.SqlQueryBudget;
+import com.challenge.assets.dto.AssetSyncWatermark;
+import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.service.AssetImportService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs without a settle window so writes made by the test are visible to the next sync call immediately.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "assets.sync.settle-window=0s")
+class AssetChangesControllerIT extends AbstractIntegrationTest {
+
+    private static final String VALID_JSON = """
+            {
+              "name": "Laptop Dell",
+              "serialNumber": "%s",
+              "acquisitionDate": "2024-01-15T10:00:00Z"
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssetImportService importService;
+
+    @BeforeEach
+    void cleanup() {
+        repository.deleteAll();
+        jdbcTemplate.update("DELETE FROM asset_tombstones");
+    }
+
+    @Test
+    @DisplayName("GET /assets/changes returns upserts and tombstones, then only what changed after nextSince")
+    void getChanges_writes_returnsUpsertsAndTombstones() throws Exception {
+        String kept = create("SN-SYNC-1");
+        String removed = create("SN-SYNC-2");
+        mockMvc.perform(patch("/assets/{id}", kept).contentType(MediaType.APPLICATION_JSON).content("{\"status\": \"IN_USE\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/assets/{id}", removed))
+                .andExpect(status().isNoContent())
+                .andExpect(SqlQueryBudget.atMost(3)); // delete + tombstone in one statement, counters, outbox
+
+        String first = mockMvc.perform(get("/assets/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserted[*].id", contains(kept)))
+                .andExpect(jsonPath("$.upserted[0].status").value("IN_USE"))
+                .andExpect(jsonPath("$.deleted[*].id", contains(removed)))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(SqlQueryBudget.atMost(3))
+                .andReturn().getResponse().getContentAsString();
+        String since = JsonPath.read(first, "$.nextSince");
+
+        mockMvc.perform(get("/assets/changes").param("since", since))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserted", hasSize(0)))
+                .andExpect(jsonPath("$.deleted", hasSize(0)));
+
+        mockMvc.perform(patch("/assets/{id}", kept).contentType(MediaType.APPLICATION_JSON).content("{\"status\": \"MAINTENANCE\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/assets/changes").param("since", since))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserted[*].status", contains("MAINTENANCE")))
+                .andExpect(jsonPath("$.deleted", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /assets/changes with limit pages through changes with hasMore and nextSince")
+    void getChanges_limit_pagesWithHighWaterMark() throws Exception {
+        create("SN-SYNC-A");
+        create("SN-SYNC-B");
+        create("SN-SYNC-C");
+
+        String firstPage = mockMvc.perform(get("/assets/changes").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserted", hasSize(2)))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/assets/changes").param("limit", "2").param("since", JsonPath.<String>read(firstPage, "$.nextSince")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserted[*].serialNumber", contains("SN-SYNC-C")))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("An import left RUNNING by a stopped instance does not hold the watermark and is marked FAILED")
+    void getChanges_abandonedImport_doesNotHoldWatermark() throws Exception {
+        jdbcTemplate.update("DELETE FROM asset_import_jobs");
+        UUID jobId = UUID.randomUUID();
+        OffsetDateTime startedAt = OffsetDateTime.now().minusHours(1);
+        jdbcTemplate.update("""
+                INSERT INTO asset_import_jobs (id, conflict_mode, state, created_at, started_at, heartbeat_at)
+                VALUES (?, 'SKIP', 'RUNNING', ?, ?, ?)
+                """, jobId, startedAt, startedAt, startedAt.plusMinutes(5));
+        create("SN-SYNC-AFTER-CRASH");
+
+        mockMvc.perform(get("/assets/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserted[*].serialNumber", contains("SN-SYNC-AFTER-CRASH")));
+
+        importService.failAbandonedJobs();
+        assertThat(jdbcTemplate.queryForObject("SELECT state FROM asset_import_jobs WHERE id = ?", String.class, jobId))
+                .isEqualTo("FAILED");
+    }
+
+    @Test
+    @DisplayName("GET /assets/changes with a watermark older than the tombstone retention returns 410 and code SYN-001")
+    void getChanges_expiredWatermark_returns410WithSyn001() throws Exception {
+        String since = new AssetSyncWatermark(OffsetDateTime.now().minusDays(40), UUID.randomUUID()).encode();
+
+        mockMvc.perform(get("/assets/changes").param("since", since))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.code").value("SYN-001"));
+    }
+
+    @Test
+    @DisplayName("GET /assets/changes with a malformed watermark returns 400 and code GEN-003")
+    void getChanges_malformedWatermark_returns400WithGen003() throws Exception {
+        mockMvc.perform(get("/assets/changes").param("since", "not-a-watermark"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("GEN-003"));
+    }
+
+    private String create(String serialNumber) throws Exception {
+        String body = mockMvc.perform(post("/assets").contentType(MediaType.APPLICATION_JSON).content(VALID_JSON.formatted(serialNumber)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+}
@@ -0,0 +1,122 @@
+package com.challenge.assets.controller;
+
+import com.challenge.assets.dto.AssetResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks CBOR/Smile negotiation and gzip on a real server (compression is applied by Tomcat, not MockMvc).
+ * Runs on the H2 "test" profile, so it does not require Docker.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AssetContentNegotiationTest {
+
+    private static final int ASSETS = 30;
+    private static final OffsetDateTime ACQUIRED_AT = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+    private static final String INSERT = """
+            INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+            VALUES (?, 'Laptop Dell', ?, ?, 'AVAILABLE', ?, ?, 0)
+            """;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Rows are inserted directly, in one statement each, without the write path's counters, history and outbox.
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM assets");
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < ASSETS; i++) {
+            jdbcTemplate.update(INSERT, UUID.randomUUID(), "SN-WIRE-" + i, ACQUIRED_AT, now, now);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /assets with Accept application/cbor returns the same assets in a smaller CBOR body")
+    void getAll_acceptCbor_returnsCbor() throws Exception {
+        HttpResponse<byte[]> json = get(MediaType.APPLICATION_JSON_VALUE, null);
+        HttpResponse<byte[]> cbor = get(MediaType.APPLICATION_CBOR_VALUE, null);
+
+        assertThat(cbor.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(String.join(",", cbor.headers().allValues(HttpHeaders.VARY))).containsIgnoringCase(HttpHeaders.ACCEPT + ",");
+        AssetResponse[] expected = objectMapper.readValue(json.body(), AssetResponse[].class);
+        AssetResponse[] decoded = CBORMapper.builder().addModule(new JavaTimeModule()).build()
+                .readValue(cbor.body(), AssetResponse[].class);
+        assertThat(decoded).hasSize(ASSETS);
+        assertThat(decoded[0].id()).isEqualTo(expected[0].id());
+        assertThat(decoded[0].updatedAt().toInstant()).isEqualTo(expected[0].updatedAt().toInstant());
+        assertThat(cbor.body().length).isLessThan(json.body().length);
+    }
+
+    @Test
+    @DisplayName("GET /assets with Accept application/x-jackson-smile returns a Smile body")
+    void getAll_acceptSmile_returnsSmile() throws Exception {
+        HttpResponse<byte[]> smile = get("application/x-jackson-smile", null);
+
+        assertThat(smile.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue("application/x-jackson-smile");
+        AssetResponse[] decoded = SmileMapper.builder().addModule(new JavaTimeModule()).build()
+                .readValue(smile.body(), AssetResponse[].class);
+        assertThat(decoded).extracting(AssetResponse::serialNumber).contains("SN-WIRE-0", "SN-WIRE-" + (ASSETS - 1));
+    }
+
+    @Test
+    @DisplayName("GET /assets with Accept-Encoding gzip compresses a list above the size threshold")
+    void getAll_acceptGzip_compressesList() throws Exception {
+        HttpResponse<byte[]> gzip = get(MediaType.APPLICATION_JSON_VALUE, "gzip");
+
+        assertThat(gzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(objectMapper.readValue(gunzip(gzip.body()), AssetResponse[].class)).hasSize(ASSETS);
+    }
+
+    private HttpResponse<byte[]> get(String accept, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/assets"))
+                .header(HttpHeaders.ACCEPT, accept);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
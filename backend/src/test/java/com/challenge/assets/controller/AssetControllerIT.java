@@ -1,19 +1,34 @@
 package com.challenge.assets.controller;
 
 import com.challenge.assets.AbstractIntegrationTest;
+import com.challenge.assets.SqlQueryBudget;
 import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.service.AssetStatsService;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -26,6 +41,12 @@ class AssetControllerIT extends AbstractIntegrationTest {
     @Autowired
     private AssetRepository repository;
 
+    @Autowired
+    private AssetStatsService statsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static final String VALID_JSON = """
             {
               "name": "Laptop Dell",
@@ -37,6 +58,7 @@ class AssetControllerIT extends AbstractIntegrationTest {
     @BeforeEach
     void cleanup() {
         repository.deleteAll();
+        jdbcTemplate.update("DELETE FROM asset_counters");
     }
 
     @Test
@@ -95,6 +117,375 @@ class AssetControllerIT extends AbstractIntegrationTest {
         mockMvc.perform(delete("/assets/{id}", nonExistentId))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("DEL-001"))
-                .andExpect(jsonPath("$.status").value(404));
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(SqlQueryBudget.atMost(1));
+    }
+
+    @Test
+    @DisplayName("PATCH /assets/{id} with a current If-Match changes only the given field and bumps the ETag")
+    void patch_currentIfMatch_updatesStatusAndETag() throws Exception {
+        String created = mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(SqlQueryBudget.atMost(3))
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(patch("/assets/{id}", id)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_USE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.status").value("IN_USE"))
+                .andExpect(jsonPath("$.name").value("Laptop Dell"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(SqlQueryBudget.atMost(3));
+
+        mockMvc.perform(get("/assets/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.status").value("IN_USE"))
+                .andExpect(SqlQueryBudget.atMost(1));
+    }
+
+    @Test
+    @DisplayName("PATCH /assets/{id} with a stale If-Match returns 412 and code AST-005")
+    void patch_staleIfMatch_returns412WithAst005() throws Exception {
+        String created = mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(created, "$.id");
+        mockMvc.perform(patch("/assets/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_USE\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/assets/{id}", id)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"MAINTENANCE\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("AST-005"))
+                .andExpect(jsonPath("$.status").value(412))
+                .andExpect(SqlQueryBudget.atMost(2));
+    }
+
+    @Test
+    @DisplayName("PATCH /assets/{id} with an empty body returns 400 and code GEN-002")
+    void patch_noFields_returns400WithGen002() throws Exception {
+        mockMvc.perform(patch("/assets/{id}", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("GEN-002"));
+    }
+
+    @Test
+    @DisplayName("GET /assets/{id} returns 304 with no body when If-None-Match matches the current ETag")
+    void getById_matchingIfNoneMatch_returns304() throws Exception {
+        String created = mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(created, "$.id");
+
+        String eTag = mockMvc.perform(get("/assets/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/assets/{id}", id).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /assets returns 304 while the filtered collection is unchanged and 200 after a write")
+    void getAll_collectionETag_revalidates() throws Exception {
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated());
+        String eTag = mockMvc.perform(get("/assets"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/")))
+                .andExpect(SqlQueryBudget.atMost(2))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/assets").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andExpect(SqlQueryBudget.atMost(1));
+
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON.replace("SN-IT-001", "SN-IT-002")))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/assets").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("GET /assets?limit= validates a page with one query and returns 200 once an item of the page changes")
+    void getPage_pageETag_revalidatesWithPageQueryOnly() throws Exception {
+        String id = JsonPath.read(mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), "$.id");
+        String eTag = mockMvc.perform(get("/assets").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/")))
+                .andExpect(SqlQueryBudget.atMost(1))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/assets").param("limit", "10").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(SqlQueryBudget.atMost(1));
+
+        mockMvc.perform(patch("/assets/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_USE\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/assets").param("limit", "10").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].status").value("IN_USE"));
+    }
+
+    @Test
+    @DisplayName("GET /assets?limit= walks all assets page by page using nextCursor")
+    void getPage_followsCursorUntilLastPage() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/assets")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(VALID_JSON.replace("SN-IT-001", "SN-PAGE-" + i)))
+                    .andExpect(status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(get("/assets").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/assets").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /assets?limit=&order=ID walks assets in creation order by their time-ordered IDs")
+    void getPage_orderById_followsCreationOrder() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/assets")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(VALID_JSON.replace("SN-IT-001", "SN-ID-" + i)))
+                    .andExpect(status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(get("/assets").param("limit", "2").param("order", "ID"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].serialNumber", contains("SN-ID-1", "SN-ID-2")))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/assets").param("limit", "2").param("order", "ID").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].serialNumber", contains("SN-ID-3")))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /assets?fields= returns only the id and the requested fields")
+    void getAll_fields_returnsSparseItems() throws Exception {
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/assets").param("fields", "name,status"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].name").value("Laptop Dell"))
+                .andExpect(jsonPath("$[0].status").value("AVAILABLE"))
+                .andExpect(jsonPath("$[0].serialNumber").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist())
+                .andExpect(SqlQueryBudget.atMost(2));
+    }
+
+    @Test
+    @DisplayName("GET /assets?fields= with an unknown field returns 400 and code GEN-004")
+    void getAll_unknownField_returns400WithGen004() throws Exception {
+        mockMvc.perform(get("/assets").param("fields", "name,owner"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("GEN-004"));
+    }
+
+    @Test
+    @DisplayName("GET /assets/suggest answers from the in-memory index, following creates and deletes without SQL")
+    void suggest_writes_keepIndexCurrent() throws Exception {
+        String created = mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON.replace("SN-IT-001", "SUGGEST-IT-1")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(get("/assets/suggest").param("prefix", "suggest-it"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", hasItem(id)))
+                .andExpect(jsonPath("$[0].serialNumber").value("SUGGEST-IT-1"))
+                .andExpect(SqlQueryBudget.atMost(0));
+
+        mockMvc.perform(delete("/assets/{id}", id)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/assets/suggest").param("prefix", "suggest-it"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", not(hasItem(id))));
+    }
+
+    @Test
+    @DisplayName("GET /assets?limit= with a malformed cursor returns 400 and code GEN-003")
+    void getPage_invalidCursor_returns400WithGen003() throws Exception {
+        mockMvc.perform(get("/assets").param("limit", "2").param("cursor", "%%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("GEN-003"));
+    }
+
+    @Test
+    @DisplayName("GET /assets with name filter matches substrings case-insensitively and treats % literally")
+    void getAll_nameFilter_matchesSubstringLiterally() throws Exception {
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/assets").param("name", "top de"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        mockMvc.perform(get("/assets").param("name", "%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /assets/export?format=CSV streams a header row followed by one row per asset")
+    void export_csv_streamsRows() throws Exception {
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated());
+
+        MvcResult started = mockMvc.perform(get("/assets/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                .andExpect(content().string(startsWith("id,name,serialNumber")))
+                .andExpect(content().string(containsString(",Laptop Dell,SN-IT-001,")));
+    }
+
+    @Test
+    @DisplayName("POST /assets/batch creates valid items and reports conflicts and invalid items individually")
+    void postBatch_mixedItems_returnsPerItemResults() throws Exception {
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated());
+
+        String batch = """
+                [
+                  {"name": "Monitor", "serialNumber": "SN-BATCH-1", "acquisitionDate": "2024-01-15T10:00:00Z"},
+                  {"name": "Laptop Dell", "serialNumber": "SN-IT-001", "acquisitionDate": "2024-01-15T10:00:00Z"},
+                  {"name": "", "serialNumber": "SN-BATCH-3", "acquisitionDate": "2024-01-15T10:00:00Z"}
+                ]
+                """;
+
+        mockMvc.perform(post("/assets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.conflicts").value(1))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].asset.id").exists())
+                .andExpect(jsonPath("$.results[1].code").value("AST-002"))
+                .andExpect(jsonPath("$.results[2].code").value("GEN-002"))
+                .andExpect(SqlQueryBudget.atMost(4));
+    }
+
+    @Test
+    @DisplayName("GET /assets/stats reflects creates, status changes and deletes without reading the assets table")
+    void getStats_afterWrites_returnsCounters() throws Exception {
+        String created = mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON.replace("SN-IT-001", "SN-IT-002").replace("2024-01-15", "2023-06-30")))
+                .andExpect(status().isCreated());
+        String id = JsonPath.read(created, "$.id");
+        mockMvc.perform(patch("/assets/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_USE\", \"acquisitionDate\": \"2024-02-01T00:00:00Z\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON.replace("SN-IT-001", "SN-IT-003")))
+                .andExpect(status().isCreated());
+        String third = mockMvc.perform(get("/assets").param("serialNumber", "SN-IT-003"))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(delete("/assets/{id}", (String) JsonPath.read(third, "$[0].id")))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/assets/stats"))
+                .andExpect(status().isOk())
+                .andExpect(SqlQueryBudget.atMost(1))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byStatus.AVAILABLE").value(1))
+                .andExpect(jsonPath("$.byStatus.IN_USE").value(1))
+                .andExpect(jsonPath("$.byStatus.DISPOSED").value(0))
+                .andExpect(jsonPath("$.byAcquisitionYear.2023").value(1))
+                .andExpect(jsonPath("$.byAcquisitionYear.2024").value(1))
+                .andExpect(jsonPath("$.byAcquisitionMonth['2024-02']").value(1))
+                .andExpect(jsonPath("$.byAcquisitionMonth['2024-01']").doesNotExist());
+        assertThat(statsService.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile repairs counters that drifted from the assets table")
+    void reconcile_driftedCounters_repairs() throws Exception {
+        mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_JSON))
+                .andExpect(status().isCreated());
+        jdbcTemplate.update("UPDATE asset_counters SET asset_count = asset_count + 5 WHERE dimension = 'STATUS'");
+        jdbcTemplate.update("UPDATE assets SET status = 'MAINTENANCE'");
+
+        assertThat(statsService.reconcile()).isEqualTo(2);
+
+        mockMvc.perform(get("/assets/stats"))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byStatus.AVAILABLE").value(0))
+                .andExpect(jsonPath("$.byStatus.MAINTENANCE").value(1));
     }
 }
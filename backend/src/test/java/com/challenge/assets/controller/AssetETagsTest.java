@@ -0,0 +1,71 @@
+package com.challenge.assets.controller;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.CursorPageResponse;
+import com.challenge.assets.exception.AssetVersionMismatchException;
+import com.challenge.assets.repository.AssetRepositoryCustom.CollectionStamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AssetETagsTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("expectedVersion should read strong and weak tags and treat absent or * as unconditional")
+    void expectedVersion_validHeaders() {
+        assertThat(AssetETags.expectedVersion(ID, "\"7\"")).isEqualTo(7L);
+        assertThat(AssetETags.expectedVersion(ID, " W/\"7\" ")).isEqualTo(7L);
+        assertThat(AssetETags.expectedVersion(ID, null)).isNull();
+        assertThat(AssetETags.expectedVersion(ID, "*")).isNull();
+    }
+
+    @Test
+    @DisplayName("expectedVersion should reject tags we never issue with ASSET_VERSION_MISMATCH")
+    void expectedVersion_foreignTag_throwsWithAst005() {
+        assertThatThrownBy(() -> AssetETags.expectedVersion(ID, "\"abc\""))
+                .isInstanceOf(AssetVersionMismatchException.class)
+                .satisfies(ex -> assertThat(((AssetVersionMismatchException) ex).getErrorCode()).isEqualTo("AST-005"));
+        assertThatThrownBy(() -> AssetETags.expectedVersion(ID, "\"1\", \"2\""))
+                .isInstanceOf(AssetVersionMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("ofCollection should build a weak tag that changes with the count and the latest update")
+    void ofCollection_changesWithCountAndLastUpdate() {
+        OffsetDateTime last = OffsetDateTime.parse("2024-01-15T10:00:00.000001Z");
+        String tag = AssetETags.ofCollection(new CollectionStamp(2, last));
+
+        assertThat(tag).startsWith("W/\"").endsWith("\"");
+        assertThat(AssetETags.ofCollection(new CollectionStamp(1, last))).isNotEqualTo(tag);
+        assertThat(AssetETags.ofCollection(new CollectionStamp(2, last.plusNanos(1000)))).isNotEqualTo(tag);
+        assertThat(AssetETags.ofCollection(new CollectionStamp(0, null))).isEqualTo("W/\"0-0\"");
+    }
+
+    @Test
+    @DisplayName("ofPage should build a weak tag that changes with the page items, their versions and the next cursor")
+    void ofPage_changesWithItemsVersionsAndCursor() {
+        AssetResponse asset = asset(ID, 1L);
+        String tag = AssetETags.ofPage(new CursorPageResponse<>(List.of(asset), "next"));
+
+        assertThat(tag).startsWith("W/\"").endsWith("\"");
+        assertThat(AssetETags.ofPage(new CursorPageResponse<>(List.of(asset(ID, 1L)), "next"))).isEqualTo(tag);
+        assertThat(AssetETags.ofPage(new CursorPageResponse<>(List.of(asset(ID, 2L)), "next"))).isNotEqualTo(tag);
+        assertThat(AssetETags.ofPage(new CursorPageResponse<>(List.of(asset(UUID.randomUUID(), 1L)), "next")))
+                .isNotEqualTo(tag);
+        assertThat(AssetETags.ofPage(new CursorPageResponse<>(List.of(asset), null))).isNotEqualTo(tag);
+    }
+
+    private static AssetResponse asset(UUID id, long version) {
+        OffsetDateTime at = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+        return new AssetResponse(id, "Laptop", "SN-1", at, AssetStatus.AVAILABLE, at, at, version);
+    }
+}
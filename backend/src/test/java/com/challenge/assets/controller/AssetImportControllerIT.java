@@ -0,0 +1,140 @@
+package com.challenge.assets.controller;
+
+import com.challenge.assets.AbstractIntegrationTest;
+import com.challenge.assets.repository.AssetRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+class AssetImportControllerIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /assets/imports loads valid rows through COPY and reports rejected rows by line")
+    void submit_mixedRows_completesWithErrorReport() throws Exception {
+        String csv = """
+                name,serialNumber,acquisitionDate,status
+                Laptop,SN-IMP-1,2024-01-15T10:00:00Z,IN_USE
+                "Desk, standing",SN-IMP-2,2024-02-01,
+                ,SN-IMP-3,2024-02-01,
+                Laptop copy,SN-IMP-1,2024-03-01,
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "assets.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        String body = mockMvc.perform(multipart("/assets/imports").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").value("QUEUED"))
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(body, "$.id");
+
+        String state = awaitTerminalState(id);
+
+        assertThat(state).isEqualTo("COMPLETED");
+        mockMvc.perform(get("/assets/imports/{id}", id))
+                .andExpect(jsonPath("$.rowsRead").value(4))
+                .andExpect(jsonPath("$.rowsRejected").value(1))
+                .andExpect(jsonPath("$.rowsInserted").value(2))
+                .andExpect(jsonPath("$.rowsConflicted").value(1));
+        mockMvc.perform(get("/assets/imports/{id}/errors", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].lineNumber").value(4))
+                .andExpect(jsonPath("$[0].code").value("GEN-002"))
+                .andExpect(jsonPath("$[1].lineNumber").value(5))
+                .andExpect(jsonPath("$[1].code").value("AST-003"));
+        assertThat(repository.count()).isEqualTo(2);
+        mockMvc.perform(get("/assets/suggest").param("prefix", "sn-imp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].serialNumber", contains("SN-IMP-1", "SN-IMP-2")));
+    }
+
+    @Test
+    @DisplayName("POST /assets/imports appends a single reset entry with the job counters to the change feed")
+    void submit_updateMode_writesOneResetEntry() throws Exception {
+        String existing = """
+                name,serialNumber,acquisitionDate
+                Laptop,SN-IMP-FEED-1,2024-01-15
+                """;
+        awaitTerminalState(JsonPath.read(mockMvc.perform(multipart("/assets/imports").file(csv(existing)))
+                .andReturn().getResponse().getContentAsString(), "$.id"));
+        long before = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM asset_outbox", Long.class);
+        String csv = """
+                name,serialNumber,acquisitionDate,status
+                Laptop renamed,SN-IMP-FEED-1,2024-01-15,IN_USE
+                Monitor,SN-IMP-FEED-2,2024-02-01,
+                """;
+
+        String body = mockMvc.perform(multipart("/assets/imports").file(csv(csv)).param("onConflict", "UPDATE"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+
+        String jobId = JsonPath.read(body, "$.id");
+        assertThat(awaitTerminalState(jobId)).isEqualTo("COMPLETED");
+        List<Map<String, Object>> entries = jdbcTemplate.queryForList(
+                "SELECT event_type, asset_id, payload FROM asset_outbox WHERE id > ? ORDER BY id", before);
+        assertThat(entries).singleElement().satisfies(entry -> {
+            assertThat(entry.get("event_type")).isEqualTo("RESET");
+            assertThat(entry.get("asset_id")).isNull();
+            JsonNode payload = objectMapper.readTree((String) entry.get("payload"));
+            assertThat(payload.get("jobId").asText()).isEqualTo(jobId);
+            assertThat(payload.get("inserted").asLong()).isEqualTo(1);
+            assertThat(payload.get("updated").asLong()).isEqualTo(1);
+        });
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "assets.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String awaitTerminalState(String id) throws Exception {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(30));
+        while (Instant.now().isBefore(deadline)) {
+            String body = mockMvc.perform(get("/assets/imports/{id}", id))
+                    .andReturn().getResponse().getContentAsString();
+            String state = JsonPath.read(body, "$.state");
+            if (state.equals("COMPLETED") || state.equals("FAILED")) {
+                return state;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Import " + id + " did not finish in time");
+    }
+}
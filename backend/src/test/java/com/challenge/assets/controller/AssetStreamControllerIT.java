@@ -0,0 +1,115 @@
+package com.challenge.assets.controller;
+
+import com.challenge.assets.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetStreamControllerIT extends AbstractIntegrationTest {
+
+    private static final String VALID_JSON = """
+            {
+              "name": "Laptop Dell",
+              "serialNumber": "%s",
+              "acquisitionDate": "2024-01-15T10:00:00Z"
+            }
+            """;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("GET /assets/stream pushes committed writes and replays missed events after Last-Event-ID")
+    void stream_writes_pushesEventsAndResumes() throws Exception {
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        HttpResponse<Stream<String>> stream = open(null, lines);
+        assertThat(stream.statusCode()).isEqualTo(200);
+
+        String created = create("SN-STREAM-1");
+        List<String> event = nextEvent(lines);
+        assertThat(event).contains("event:created");
+        assertThat(String.join("\n", event)).contains(created);
+        String eventId = event.stream().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+        stream.body().close();
+
+        create("SN-STREAM-2");
+        BlockingQueue<String> resumed = new LinkedBlockingQueue<>();
+        open(eventId, resumed);
+
+        List<String> missed = nextEvent(resumed);
+        assertThat(missed).contains("event:created", "id:" + (Long.parseLong(eventId) + 1));
+        assertThat(String.join("\n", missed)).contains("SN-STREAM-2");
+    }
+
+    private HttpResponse<Stream<String>> open(String lastEventId, BlockingQueue<String> lines) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/assets/stream"))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        Thread reader = new Thread(() -> {
+            try {
+                response.body().forEach(lines::add);
+            } catch (RuntimeException ignored) {
+                // stream closed by the test
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+        return response;
+    }
+
+    private String create(String serialNumber) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<String> response = restTemplate.postForEntity("/assets",
+                new HttpEntity<>(VALID_JSON.formatted(serialNumber), headers), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return serialNumber;
+    }
+
+    /**
+     * Collects lines up to the blank line that ends the next non-comment event.
+     */
+    private static List<String> nextEvent(BlockingQueue<String> lines) throws InterruptedException {
+        List<String> event = new ArrayList<>();
+        while (true) {
+            String line = lines.poll(10, TimeUnit.SECONDS);
+            assertThat(line).as("SSE line").isNotNull();
+            if (line.isEmpty()) {
+                if (event.stream().anyMatch(l -> l.startsWith("event:"))) {
+                    return event;
+                }
+                event.clear();
+            } else if (!line.startsWith(":")) {
+                event.add(line);
+            }
+        }
+    }
+}
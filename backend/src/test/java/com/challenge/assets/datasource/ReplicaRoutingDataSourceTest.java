@@ -0,0 +1,144 @@
+package com.challenge.assets.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private final AtomicLong clock = new AtomicLong();
+    private ReplicaLagMonitor monitor;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        monitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(1), Duration.ofSeconds(3), clock::get);
+        routing = new ReplicaRoutingDataSource(primary, monitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("A read-only connection should use the replica once a lag check is within the limit")
+    void getConnection_readOnlyReplicaCurrent_usesReplica() throws Exception {
+        monitor.update(Duration.ofMillis(200));
+
+        readOnlyStatement();
+
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection, never()).createStatement();
+    }
+
+    @Test
+    @DisplayName("A read-only connection should use the primary while the replica lag is unknown or above the limit")
+    void getConnection_replicaLagging_usesPrimary() throws Exception {
+        readOnlyStatement();
+        monitor.update(Duration.ofSeconds(3));
+        readOnlyStatement();
+
+        verify(primaryConnection, times(2)).createStatement();
+        verify(replicaConnection, never()).createStatement();
+    }
+
+    @Test
+    @DisplayName("A read-only connection should use the primary once the last lag measurement is older than the max age")
+    void getConnection_measurementStale_usesPrimary() throws Exception {
+        monitor.update(Duration.ofMillis(200));
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        readOnlyStatement();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        verify(primaryConnection).createStatement();
+        verify(replicaConnection, never()).createStatement();
+    }
+
+    @Test
+    @DisplayName("A committed write should pin later reads of the scope to the primary and notify the scope once")
+    void getConnection_afterWriteCommits_pinsReadsToPrimary() throws Exception {
+        monitor.update(Duration.ZERO);
+        AtomicInteger notified = new AtomicInteger();
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.open(false, notified::incrementAndGet)) {
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            routing.getConnection().createStatement();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+
+            readOnlyStatement();
+        }
+
+        assertThat(notified).hasValue(1);
+        verify(primaryConnection, times(2)).createStatement();
+        verify(replicaConnection, never()).createStatement();
+        assertThat(ReadYourWrites.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("A scope opened pinned should read from the primary")
+    void getConnection_pinnedScope_usesPrimary() throws Exception {
+        monitor.update(Duration.ZERO);
+
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.open(true, () -> { })) {
+            readOnlyStatement();
+        }
+
+        verify(primaryConnection).createStatement();
+        verify(replicaConnection, never()).createStatement();
+    }
+
+    /**
+     * What a read-only transaction does: the transaction manager marks the connection read-only before its first
+     * statement.
+     */
+    private void readOnlyStatement() throws Exception {
+        Connection connection = routing.getConnection();
+        connection.setReadOnly(true);
+        connection.createStatement();
+        connection.close();
+    }
+}
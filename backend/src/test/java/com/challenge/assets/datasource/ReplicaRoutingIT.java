@@ -0,0 +1,166 @@
+package com.challenge.assets.datasource;
+
+import com.challenge.assets.AbstractIntegrationTest;
+import com.challenge.assets.repository.AssetRepository;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Routing against two databases: the "replica" is a second database on the same server, migrated separately and
+ * not replicated, so a row tells which side a request read from. Lag checks are run by the tests, not the schedule.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "assets.datasource.routing.lag-check-interval=PT1H",
+        "assets.datasource.routing.lag-max-age=PT2H"
+})
+class ReplicaRoutingIT extends AbstractIntegrationTest {
+
+    private static final String REPLICA_DATABASE = "assets_replica";
+    private static final String VALID_JSON = """
+            {
+              "name": "Laptop Dell",
+              "serialNumber": "%s",
+              "acquisitionDate": "2024-01-15T10:00:00Z"
+            }
+            """;
+
+    private static String replicaUrl;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository repository;
+
+    @Autowired
+    private ReplicaLagMonitor monitor;
+
+    private final JdbcTemplate replica = new JdbcTemplate(
+            new DriverManagerDataSource(replicaUrl(), postgres.getUsername(), postgres.getPassword()));
+
+    @DynamicPropertySource
+    static void configureReplica(DynamicPropertyRegistry registry) {
+        registry.add("assets.datasource.replica.jdbc-url", ReplicaRoutingIT::replicaUrl);
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        replica.update("DELETE FROM assets");
+        monitor.check();
+    }
+
+    @Test
+    @DisplayName("GET /assets reads from the replica")
+    void getAll_replicaCurrent_readsFromReplica() throws Exception {
+        replica.update("""
+                INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+                VALUES (?, 'Laptop Dell', 'SN-REPLICA-ONLY', ?, 'AVAILABLE', ?, ?, 0)
+                """, UUID.randomUUID(), OffsetDateTime.now(), OffsetDateTime.now(), OffsetDateTime.now());
+
+        mockMvc.perform(get("/assets").param("serialNumber", "SN-REPLICA-ONLY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("A write sets the read-primary cookie, and reads carrying it see the write before the replica does")
+    void create_thenGetWithCookie_readsYourWrite() throws Exception {
+        Cookie cookie = mockMvc.perform(post("/assets").contentType(MediaType.APPLICATION_JSON).content(VALID_JSON.formatted("SN-RYW")))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Set-Cookie", containsString(ReadYourWritesFilter.COOKIE + "=")))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        mockMvc.perform(get("/assets").param("serialNumber", "SN-RYW"))
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/assets").param("serialNumber", "SN-RYW").cookie(cookie))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /assets/{id} from a client without the cookie never caches the replica's stale copy")
+    void getById_afterWriteReplicaBehind_servesAndCachesPrimaryValue() throws Exception {
+        String location = mockMvc.perform(post("/assets").contentType(MediaType.APPLICATION_JSON).content(VALID_JSON.formatted("SN-CACHE")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+        UUID id = UUID.fromString(location.substring(location.lastIndexOf('/') + 1));
+        replica.update("""
+                INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+                VALUES (?, 'Laptop Dell', 'SN-CACHE', ?, 'AVAILABLE', ?, ?, 0)
+                """, id, OffsetDateTime.now(), OffsetDateTime.now(), OffsetDateTime.now());
+
+        mockMvc.perform(get("/assets/{id}", id))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/assets/{id}", id).contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"Laptop Dell Refurbished\"}"))
+                .andExpect(status().isOk());
+
+        // The replica still holds the old row; the cache must be refilled from the primary for every client
+        mockMvc.perform(get("/assets/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Laptop Dell Refurbished"));
+        mockMvc.perform(get("/assets/{id}", id))
+                .andExpect(jsonPath("$.name").value("Laptop Dell Refurbished"));
+    }
+
+    @Test
+    @DisplayName("Reads fall back to the primary while the replica lags beyond the limit")
+    void getAll_replicaLagging_readsFromPrimary() throws Exception {
+        mockMvc.perform(post("/assets").contentType(MediaType.APPLICATION_JSON).content(VALID_JSON.formatted("SN-LAG")))
+                .andExpect(status().isCreated());
+        monitor.update(Duration.ofMinutes(1));
+
+        mockMvc.perform(get("/assets").param("serialNumber", "SN-LAG"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    /**
+     * Creates and migrates the replica database once per JVM; the property supplier may be called repeatedly.
+     */
+    private static synchronized String replicaUrl() {
+        if (replicaUrl == null) {
+            try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DROP DATABASE IF EXISTS " + REPLICA_DATABASE);
+                statement.execute("CREATE DATABASE " + REPLICA_DATABASE);
+            } catch (SQLException ex) {
+                throw new IllegalStateException("Could not create the replica database", ex);
+            }
+            String url = postgres.getJdbcUrl().replaceFirst("/[^/?]+(\\?|$)", "/" + REPLICA_DATABASE + "$1");
+            Flyway.configure()
+                    .dataSource(url, postgres.getUsername(), postgres.getPassword())
+                    .locations("classpath:db/migration/common", "classpath:db/migration/postgresql")
+                    .load()
+                    .migrate();
+            replicaUrl = url;
+        }
+        return replicaUrl;
+    }
+}
@@ -0,0 +1,63 @@
+package com.challenge.assets.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TimeOrderedUuidGeneratorTest {
+
+    /** PostgreSQL's uuid ordering: unsigned, byte by byte. */
+    private static final Comparator<UUID> UNSIGNED = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    @Test
+    @DisplayName("next should return version 7 UUIDs with the RFC 9562 variant")
+    void next_returnsVersion7() {
+        UUID id = TimeOrderedUuidGenerator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("next should return strictly increasing UUIDs, also within the same millisecond")
+    void next_manyCalls_strictlyIncreasing() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(TimeOrderedUuidGenerator.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(UNSIGNED.compare(ids.get(i - 1), ids.get(i))).isNegative();
+            assertThat(ids.get(i - 1).toString()).isLessThan(ids.get(i).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("timestampOf should return the generation time in milliseconds")
+    void timestampOf_generatedId_returnsCreationTime() {
+        Instant before = Instant.now();
+
+        Instant timestamp = TimeOrderedUuidGenerator.timestampOf(TimeOrderedUuidGenerator.next());
+
+        assertThat(timestamp).isCloseTo(before, within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("timestampOf should reject UUIDs that are not version 7")
+    void timestampOf_randomUuid_throws() {
+        assertThatThrownBy(() -> TimeOrderedUuidGenerator.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,190 @@
+package com.challenge.assets.history;
+
+import com.challenge.assets.AbstractIntegrationTest;
+import com.challenge.assets.repository.AssetRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class AssetHistoryIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        jdbcTemplate.update("DELETE FROM asset_history");
+    }
+
+    @Test
+    @DisplayName("GET /assets/{id}/history should list create, update and delete newest first with their snapshots")
+    void getHistory_afterLifecycle_returnsChangesNewestFirst() throws Exception {
+        String body = mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Laptop Dell", "serialNumber": "SN-HIST-001", "acquisitionDate": "2024-01-15T10:00:00Z"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        UUID id = UUID.fromString(objectMapper.readTree(body).get("id").asText());
+        mockMvc.perform(patch("/assets/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_USE\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/assets/{id}", id))
+                .andExpect(status().isNoContent());
+
+        awaitHistorySize(id, 3);
+
+        mockMvc.perform(get("/assets/{id}/history", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].type", contains("DELETED", "UPDATED", "CREATED")))
+                .andExpect(jsonPath("$.items[1].previous.status").value("AVAILABLE"))
+                .andExpect(jsonPath("$.items[1].current.status").value("IN_USE"))
+                .andExpect(jsonPath("$.items[2].previous").value(nullValue()))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /assets/{id}/history should page backwards with nextCursor")
+    void getHistory_limitBelowSize_pagesWithCursor() throws Exception {
+        String body = mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Laptop Dell", "serialNumber": "SN-HIST-002", "acquisitionDate": "2024-01-15T10:00:00Z"}
+                                """))
+                .andReturn().getResponse().getContentAsString();
+        UUID id = UUID.fromString(objectMapper.readTree(body).get("id").asText());
+        for (String name : new String[]{"Laptop Dell v2", "Laptop Dell v3"}) {
+            mockMvc.perform(patch("/assets/{id}", id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\": \"" + name + "\"}"))
+                    .andExpect(status().isOk());
+        }
+        awaitHistorySize(id, 3);
+
+        JsonNode first = objectMapper.readTree(mockMvc.perform(get("/assets/{id}/history", id).param("limit", "2"))
+                .andExpect(jsonPath("$.items[*].current.name", contains("Laptop Dell v3", "Laptop Dell v2")))
+                .andReturn().getResponse().getContentAsString());
+
+        mockMvc.perform(get("/assets/{id}/history", id)
+                        .param("limit", "2")
+                        .param("cursor", first.get("nextCursor").asText()))
+                .andExpect(jsonPath("$.items[*].type", contains("CREATED")))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("A CSV import should record CREATED for new assets and UPDATED with the overwritten state")
+    void getHistory_afterImportWithUpdate_returnsImportedChanges() throws Exception {
+        String body = mockMvc.perform(post("/assets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Laptop Dell", "serialNumber": "SN-HIST-IMP-1", "acquisitionDate": "2024-01-15T10:00:00Z"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        UUID existingId = UUID.fromString(objectMapper.readTree(body).get("id").asText());
+        awaitHistorySize(existingId, 1);
+        String csv = """
+                name,serialNumber,acquisitionDate,status
+                Laptop Dell Imported,SN-HIST-IMP-1,2024-01-15T10:00:00Z,IN_USE
+                Monitor LG,SN-HIST-IMP-2,2024-02-01,
+                """;
+
+        String job = mockMvc.perform(multipart("/assets/imports")
+                        .file(new MockMultipartFile("file", "assets.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)))
+                        .param("onConflict", "UPDATE"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        awaitImport(objectMapper.readTree(job).get("id").asText());
+
+        // Written in the import transaction: complete as soon as the job is
+        mockMvc.perform(get("/assets/{id}/history", existingId))
+                .andExpect(jsonPath("$.items[*].type", contains("UPDATED", "CREATED")))
+                .andExpect(jsonPath("$.items[0].previous.name").value("Laptop Dell"))
+                .andExpect(jsonPath("$.items[0].previous.version").value(0))
+                .andExpect(jsonPath("$.items[0].current.name").value("Laptop Dell Imported"))
+                .andExpect(jsonPath("$.items[0].current.status").value("IN_USE"))
+                .andExpect(jsonPath("$.items[0].current.version").value(1));
+        UUID importedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM assets WHERE serial_number = 'SN-HIST-IMP-2'", UUID.class);
+        mockMvc.perform(get("/assets/{id}/history", importedId))
+                .andExpect(jsonPath("$.items[*].type", contains("CREATED")))
+                .andExpect(jsonPath("$.items[0].previous").value(nullValue()))
+                .andExpect(jsonPath("$.items[0].current.serialNumber").value("SN-HIST-IMP-2"))
+                .andExpect(jsonPath("$.items[0].current.status").value("AVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("GET /assets/{id}/history should return 400 for a malformed cursor")
+    void getHistory_invalidCursor_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/assets/{id}/history", UUID.randomUUID()).param("cursor", "%%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("GEN-003"));
+    }
+
+    private void awaitImport(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            String state = objectMapper.readTree(mockMvc.perform(get("/assets/imports/{id}", jobId))
+                    .andReturn().getResponse().getContentAsString()).get("state").asText();
+            if (state.equals("COMPLETED") || state.equals("FAILED")) {
+                assertThat(state).isEqualTo("COMPLETED");
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Import " + jobId + " did not finish in time");
+    }
+
+    /**
+     * History is written after commit by a background thread.
+     */
+    private void awaitHistorySize(UUID assetId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        long count = 0;
+        while (System.currentTimeMillis() < deadline) {
+            count = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM asset_history WHERE asset_id = ?", Long.class, assetId);
+            if (count >= expected) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        assertThat(count).isEqualTo(expected);
+    }
+}
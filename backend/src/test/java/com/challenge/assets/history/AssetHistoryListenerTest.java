@@ -0,0 +1,88 @@
+package com.challenge.assets.history;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.history.AssetHistoryWriter.Change;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AssetHistoryListenerTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+    private static final OffsetDateTime UPDATED = CREATED.plusHours(1);
+
+    @Mock
+    private AssetHistoryWriter writer;
+
+    @InjectMocks
+    private AssetHistoryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("onAssetChanged should hand the changes of a transaction to the writer once, after commit")
+    @SuppressWarnings("unchecked")
+    void onAssetChanged_committed_enqueuesAfterCommit() {
+        AssetResponse created = asset(CREATED);
+        AssetResponse updated = asset(UPDATED);
+        listener.onAssetChanged(AssetChangedEvent.created(created));
+        listener.onAssetChanged(AssetChangedEvent.updated(created, updated));
+        verifyNoInteractions(writer);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        ArgumentCaptor<List<Change>> changes = ArgumentCaptor.forClass(List.class);
+        verify(writer).enqueue(changes.capture());
+        assertThat(changes.getValue()).extracting(Change::changedAt).containsExactly(CREATED, UPDATED);
+    }
+
+    @Test
+    @DisplayName("onAssetChanged should record nothing when the transaction rolls back")
+    void onAssetChanged_rolledBack_recordsNothing() {
+        listener.onAssetChanged(AssetChangedEvent.created(asset(CREATED)));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verifyNoInteractions(writer);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+
+    private static AssetResponse asset(OffsetDateTime updatedAt) {
+        return new AssetResponse(UUID.fromString("0190f1a0-0000-7000-8000-000000000001"), "Laptop Dell", "SN-001",
+                CREATED, AssetStatus.AVAILABLE, CREATED, updatedAt, 0L);
+    }
+}
@@ -0,0 +1,201 @@
+package com.challenge.assets.history;
+
+import com.challenge.assets.config.AssetHistoryProperties;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.history.AssetHistoryWriter.Change;
+import com.challenge.assets.repository.AssetHistoryRepository;
+import com.challenge.assets.repository.AssetHistoryRepository.NewEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AssetHistoryWriterTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+
+    @Mock
+    private AssetHistoryRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstWriteReleased = new CountDownLatch(1);
+
+    private AssetHistoryWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        firstWriteReleased.countDown();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Changes that pile up during a write should be written in batches of batchSize")
+    void enqueue_duringSlowWrite_writesInBatches() {
+        writer = started(new AssetHistoryProperties(10_000, 500, Duration.ofMillis(10), Duration.ofSeconds(1),
+                Duration.ofMillis(1), Duration.ofSeconds(10)));
+        blockFirstWrite();
+
+        writer.enqueue(changes(1));
+        verify(repository, timeout(1_000)).insert(anyList());
+        writer.enqueue(changes(1_000));
+        firstWriteReleased.countDown();
+        writer.stop();
+
+        assertThat(batchSizes).containsExactly(1, 500, 500);
+    }
+
+    @Test
+    @DisplayName("stop should write everything still buffered before returning")
+    void stop_bufferedChanges_drainsBuffer() {
+        writer = started(new AssetHistoryProperties(10_000, 100, Duration.ofMillis(10), Duration.ofSeconds(1),
+                Duration.ofMillis(1), Duration.ofSeconds(10)));
+        recordBatches();
+
+        writer.enqueue(changes(1_234));
+        writer.stop();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1_234);
+        assertThat(writer.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("enqueue should drop and count changes that do not fit a full buffer within enqueueTimeout")
+    void enqueue_bufferFull_dropsAfterTimeout() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        writer = started(new AssetHistoryProperties(2, 500, Duration.ofMillis(10), Duration.ofMillis(10),
+                Duration.ofMillis(1), Duration.ofSeconds(10)));
+        writer.bindTo(registry);
+        blockFirstWrite();
+
+        writer.enqueue(changes(1));
+        verify(repository, timeout(1_000)).insert(anyList());
+        writer.enqueue(changes(3));
+        firstWriteReleased.countDown();
+        writer.stop();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+        assertThat(registry.get("assets.history.entries").tag("outcome", "dropped").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("assets.history.entries").tag("outcome", "written").functionCounter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("enqueue should wait at most enqueueTimeout for the whole list and drop what does not fit")
+    void enqueue_manyChangesBufferFull_sharesOneDeadline() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        writer = started(new AssetHistoryProperties(2, 500, Duration.ofMillis(10), Duration.ofMillis(300),
+                Duration.ofMillis(1), Duration.ofSeconds(10)));
+        writer.bindTo(registry);
+        blockFirstWrite();
+
+        writer.enqueue(changes(1));
+        verify(repository, timeout(1_000)).insert(anyList());
+        long start = System.nanoTime();
+        writer.enqueue(changes(10));
+        Duration waited = Duration.ofNanos(System.nanoTime() - start);
+        firstWriteReleased.countDown();
+        writer.stop();
+
+        assertThat(waited).isLessThan(Duration.ofMillis(1_500));
+        assertThat(registry.get("assets.history.entries").tag("outcome", "dropped").functionCounter().count())
+                .isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("A batch that fails to write should be retried until it succeeds")
+    void drain_writeFails_retriesBatch() {
+        writer = started(new AssetHistoryProperties(10_000, 500, Duration.ofMillis(10), Duration.ofSeconds(1),
+                Duration.ofMillis(1), Duration.ofSeconds(10)));
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .doNothing()
+                .when(repository).insert(anyList());
+
+        writer.enqueue(changes(1));
+        writer.stop();
+
+        verify(repository, times(2)).insert(anyList());
+    }
+
+    @Test
+    @DisplayName("enqueue should write directly while the writer is not running")
+    void enqueue_notRunning_writesOnCallerThread() {
+        writer = new AssetHistoryWriter(repository, objectMapper, new AssetHistoryProperties(10_000, 500,
+                Duration.ofMillis(10), Duration.ofSeconds(1), Duration.ofMillis(1), Duration.ofSeconds(10)));
+        doNothing().when(repository).insert(anyList());
+
+        writer.enqueue(changes(2));
+
+        verify(repository).insert(any());
+    }
+
+    private AssetHistoryWriter started(AssetHistoryProperties properties) {
+        AssetHistoryWriter started = new AssetHistoryWriter(repository, objectMapper, properties);
+        started.start();
+        return started;
+    }
+
+    private void recordBatches() {
+        doAnswer(invocation -> {
+            List<NewEntry> entries = invocation.getArgument(0);
+            batchSizes.add(entries.size());
+            return null;
+        }).when(repository).insert(anyList());
+    }
+
+    private void blockFirstWrite() {
+        doAnswer(invocation -> {
+            List<NewEntry> entries = invocation.getArgument(0);
+            batchSizes.add(entries.size());
+            if (batchSizes.size() == 1) {
+                firstWriteReleased.await();
+            }
+            return null;
+        }).when(repository).insert(anyList());
+    }
+
+    private static List<Change> changes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Change(AssetChangedEvent.created(asset()), NOW))
+                .toList();
+    }
+
+    private static AssetResponse asset() {
+        return new AssetResponse(UUID.randomUUID(), "Laptop Dell", "SN-" + UUID.randomUUID(), NOW,
+                AssetStatus.AVAILABLE, NOW, NOW, 0L);
+    }
+}
@@ -0,0 +1,141 @@
+package com.challenge.assets.idempotency;
+
+import com.challenge.assets.AbstractIntegrationTest;
+import com.challenge.assets.repository.AssetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class IdempotencyIT extends AbstractIntegrationTest {
+
+    private static final String ASSET = """
+            {"name": "Laptop Dell", "serialNumber": "%s", "acquisitionDate": "2024-01-15T10:00:00Z"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssetRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+    }
+
+    @Test
+    @DisplayName("A retried POST /assets with the same Idempotency-Key returns the original 201 without a second write")
+    void create_retryWithSameKey_replaysCreated() throws Exception {
+        String key = UUID.randomUUID().toString();
+        MvcResult first = create(key, "SN-IDEM-1")
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotentRequestHandler.REPLAYED))
+                .andReturn();
+        String id = objectMapper.readTree(first.getResponse().getContentAsString()).get("id").asText();
+
+        create(key, "SN-IDEM-1")
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotentRequestHandler.REPLAYED, "true"))
+                .andExpect(header().string("Location", first.getResponse().getHeader("Location")))
+                .andExpect(header().string("ETag", first.getResponse().getHeader("ETag")))
+                .andExpect(jsonPath("$.id").value(id));
+
+        assertThat(repository.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT response_status FROM idempotency_keys WHERE idempotency_key = ?",
+                Integer.class, key)).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("Reusing an Idempotency-Key with a different body returns 422 and writes nothing")
+    void create_sameKeyDifferentBody_returnsUnprocessable() throws Exception {
+        String key = UUID.randomUUID().toString();
+        create(key, "SN-IDEM-1").andExpect(status().isCreated());
+
+        create(key, "sn-idem-1 ")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("GEN-007"));
+
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Concurrent requests with the same Idempotency-Key create one asset and all get its response")
+    void create_concurrentSameKey_createsOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<MvcResult>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Callable<MvcResult> request = () -> create(key, "SN-IDEM-RACE").andReturn();
+                results.add(executor.submit(request));
+            }
+            List<String> ids = new ArrayList<>();
+            for (Future<MvcResult> result : results) {
+                MvcResult response = result.get();
+                assertThat(response.getResponse().getStatus()).isEqualTo(201);
+                ids.add(objectMapper.readTree(response.getResponse().getContentAsString()).get("id").asText());
+            }
+            assertThat(ids).containsOnly(ids.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A retried POST /assets/batch with the same Idempotency-Key replays the per-item results")
+    void createBatch_retryWithSameKey_replaysResults() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String batch = "[" + ASSET.formatted("SN-IDEM-B1") + "," + ASSET.formatted("SN-IDEM-B2") + "]";
+        mockMvc.perform(post("/assets/batch").header(IdempotentRequestHandler.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2));
+
+        mockMvc.perform(post("/assets/batch").header(IdempotentRequestHandler.IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotentRequestHandler.REPLAYED, "true"))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.conflicts").value(0));
+
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    private ResultActions create(String key, String serialNumber) throws Exception {
+        return mockMvc.perform(post("/assets")
+                .header(IdempotentRequestHandler.IDEMPOTENCY_KEY, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(ASSET.formatted(serialNumber)));
+    }
+}
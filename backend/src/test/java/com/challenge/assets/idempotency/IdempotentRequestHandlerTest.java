@@ -0,0 +1,229 @@
+package com.challenge.assets.idempotency;
+
+import com.challenge.assets.config.IdempotencyProperties;
+import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.IdempotencyKeyException;
+import com.challenge.assets.repository.IdempotencyKeyRepository;
+import com.challenge.assets.repository.IdempotencyKeyRepository.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentRequestHandlerTest {
+
+    private static final String KEY = "scan-42";
+    private static final String OPERATION = "POST /assets";
+
+    @Mock
+    private IdempotencyKeyRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    record Created(String serialNumber) {}
+
+    @Test
+    @DisplayName("Without Idempotency-Key the action runs and nothing is stored")
+    void execute_withoutKey_runsActionWithoutStore() {
+        ResponseEntity<Created> response = handler(Duration.ofSeconds(1))
+                .execute(null, OPERATION, new Created("SN-1"), Created.class, this::create);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("A retry with the same key and request should replay the stored response from memory without writing")
+    void execute_retryWithSameKey_replaysStoredResponse() {
+        IdempotentRequestHandler handler = handler(Duration.ofSeconds(1));
+        when(repository.find(eq(KEY), any())).thenReturn(Optional.empty());
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(true);
+
+        ResponseEntity<Created> first = handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, this::create);
+        ResponseEntity<Created> retry = handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, this::create);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getHeaders().containsKey(IdempotentRequestHandler.REPLAYED)).isFalse();
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(retry.getHeaders().getLocation()).isEqualTo(first.getHeaders().getLocation());
+        assertThat(retry.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        assertThat(retry.getHeaders().getFirst(IdempotentRequestHandler.REPLAYED)).isEqualTo("true");
+        verify(repository).find(eq(KEY), any());
+        verify(repository).complete(eq(KEY), any());
+    }
+
+    @Test
+    @DisplayName("Reusing a key for a different request should be rejected with 422")
+    void execute_sameKeyDifferentRequest_throwsReused() {
+        IdempotentRequestHandler handler = handler(Duration.ofSeconds(1));
+        when(repository.find(eq(KEY), any())).thenReturn(Optional.empty());
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(true);
+        handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, this::create);
+
+        assertThatThrownBy(() -> handler.execute(KEY, OPERATION, new Created("SN-2"), Created.class, this::create))
+                .isInstanceOfSatisfying(IdempotencyKeyException.class, ex ->
+                        assertThat(ex.getErrorCodeEnum()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("A key completed on another instance should be replayed from the database without claiming it")
+    void execute_keyStoredInDatabase_replaysWithoutWriting() {
+        when(repository.find(eq(KEY), any())).thenReturn(Optional.empty());
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(true);
+        handler(Duration.ofSeconds(1)).execute(KEY, OPERATION, new Created("SN-1"), Created.class, this::create);
+        ArgumentCaptor<StoredResponse> stored = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(repository).complete(eq(KEY), stored.capture());
+        when(repository.find(eq(KEY), any())).thenReturn(Optional.of(stored.getValue()));
+
+        ResponseEntity<Created> retry = handler(Duration.ofSeconds(1))
+                .execute(KEY, OPERATION, new Created("SN-1"), Created.class, this::create);
+
+        assertThat(retry.getBody()).isEqualTo(new Created("SN-1"));
+        assertThat(retry.getHeaders().getFirst(IdempotentRequestHandler.REPLAYED)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+        verify(repository, times(1)).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("A duplicate arriving while the first request runs should wait for it and replay its response")
+    void execute_duplicateWhileFirstRuns_waitsAndReplays() throws Exception {
+        IdempotentRequestHandler handler = handler(Duration.ofSeconds(5));
+        when(repository.find(eq(KEY), any())).thenReturn(Optional.empty());
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ResponseEntity<Created>> first = CompletableFuture.supplyAsync(() ->
+                handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ResponseEntity<Created>> duplicate = CompletableFuture.supplyAsync(() ->
+                handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, this::create));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        ResponseEntity<Created> replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.getBody()).isEqualTo(new Created("SN-1"));
+        assertThat(replayed.getHeaders().getFirst(IdempotentRequestHandler.REPLAYED)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+        verify(repository, times(1)).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("A duplicate waiting longer than inFlightTimeout should get 409")
+    void execute_duplicateWaitsTooLong_throwsInProgress() throws Exception {
+        IdempotentRequestHandler handler = handler(Duration.ofMillis(50));
+        when(repository.find(eq(KEY), any())).thenReturn(Optional.empty());
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<Created>> first = CompletableFuture.supplyAsync(() ->
+                handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, this::create))
+                    .isInstanceOfSatisfying(IdempotencyKeyException.class, ex ->
+                            assertThat(ex.getErrorCodeEnum()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS));
+        } finally {
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("A request that fails stores nothing, so its retry runs again")
+    void execute_actionFails_retryRunsAgain() {
+        IdempotentRequestHandler handler = handler(Duration.ofSeconds(1));
+        when(repository.find(eq(KEY), any())).thenReturn(Optional.empty());
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+        ResponseEntity<Created> retry = handler.execute(KEY, OPERATION, new Created("SN-1"), Created.class, this::create);
+
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().containsKey(IdempotentRequestHandler.REPLAYED)).isFalse();
+        verify(repository, times(2)).claim(any(), any(), any(), any());
+        verify(repository, times(1)).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("A blank or oversized key should be rejected with 400 before anything runs")
+    void execute_invalidKey_throwsInvalidKey() {
+        IdempotentRequestHandler handler = handler(Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> handler.execute(" ", OPERATION, new Created("SN-1"), Created.class, this::create))
+                .isInstanceOfSatisfying(IdempotencyKeyException.class, ex ->
+                        assertThat(ex.getErrorCodeEnum()).isEqualTo(ErrorCode.INVALID_IDEMPOTENCY_KEY));
+        assertThatThrownBy(() -> handler.execute("k".repeat(IdempotentRequestHandler.MAX_KEY_LENGTH + 1), OPERATION,
+                new Created("SN-1"), Created.class, this::create))
+                .isInstanceOf(IdempotencyKeyException.class);
+        assertThat(executions).hasValue(0);
+        verify(repository, never()).claim(any(), any(), any(), any());
+    }
+
+    private IdempotentRequestHandler handler(Duration inFlightTimeout) {
+        return new IdempotentRequestHandler(repository, objectMapper,
+                new IdempotencyProperties(Duration.ofHours(24), 100, inFlightTimeout), transactionManager);
+    }
+
+    private ResponseEntity<Created> create() {
+        executions.incrementAndGet();
+        return ResponseEntity.created(URI.create("http://localhost/assets/1"))
+                .header(HttpHeaders.ETAG, "\"0\"")
+                .body(new Created("SN-1"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.challenge.assets.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlQueryCountFilterTest {
+
+    private final SqlQueryCountFilter filter = new SqlQueryCountFilter(10);
+
+    @Test
+    @DisplayName("doFilter should report the statements executed before the body is written")
+    void doFilter_statementsBeforeBody_setsHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/assets"), response, (req, res) -> {
+            SqlStatementCounter.record("select count(*) from assets");
+            SqlStatementCounter.record("select * from assets");
+            res.getOutputStream().write('[');
+            res.flushBuffer();
+            SqlStatementCounter.record("select * from assets offset 1");
+        });
+
+        assertThat(response.getHeader(SqlQueryCountFilter.HEADER)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("doFilter should set the header on responses without a body")
+    void doFilter_noBody_setsHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/assets/1"), response,
+                (req, res) -> SqlStatementCounter.record("delete from assets where id = ?"));
+
+        assertThat(response.getHeader(SqlQueryCountFilter.HEADER)).isEqualTo("1");
+    }
+}
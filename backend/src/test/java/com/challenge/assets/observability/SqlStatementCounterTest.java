@@ -0,0 +1,41 @@
+package com.challenge.assets.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCounterTest {
+
+    @Test
+    @DisplayName("record should count in every enclosing scope and stop counting once a scope is closed")
+    void record_nestedScopes_countsInEnclosingScopes() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+            SqlStatementCounter.record("select 1");
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                SqlStatementCounter.record("select 2");
+                assertThat(inner.count()).isEqualTo(1);
+            }
+            SqlStatementCounter.record("select 3");
+
+            assertThat(outer.count()).isEqualTo(3);
+        }
+        SqlStatementCounter.record("select 4");
+    }
+
+    @Test
+    @DisplayName("mostRepeated should return the statement executed most often")
+    void mostRepeated_repeatedSelect_returnsIt() {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            SqlStatementCounter.record("select * from assets");
+            for (int i = 0; i < 3; i++) {
+                SqlStatementCounter.record("select * from assets where id = ?");
+            }
+
+            assertThat(scope.mostRepeated()).contains(Map.entry("select * from assets where id = ?", 3));
+            assertThat(scope.executions()).hasSize(2);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.challenge.assets.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetRepositoryCustomImplTest {
+
+    @Test
+    @DisplayName("containsPattern should lower-case the term and wrap it in wildcards")
+    void containsPattern_lowercasesAndWraps() {
+        assertThat(AssetRepositoryCustomImpl.containsPattern("SN-ABC")).isEqualTo("%sn-abc%");
+    }
+
+    @Test
+    @DisplayName("containsPattern should escape LIKE wildcards so they match literally")
+    void containsPattern_escapesWildcards() {
+        assertThat(AssetRepositoryCustomImpl.containsPattern("50%_off\\")).isEqualTo("%50\\%\\_off\\\\%");
+    }
+
+    @Test
+    @DisplayName("AssetSearchCriteria should treat blank filters as absent")
+    void criteria_blankFilters_areAbsent() {
+        AssetSearchCriteria criteria = new AssetSearchCriteria("  ", "", null);
+
+        assertThat(criteria.hasName()).isFalse();
+        assertThat(criteria.hasSerialNumber()).isFalse();
+        assertThat(criteria.hasStatus()).isFalse();
+    }
+
+    @Test
+    @DisplayName("AssetSearchCriteria without the archive flag should cover only non-archived assets")
+    void criteria_threeFilters_excludeArchived() {
+        assertThat(new AssetSearchCriteria("Laptop", null, null).includeArchived()).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.AssetArchiveProperties;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.repository.AssetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetArchiveServiceTest {
+
+    @Mock
+    private AssetRepository repository;
+
+    private AssetArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AssetArchiveService(repository, new AssetArchiveProperties(Duration.ofDays(90), 100, 3));
+    }
+
+    @Test
+    @DisplayName("archiveDisposed should archive DISPOSED assets older than the minimum age until a chunk comes back short")
+    void archiveDisposed_backlog_movesChunksUntilShort() {
+        when(repository.archiveBefore(eq(AssetStatus.DISPOSED), any(OffsetDateTime.class), eq(100)))
+                .thenReturn(100, 40);
+
+        int archived = service.archiveDisposed();
+
+        assertThat(archived).isEqualTo(140);
+        ArgumentCaptor<OffsetDateTime> cutoff = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(repository, times(2)).archiveBefore(eq(AssetStatus.DISPOSED), cutoff.capture(), eq(100));
+        assertThat(cutoff.getValue()).isCloseTo(OffsetDateTime.now().minusDays(90), within(1, ChronoUnit.MINUTES));
+    }
+
+    @Test
+    @DisplayName("archiveDisposed should stop after the per-run chunk limit")
+    void archiveDisposed_largeBacklog_stopsAtChunkLimit() {
+        when(repository.archiveBefore(eq(AssetStatus.DISPOSED), any(OffsetDateTime.class), eq(100))).thenReturn(100);
+
+        int archived = service.archiveDisposed();
+
+        assertThat(archived).isEqualTo(300);
+        verify(repository, times(3)).archiveBefore(eq(AssetStatus.DISPOSED), any(OffsetDateTime.class), eq(100));
+    }
+}
@@ -0,0 +1,111 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.AssetBatchProperties;
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetRequest;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.BatchCreateResponse;
+import com.challenge.assets.dto.BatchItemStatus;
+import com.challenge.assets.exception.BatchSizeExceededException;
+import com.challenge.assets.mapper.AssetMapper;
+import com.challenge.assets.repository.AssetRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetBatchServiceTest {
+
+    @Mock
+    private AssetRepository repository;
+
+    @Mock
+    private AssetMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AssetBatchService service;
+
+    private static final OffsetDateTime SAMPLE_DATE = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        service = new AssetBatchService(repository, mapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), new AssetBatchProperties(3), eventPublisher);
+    }
+
+    @Test
+    @DisplayName("createBatch should report created, conflict (db and in-batch) and invalid items in request order")
+    void createBatch_mixedItems_reportsPerItemResults() {
+        AssetRequest ok = new AssetRequest("Laptop", "SN-1", SAMPLE_DATE, null);
+        AssetRequest repeated = new AssetRequest("Laptop 2", "SN-1", SAMPLE_DATE, null);
+        AssetRequest invalid = new AssetRequest("", "SN-3", SAMPLE_DATE, null);
+        Asset entity = Asset.builder().name("Laptop").serialNumber("SN-1").build();
+        AssetResponse response = new AssetResponse(UUID.randomUUID(), "Laptop", "SN-1", SAMPLE_DATE,
+                AssetStatus.AVAILABLE, SAMPLE_DATE, SAMPLE_DATE, 0L);
+        when(mapper.toEntity(ok)).thenReturn(entity);
+        when(repository.insertSkippingConflicts(eq(List.of(entity)), any())).thenReturn(List.of(entity));
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        BatchCreateResponse result = service.createBatch(List.of(ok, repeated, invalid));
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.conflicts()).isEqualTo(1);
+        assertThat(result.invalid()).isEqualTo(1);
+        assertThat(result.results()).extracting("status")
+                .containsExactly(BatchItemStatus.CREATED, BatchItemStatus.CONFLICT, BatchItemStatus.INVALID);
+        assertThat(result.results().get(1).code()).isEqualTo("AST-003");
+        assertThat(result.results().get(2).details()).extracting("field").containsExactly("name");
+    }
+
+    @Test
+    @DisplayName("createBatch should mark items the insert skipped on an existing serial as CONFLICT with AST-002")
+    void createBatch_existingSerial_conflictWithAst002() {
+        AssetRequest taken = new AssetRequest("Laptop", "SN-1", SAMPLE_DATE, null);
+        AssetRequest free = new AssetRequest("Monitor", "SN-2", SAMPLE_DATE, null);
+        Asset takenEntity = Asset.builder().name("Laptop").serialNumber("SN-1").build();
+        Asset freeEntity = Asset.builder().name("Monitor").serialNumber("SN-2").build();
+        when(mapper.toEntity(taken)).thenReturn(takenEntity);
+        when(mapper.toEntity(free)).thenReturn(freeEntity);
+        when(repository.insertSkippingConflicts(eq(List.of(takenEntity, freeEntity)), any()))
+                .thenReturn(List.of(freeEntity));
+        when(mapper.toResponse(freeEntity)).thenReturn(new AssetResponse(UUID.randomUUID(), "Monitor", "SN-2",
+                SAMPLE_DATE, AssetStatus.AVAILABLE, SAMPLE_DATE, SAMPLE_DATE, 0L));
+
+        BatchCreateResponse result = service.createBatch(List.of(taken, free));
+
+        assertThat(result.results()).extracting("status")
+                .containsExactly(BatchItemStatus.CONFLICT, BatchItemStatus.CREATED);
+        assertThat(result.results().get(0).code()).isEqualTo("AST-002");
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("createBatch should reject batches above the configured maximum with AST-004")
+    void createBatch_tooLarge_throwsWithAst004() {
+        AssetRequest request = new AssetRequest("Laptop", "SN-1", SAMPLE_DATE, null);
+
+        assertThatThrownBy(() -> service.createBatch(List.of(request, request, request, request)))
+                .isInstanceOf(BatchSizeExceededException.class)
+                .satisfies(ex -> assertThat(((BatchSizeExceededException) ex).getErrorCode()).isEqualTo("AST-004"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.ExportProperties;
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.ExportFormat;
+import com.challenge.assets.mapper.AssetMapper;
+import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.repository.AssetSearchCriteria;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetExportServiceTest {
+
+    @Mock
+    private AssetRepository repository;
+
+    @Mock
+    private AssetMapper mapper;
+
+    private AssetExportService service;
+
+    private static final OffsetDateTime SAMPLE_DATE = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+    private static final AssetSearchCriteria NO_FILTERS = new AssetSearchCriteria(null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new AssetExportService(repository, mapper, objectMapper, new ExportProperties(100, 1));
+    }
+
+    @Test
+    @DisplayName("export NDJSON should write one JSON object per line")
+    void export_ndjson_writesOneObjectPerLine() throws Exception {
+        stubRows(response("Laptop", "SN-1"), response("Monitor", "SN-2"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(NO_FILTERS, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"serialNumber\":\"SN-1\"");
+        assertThat(lines[1]).contains("\"serialNumber\":\"SN-2\"");
+    }
+
+    @Test
+    @DisplayName("export CSV should write a header and quote fields containing delimiters")
+    void export_csv_writesHeaderAndEscapes() throws Exception {
+        stubRows(response("Desk, \"standing\"", "SN-1"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(NO_FILTERS, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).isEqualTo(AssetExportService.CSV_HEADER);
+        assertThat(lines[1]).contains(",\"Desk, \"\"standing\"\"\",SN-1,");
+    }
+
+    @Test
+    @DisplayName("writeCsvField should leave plain values unquoted")
+    void writeCsvField_plainValue_unquoted() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        AssetExportService.writeCsvField(writer, "SN-001");
+
+        assertThat(writer.toString()).isEqualTo("SN-001");
+    }
+
+    private void stubRows(AssetResponse... responses) {
+        Asset[] rows = new Asset[responses.length];
+        for (int i = 0; i < responses.length; i++) {
+            rows[i] = Asset.builder().id(responses[i].id()).build();
+            when(mapper.toResponse(rows[i])).thenReturn(responses[i]);
+        }
+        when(repository.streamWithFilters(any(), any(Integer.class))).thenReturn(Stream.of(rows));
+    }
+
+    private static AssetResponse response(String name, String serialNumber) {
+        return new AssetResponse(UUID.randomUUID(), name, serialNumber, SAMPLE_DATE,
+                AssetStatus.AVAILABLE, SAMPLE_DATE, SAMPLE_DATE, 0L);
+    }
+}
@@ -0,0 +1,95 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetHistoryCursor;
+import com.challenge.assets.dto.AssetHistoryEntryResponse;
+import com.challenge.assets.dto.CursorPageResponse;
+import com.challenge.assets.event.AssetChangeType;
+import com.challenge.assets.exception.InvalidCursorException;
+import com.challenge.assets.repository.AssetHistoryRepository;
+import com.challenge.assets.repository.AssetHistoryRepository.Entry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetHistoryServiceTest {
+
+    private static final UUID ASSET_ID = UUID.fromString("0190f1a0-0000-7000-8000-000000000001");
+    private static final OffsetDateTime T1 = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+    private static final String SNAPSHOT = """
+            {"id":"%s","name":"Laptop Dell","serialNumber":"SN-001","acquisitionDate":"2024-01-15T10:00:00Z",
+             "status":"%s","createdAt":"2024-01-15T10:00:00Z","updatedAt":"2024-01-15T10:00:00Z","version":0}
+            """;
+
+    @Mock
+    private AssetHistoryRepository repository;
+
+    private AssetHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AssetHistoryService(repository, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("findHistory should return the newest entries and a cursor below the last one when more exist")
+    void findHistory_morePending_returnsNextCursor() {
+        when(repository.findByAssetBefore(ASSET_ID, Long.MAX_VALUE, 3)).thenReturn(List.of(
+                entry(30, "DELETED", snapshot(AssetStatus.IN_USE), null),
+                entry(20, "UPDATED", snapshot(AssetStatus.AVAILABLE), snapshot(AssetStatus.IN_USE)),
+                entry(10, "CREATED", null, snapshot(AssetStatus.AVAILABLE))));
+
+        CursorPageResponse<AssetHistoryEntryResponse> page = service.findHistory(ASSET_ID, 2, null);
+
+        assertThat(page.items()).extracting(AssetHistoryEntryResponse::type)
+                .containsExactly(AssetChangeType.DELETED, AssetChangeType.UPDATED);
+        assertThat(page.items().get(1).previous().status()).isEqualTo(AssetStatus.AVAILABLE);
+        assertThat(page.items().get(1).current().status()).isEqualTo(AssetStatus.IN_USE);
+        assertThat(AssetHistoryCursor.decode(page.nextCursor()).id()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("findHistory should resume below the cursor and end with a null cursor")
+    void findHistory_lastPage_returnsNullCursor() {
+        when(repository.findByAssetBefore(ASSET_ID, 20, 3))
+                .thenReturn(List.of(entry(10, "CREATED", null, snapshot(AssetStatus.AVAILABLE))));
+
+        CursorPageResponse<AssetHistoryEntryResponse> page =
+                service.findHistory(ASSET_ID, 2, new AssetHistoryCursor(20).encode());
+
+        assertThat(page.items()).extracting(AssetHistoryEntryResponse::type).containsExactly(AssetChangeType.CREATED);
+        assertThat(page.items().get(0).previous()).isNull();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("findHistory should reject a malformed cursor")
+    void findHistory_invalidCursor_throws() {
+        assertThatThrownBy(() -> service.findHistory(ASSET_ID, 10, "not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(repository);
+    }
+
+    private static Entry entry(long id, String type, String previous, String current) {
+        return new Entry(id, ASSET_ID, type, T1, previous, current);
+    }
+
+    private static String snapshot(AssetStatus status) {
+        return SNAPSHOT.formatted(ASSET_ID, status);
+    }
+}
@@ -0,0 +1,78 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.AssetImportProperties;
+import com.challenge.assets.domain.enums.AssetStatus;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AssetImportServiceTest {
+
+    private static final Map<String, Integer> COLUMNS = Map.of(
+            AssetImportService.COLUMN_NAME, 0,
+            AssetImportService.COLUMN_SERIAL_NUMBER, 1,
+            AssetImportService.COLUMN_ACQUISITION_DATE, 2,
+            AssetImportService.COLUMN_STATUS, 3);
+
+    private AssetImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AssetImportService(null, null, null, null,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                null, null, null, new AssetImportProperties(10000, 1000, 1, 10,
+                        Duration.ofSeconds(10), Duration.ofMinutes(1), Duration.ofMinutes(1)), null);
+    }
+
+    @Test
+    @DisplayName("readHeader should map columns case-insensitively and ignore a byte order mark")
+    void readHeader_caseInsensitiveWithBom() throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(new StringReader("\uFEFFid,Name,SERIALNUMBER,acquisitionDate\n"));
+
+        Map<String, Integer> columns = AssetImportService.readHeader(csv);
+
+        assertThat(columns).containsEntry("name", 1).containsEntry("serialnumber", 2).containsEntry("acquisitiondate", 3);
+    }
+
+    @Test
+    @DisplayName("readHeader should fail when a required column is missing")
+    void readHeader_missingColumn_throws() {
+        CsvRecordReader csv = new CsvRecordReader(new StringReader("name,serialNumber\n"));
+
+        assertThatThrownBy(() -> AssetImportService.readHeader(csv))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("acquisitiondate");
+    }
+
+    @Test
+    @DisplayName("toRequest should accept date-only values and lower-case statuses")
+    void toRequest_validRow_noErrors() {
+        AssetImportService.RowResult row = service.toRequest(List.of("Laptop", "SN-1", "2024-01-15", "in_use"), COLUMNS);
+
+        assertThat(row.errors()).isEmpty();
+        assertThat(row.request().acquisitionDate()).isEqualTo(OffsetDateTime.parse("2024-01-15T00:00:00Z"));
+        assertThat(row.request().status()).isEqualTo(AssetStatus.IN_USE);
+    }
+
+    @Test
+    @DisplayName("toRequest should report bean validation and parse errors together")
+    void toRequest_invalidRow_reportsAllErrors() {
+        AssetImportService.RowResult row = service.toRequest(List.of("", "SN-1", "yesterday", "LOST"), COLUMNS);
+
+        assertThat(row.errors()).containsExactlyInAnyOrder(
+                "acquisitionDate must be an ISO-8601 date or date-time",
+                "status must be one of [AVAILABLE, IN_USE, MAINTENANCE, DISPOSED]",
+                "name must not be blank");
+    }
+}
@@ -0,0 +1,184 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.AbstractIntegrationTest;
+import com.challenge.assets.dto.AssetRequest;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.BatchCreateResponse;
+import com.challenge.assets.dto.BatchItemStatus;
+import com.challenge.assets.exception.AssetAlreadyExistsException;
+import com.challenge.assets.repository.AssetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers the same serial number from many threads to check that the unique constraint, not a prior
+ * existence check, decides the winner: exactly one write succeeds and every other one gets a 409-mapped error.
+ */
+class AssetServiceConcurrencyIT extends AbstractIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final OffsetDateTime SAMPLE_DATE = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+
+    @Autowired
+    private AssetService service;
+
+    @Autowired
+    private AssetBatchService batchService;
+
+    @Autowired
+    private AssetRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("concurrent creates with the same serial: one succeeds, the rest fail with ASSET_SERIAL_DUPLICATE")
+    void create_sameSerialConcurrently_exactlyOneWins() throws Exception {
+        List<Callable<AssetResponse>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String name = "Laptop " + i;
+            tasks.add(() -> service.create(new AssetRequest(name, "SN-RACE", SAMPLE_DATE, null)));
+        }
+
+        List<Throwable> failures = new ArrayList<>();
+        int succeeded = runConcurrently(tasks, failures);
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(failures).hasSize(THREADS - 1).allSatisfy(failure ->
+                assertThat(failure).isInstanceOf(AssetAlreadyExistsException.class)
+                        .extracting(ex -> ((AssetAlreadyExistsException) ex).getErrorCode())
+                        .isEqualTo("AST-002"));
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("concurrent updates of different assets to the same serial: one succeeds, the rest fail with ASSET_SERIAL_DUPLICATE")
+    void update_sameSerialConcurrently_exactlyOneWins() throws Exception {
+        List<Callable<AssetResponse>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            AssetResponse asset = service.create(new AssetRequest("Laptop " + i, "SN-" + i, SAMPLE_DATE, null));
+            tasks.add(() -> service.update(asset.id(), new AssetRequest(asset.name(), "SN-RACE", SAMPLE_DATE, null), null));
+        }
+
+        List<Throwable> failures = new ArrayList<>();
+        int succeeded = runConcurrently(tasks, failures);
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(failures).hasSize(THREADS - 1)
+                .allSatisfy(failure -> assertThat(failure).isInstanceOf(AssetAlreadyExistsException.class));
+        assertThat(repository.findAll()).filteredOn(asset -> asset.getSerialNumber().equals("SN-RACE")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("createBatch racing an uncommitted insert of one of its serials: that item is a CONFLICT, the rest are created")
+    void createBatch_concurrentInsertOfSameSerial_reportsConflict() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        try {
+            Future<?> competitor = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        jdbcTemplate.update("""
+                                INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+                                VALUES (?, 'Scanner', 'SN-BATCH-RACE', ?, 'AVAILABLE', ?, ?, 0)
+                                """, UUID.randomUUID(), SAMPLE_DATE, SAMPLE_DATE, SAMPLE_DATE);
+                        inserted.countDown();
+                        try {
+                            commit.await(30, TimeUnit.SECONDS);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }));
+            assertThat(inserted.await(30, TimeUnit.SECONDS)).isTrue();
+            Future<BatchCreateResponse> batch = executor.submit(() -> batchService.createBatch(List.of(
+                    new AssetRequest("Laptop", "SN-BATCH-RACE", SAMPLE_DATE, null),
+                    new AssetRequest("Monitor", "SN-BATCH-FREE", SAMPLE_DATE, null))));
+            awaitBlockedOnLock();
+            commit.countDown();
+            competitor.get(30, TimeUnit.SECONDS);
+
+            BatchCreateResponse result = batch.get(30, TimeUnit.SECONDS);
+
+            assertThat(result.results()).extracting("status")
+                    .containsExactly(BatchItemStatus.CONFLICT, BatchItemStatus.CREATED);
+            assertThat(result.results().get(0).code()).isEqualTo("AST-002");
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+        assertThat(repository.findAll()).extracting("name").containsExactlyInAnyOrder("Scanner", "Monitor");
+    }
+
+    /**
+     * Waits until the batch insert is waiting on the competitor's uncommitted row, so the batch has looked at the
+     * serial number before the competitor commits.
+     */
+    private void awaitBlockedOnLock() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            Long waiting = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_locks WHERE NOT granted", Long.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Batch insert never waited on the concurrent insert");
+    }
+
+    /**
+     * Releases all tasks at once and returns how many completed normally; the others' exceptions go to {@code failures}.
+     */
+    private static int runConcurrently(List<Callable<AssetResponse>> tasks, List<Throwable> failures) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<AssetResponse>> futures = new ArrayList<>();
+            for (Callable<AssetResponse> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            int succeeded = 0;
+            for (Future<AssetResponse> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException ex) {
+                    failures.add(ex.getCause());
+                }
+            }
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,29 +1,52 @@
 package com.challenge.assets.service;
 
+import com.challenge.assets.cache.AssetResponseCache;
 import com.challenge.assets.domain.Asset;
 import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetCursor;
+import com.challenge.assets.dto.AssetPageOrder;
+import com.challenge.assets.dto.AssetPatchRequest;
 import com.challenge.assets.dto.AssetRequest;
 import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.CursorPageResponse;
+import com.challenge.assets.event.AssetChangeType;
+import com.challenge.assets.event.AssetChangedEvent;
 import com.challenge.assets.exception.AssetAlreadyExistsException;
 import com.challenge.assets.exception.AssetNotFoundException;
+import com.challenge.assets.exception.AssetVersionMismatchException;
 import com.challenge.assets.exception.ErrorCode;
+import com.challenge.assets.exception.InvalidCursorException;
+import com.challenge.assets.exception.InvalidFieldsException;
 import com.challenge.assets.mapper.AssetMapper;
 import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.repository.AssetRepositoryCustom.AssetRevision;
+import com.challenge.assets.repository.AssetSearchCriteria;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,14 +58,20 @@ class AssetServiceTest {
     @Mock
     private AssetMapper mapper;
 
+    @Mock
+    private AssetResponseCache cache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AssetService service;
 
     private static final OffsetDateTime SAMPLE_DATE = OffsetDateTime.parse("2024-01-15T10:00:00Z");
 
     @Test
-    @DisplayName("create should call repository.save when serial number is unique")
-    void create_success_callsRepositorySave() {
+    @DisplayName("create should insert with a single saveAndFlush and publish a CREATED event")
+    void create_success_callsRepositorySaveAndFlush() {
         AssetRequest request = new AssetRequest("Laptop", "SN-001", SAMPLE_DATE, null);
         Asset entity = Asset.builder()
                 .name("Laptop")
@@ -61,24 +90,30 @@ class AssetServiceTest {
                 .build();
         AssetResponse response = new AssetResponse(
                 saved.getId(), "Laptop", "SN-001", SAMPLE_DATE,
-                AssetStatus.AVAILABLE, saved.getCreatedAt(), saved.getUpdatedAt());
+                AssetStatus.AVAILABLE, saved.getCreatedAt(), saved.getUpdatedAt(), 0L);
 
-        when(repository.existsBySerialNumber("SN-001")).thenReturn(false);
         when(mapper.toEntity(request)).thenReturn(entity);
-        when(repository.save(any(Asset.class))).thenReturn(saved);
+        when(repository.saveAndFlush(entity)).thenReturn(saved);
         when(mapper.toResponse(saved)).thenReturn(response);
 
         AssetResponse result = service.create(request);
 
         assertThat(result).isEqualTo(response);
-        verify(repository).save(any(Asset.class));
+        verify(repository).saveAndFlush(entity);
+        verifyNoMoreInteractions(repository);
+        ArgumentCaptor<AssetChangedEvent> event = ArgumentCaptor.forClass(AssetChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(AssetChangeType.CREATED);
+        assertThat(event.getValue().assetId()).isEqualTo(saved.getId());
     }
 
     @Test
-    @DisplayName("create should throw AssetAlreadyExistsException with ASSET_SERIAL_DUPLICATE when serial exists")
+    @DisplayName("create should throw AssetAlreadyExistsException with ASSET_SERIAL_DUPLICATE when the unique constraint rejects the serial")
     void create_duplicateSerial_throwsWithErrorCode() {
         AssetRequest request = new AssetRequest("Laptop", "SN-001", SAMPLE_DATE, null);
-        when(repository.existsBySerialNumber("SN-001")).thenReturn(true);
+        Asset entity = Asset.builder().name("Laptop").serialNumber("SN-001").build();
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(serialViolation());
 
         assertThatThrownBy(() -> service.create(request))
                 .isInstanceOf(AssetAlreadyExistsException.class)
@@ -88,14 +123,119 @@ class AssetServiceTest {
                     assertThat(code).isEqualTo("AST-002");
                 });
 
-        verify(repository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("create should rethrow integrity violations that are not about the serial number")
+    void create_otherViolation_rethrows() {
+        AssetRequest request = new AssetRequest("Laptop", "SN-001", SAMPLE_DATE, null);
+        Asset entity = Asset.builder().name("Laptop").serialNumber("SN-001").build();
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not-null violation",
+                new SQLException("null value in column \"name\" violates not-null constraint"));
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.saveAndFlush(entity)).thenThrow(violation);
+
+        assertThatThrownBy(() -> service.create(request)).isSameAs(violation);
+    }
+
+    @Test
+    @DisplayName("update should run a single updateReturning and publish the previous and current state")
+    void update_success_publishesRevision() {
+        UUID id = UUID.randomUUID();
+        AssetRequest request = new AssetRequest("Laptop", "SN-002", SAMPLE_DATE, AssetStatus.IN_USE);
+        Asset values = Asset.builder().name("Laptop").serialNumber("SN-002").status(AssetStatus.IN_USE).build();
+        Asset previous = sampleAsset(SAMPLE_DATE);
+        Asset current = sampleAsset(SAMPLE_DATE);
+        AssetResponse previousResponse = new AssetResponse(id, "Laptop", "SN-001", SAMPLE_DATE,
+                AssetStatus.AVAILABLE, SAMPLE_DATE, SAMPLE_DATE, 0L);
+        AssetResponse currentResponse = new AssetResponse(id, "Laptop", "SN-002", SAMPLE_DATE,
+                AssetStatus.IN_USE, SAMPLE_DATE, SAMPLE_DATE, 0L);
+        when(mapper.toEntity(request)).thenReturn(values);
+        when(repository.updateReturning(eq(id), eq(values), eq(null), any(OffsetDateTime.class)))
+                .thenReturn(Optional.of(new AssetRevision(previous, current)));
+        when(mapper.toResponse(previous)).thenReturn(previousResponse);
+        when(mapper.toResponse(current)).thenReturn(currentResponse);
+
+        assertThat(service.update(id, request, null)).isEqualTo(currentResponse);
+
+        verify(repository).updateReturning(eq(id), eq(values), eq(null), any(OffsetDateTime.class));
+        verifyNoMoreInteractions(repository);
+        ArgumentCaptor<AssetChangedEvent> event = ArgumentCaptor.forClass(AssetChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(AssetChangeType.UPDATED);
+        assertThat(event.getValue().previous()).isEqualTo(previousResponse);
+        assertThat(event.getValue().current()).isEqualTo(currentResponse);
+    }
+
+    @Test
+    @DisplayName("update should throw ASSET_NOT_FOUND when no row was updated")
+    void update_notFound_throwsWithAst001() {
+        UUID id = UUID.randomUUID();
+        AssetRequest request = new AssetRequest("Laptop", "SN-001", SAMPLE_DATE, null);
+        when(mapper.toEntity(request)).thenReturn(new Asset());
+        when(repository.updateReturning(eq(id), any(Asset.class), eq(null), any(OffsetDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.update(id, request, null))
+                .isInstanceOf(AssetNotFoundException.class)
+                .satisfies(ex -> assertThat(((AssetNotFoundException) ex).getErrorCode()).isEqualTo("AST-001"));
+    }
+
+    @Test
+    @DisplayName("update should throw ASSET_SERIAL_DUPLICATE when the unique constraint rejects the new serial")
+    void update_duplicateSerial_throwsWithAst002() {
+        UUID id = UUID.randomUUID();
+        AssetRequest request = new AssetRequest("Laptop", "SN-001", SAMPLE_DATE, null);
+        when(mapper.toEntity(request)).thenReturn(new Asset());
+        when(repository.updateReturning(eq(id), any(Asset.class), eq(null), any(OffsetDateTime.class)))
+                .thenThrow(serialViolation());
+
+        assertThatThrownBy(() -> service.update(id, request, null))
+                .isInstanceOf(AssetAlreadyExistsException.class)
+                .satisfies(ex -> assertThat(((AssetAlreadyExistsException) ex).getErrorCode()).isEqualTo("AST-002"));
+    }
+
+    @Test
+    @DisplayName("patch should only pass the supplied fields and the If-Match version to the repository")
+    void patch_statusOnly_updatesWithExpectedVersion() {
+        UUID id = UUID.randomUUID();
+        AssetPatchRequest request = new AssetPatchRequest(null, null, null, AssetStatus.IN_USE);
+        Asset changes = Asset.builder().status(AssetStatus.IN_USE).build();
+        Asset previous = sampleAsset(SAMPLE_DATE);
+        Asset current = sampleAsset(SAMPLE_DATE);
+        AssetResponse currentResponse = new AssetResponse(id, "Laptop", "SN-001", SAMPLE_DATE,
+                AssetStatus.IN_USE, SAMPLE_DATE, SAMPLE_DATE, 4L);
+        when(mapper.toChanges(request)).thenReturn(changes);
+        when(repository.updateReturning(eq(id), eq(changes), eq(3L), any(OffsetDateTime.class)))
+                .thenReturn(Optional.of(new AssetRevision(previous, current)));
+        when(mapper.toResponse(current)).thenReturn(currentResponse);
+
+        assertThat(service.patch(id, request, 3L)).isEqualTo(currentResponse);
+    }
+
+    @Test
+    @DisplayName("patch should throw ASSET_VERSION_MISMATCH when the asset exists but its version changed")
+    void patch_staleVersion_throwsWithAst005() {
+        UUID id = UUID.randomUUID();
+        AssetPatchRequest request = new AssetPatchRequest(null, null, null, AssetStatus.IN_USE);
+        when(mapper.toChanges(request)).thenReturn(Asset.builder().status(AssetStatus.IN_USE).build());
+        when(repository.updateReturning(eq(id), any(Asset.class), eq(3L), any(OffsetDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(repository.existsById(id)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.patch(id, request, 3L))
+                .isInstanceOf(AssetVersionMismatchException.class)
+                .satisfies(ex -> assertThat(((AssetVersionMismatchException) ex).getErrorCode()).isEqualTo("AST-005"));
+
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     @DisplayName("deleteById should throw AssetNotFoundException with DELETE_ASSET_NOT_FOUND when asset does not exist")
     void delete_notFound_throwsWithDel001() {
         UUID id = UUID.randomUUID();
-        when(repository.existsById(id)).thenReturn(false);
+        when(repository.deleteReturning(eq(id), any(OffsetDateTime.class))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.deleteById(id))
                 .isInstanceOf(AssetNotFoundException.class)
@@ -105,6 +245,134 @@ class AssetServiceTest {
                     assertThat(code).isEqualTo("DEL-001");
                 });
 
-        verify(repository, never()).deleteById(any());
+        verify(repository).deleteReturning(eq(id), any(OffsetDateTime.class));
+        verifyNoMoreInteractions(repository);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("findById should load through the cache and throw ASSET_NOT_FOUND when the loader finds nothing")
+    @SuppressWarnings("unchecked")
+    void findById_cacheMiss_loadsFromRepository() {
+        UUID id = UUID.randomUUID();
+        when(cache.get(eq(id), any())).thenAnswer(invocation ->
+                invocation.getArgument(1, Function.class).apply(invocation.getArgument(0)));
+        when(repository.findById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.findById(id))
+                .isInstanceOf(AssetNotFoundException.class)
+                .satisfies(ex -> assertThat(((AssetNotFoundException) ex).getErrorCode()).isEqualTo("AST-001"));
+
+        verify(repository).findById(id);
+    }
+
+    @Test
+    @DisplayName("findById should return the cached response without touching the repository")
+    void findById_cacheHit_skipsRepository() {
+        UUID id = UUID.randomUUID();
+        AssetResponse cached = new AssetResponse(id, "Laptop", "SN-001", SAMPLE_DATE,
+                AssetStatus.AVAILABLE, SAMPLE_DATE, SAMPLE_DATE, 0L);
+        when(cache.get(eq(id), any())).thenReturn(Optional.of(cached));
+
+        assertThat(service.findById(id)).isEqualTo(cached);
+
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("findPage should fetch limit + 1 rows and return a nextCursor pointing at the last item")
+    void findPage_moreRows_returnsNextCursor() {
+        Asset first = sampleAsset(OffsetDateTime.parse("2024-01-01T00:00:00Z"));
+        Asset second = sampleAsset(OffsetDateTime.parse("2024-01-02T00:00:00Z"));
+        Asset extra = sampleAsset(OffsetDateTime.parse("2024-01-03T00:00:00Z"));
+        when(repository.findPage(new AssetSearchCriteria(null, null, null), null, null, 3))
+                .thenReturn(List.of(first, second, extra));
+
+        CursorPageResponse<AssetResponse> page = service.findPage(new AssetSearchCriteria(null, null, null), 2, null, AssetPageOrder.CREATED_AT);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.nextCursor()).isNotNull();
+        AssetCursor cursor = AssetCursor.decode(page.nextCursor());
+        assertThat(cursor.id()).isEqualTo(second.getId());
+        assertThat(cursor.createdAt().toInstant()).isEqualTo(second.getCreatedAt().toInstant());
+    }
+
+    @Test
+    @DisplayName("findPage should seek after the decoded cursor and return no nextCursor on the last page")
+    void findPage_lastPage_returnsNullCursor() {
+        Asset previous = sampleAsset(OffsetDateTime.parse("2024-01-01T00:00:00Z"));
+        Asset last = sampleAsset(OffsetDateTime.parse("2024-01-02T00:00:00Z"));
+        String cursor = AssetCursor.after(previous).encode();
+        when(repository.findPage(eq(new AssetSearchCriteria(null, null, AssetStatus.IN_USE)),
+                any(OffsetDateTime.class), eq(previous.getId()), eq(3)))
+                .thenReturn(List.of(last));
+
+        CursorPageResponse<AssetResponse> page = service.findPage(new AssetSearchCriteria(null, null, AssetStatus.IN_USE), 2, cursor, AssetPageOrder.CREATED_AT);
+
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("findPage with order ID should seek by the cursor's ID alone")
+    void findPage_orderById_seeksAfterCursorId() {
+        Asset previous = sampleAsset(OffsetDateTime.parse("2024-01-01T00:00:00Z"));
+        Asset next = sampleAsset(OffsetDateTime.parse("2024-01-02T00:00:00Z"));
+        String cursor = AssetCursor.after(previous).encode();
+        when(repository.findPageById(new AssetSearchCriteria(null, null, null), previous.getId(), 2))
+                .thenReturn(List.of(next));
+
+        CursorPageResponse<AssetResponse> page = service.findPage(new AssetSearchCriteria(null, null, null), 1, cursor, AssetPageOrder.ID);
+
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+        verify(repository, never()).findPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("findPage should throw InvalidCursorException with INVALID_CURSOR for a malformed cursor")
+    void findPage_malformedCursor_throwsWithGen003() {
+        assertThatThrownBy(() -> service.findPage(new AssetSearchCriteria(null, null, null), 10, "not-a-cursor", AssetPageOrder.CREATED_AT))
+                .isInstanceOf(InvalidCursorException.class)
+                .satisfies(ex -> assertThat(((InvalidCursorException) ex).getErrorCode()).isEqualTo("GEN-003"));
+    }
+
+    @Test
+    @DisplayName("findAllFields should project the requested fields in declaration order, always with the id")
+    void findAllFields_fields_projectsIdAndRequestedAttributes() {
+        List<Map<String, Object>> rows = List.of(Map.of("id", UUID.randomUUID(), "name", "Laptop", "status", AssetStatus.AVAILABLE));
+        when(repository.findProjectionWithFilters(any(), eq(List.of("id", "name", "status")))).thenReturn(rows);
+
+        List<Map<String, Object>> result = service.findAllFields(new AssetSearchCriteria(null, null, null), "status, name");
+
+        assertThat(result).isSameAs(rows);
+        verify(mapper, never()).toResponse(any());
+    }
+
+    @Test
+    @DisplayName("findAllFields should throw InvalidFieldsException with INVALID_FIELDS for an unknown field")
+    void findAllFields_unknownField_throwsWithGen004() {
+        assertThatThrownBy(() -> service.findAllFields(new AssetSearchCriteria(null, null, null), "name,password"))
+                .isInstanceOf(InvalidFieldsException.class)
+                .hasMessageContaining("password")
+                .satisfies(ex -> assertThat(((InvalidFieldsException) ex).getErrorCode()).isEqualTo("GEN-004"));
+        verifyNoMoreInteractions(repository);
+    }
+
+    private static DataIntegrityViolationException serialViolation() {
+        return new DataIntegrityViolationException("could not execute statement", new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"uk_assets_serial_number\"", "23505"));
+    }
+
+    private static Asset sampleAsset(OffsetDateTime createdAt) {
+        return Asset.builder()
+                .id(UUID.randomUUID())
+                .name("Laptop")
+                .serialNumber("SN-" + createdAt.toEpochSecond())
+                .acquisitionDate(SAMPLE_DATE)
+                .status(AssetStatus.AVAILABLE)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
     }
 }
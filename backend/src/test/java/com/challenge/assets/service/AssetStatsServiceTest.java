@@ -0,0 +1,103 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetStatsResponse;
+import com.challenge.assets.repository.AssetCounterRepository;
+import com.challenge.assets.repository.AssetCounterRepository.CounterKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetStatsServiceTest {
+
+    private static final CounterKey JAN_2024 = CounterKey.acquisitionMonth(OffsetDateTime.parse("2024-01-15T10:00:00Z"));
+    private static final CounterKey MAR_2024 = CounterKey.acquisitionMonth(OffsetDateTime.parse("2024-03-01T10:00:00Z"));
+    private static final CounterKey JUN_2023 = CounterKey.acquisitionMonth(OffsetDateTime.parse("2023-06-30T10:00:00Z"));
+
+    @Mock
+    private AssetCounterRepository counterRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AssetStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AssetStatsService(counterRepository, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("getStats should list every status and roll acquisition months up into years")
+    void getStats_counters_groupsByStatusMonthAndYear() {
+        when(counterRepository.findAll()).thenReturn(Map.of(
+                CounterKey.status(AssetStatus.AVAILABLE), 3L,
+                CounterKey.status(AssetStatus.IN_USE), 2L,
+                JAN_2024, 2L,
+                MAR_2024, 2L,
+                JUN_2023, 1L));
+
+        AssetStatsResponse stats = service.getStats();
+
+        assertThat(stats.total()).isEqualTo(5);
+        assertThat(stats.byStatus()).hasSize(AssetStatus.values().length)
+                .containsEntry(AssetStatus.AVAILABLE, 3L)
+                .containsEntry(AssetStatus.MAINTENANCE, 0L);
+        assertThat(stats.byAcquisitionMonth()).containsExactly(
+                Map.entry("2023-06", 1L), Map.entry("2024-01", 2L), Map.entry("2024-03", 2L));
+        assertThat(stats.byAcquisitionYear()).containsExactly(Map.entry("2023", 1L), Map.entry("2024", 4L));
+    }
+
+    @Test
+    @DisplayName("acquisitionMonth should bucket by the UTC month")
+    void acquisitionMonth_offsetDate_usesUtc() {
+        assertThat(CounterKey.acquisitionMonth(OffsetDateTime.parse("2023-12-31T23:30:00-03:00")).bucket())
+                .isEqualTo("2024-01");
+    }
+
+    @Test
+    @DisplayName("reconcile should apply the difference between the table aggregate and the counters")
+    @SuppressWarnings("unchecked")
+    void reconcile_drift_incrementsByDifference() {
+        when(counterRepository.findAll()).thenReturn(Map.of(
+                CounterKey.status(AssetStatus.AVAILABLE), 3L, JAN_2024, 3L));
+        when(counterRepository.aggregateAssets()).thenReturn(Map.of(
+                CounterKey.status(AssetStatus.AVAILABLE), 2L, CounterKey.status(AssetStatus.IN_USE), 1L, JAN_2024, 3L));
+
+        assertThat(service.reconcile()).isEqualTo(2);
+
+        ArgumentCaptor<SortedMap<CounterKey, Long>> corrections = ArgumentCaptor.forClass(SortedMap.class);
+        verify(counterRepository).increment(corrections.capture());
+        assertThat(corrections.getValue()).containsExactly(
+                Map.entry(CounterKey.status(AssetStatus.AVAILABLE), -1L),
+                Map.entry(CounterKey.status(AssetStatus.IN_USE), 1L));
+    }
+
+    @Test
+    @DisplayName("reconcile should not write when the counters match the table")
+    void reconcile_noDrift_writesNothing() {
+        Map<CounterKey, Long> counters = Map.of(CounterKey.status(AssetStatus.AVAILABLE), 1L, JAN_2024, 1L);
+        when(counterRepository.findAll()).thenReturn(counters);
+        when(counterRepository.aggregateAssets()).thenReturn(counters);
+
+        assertThat(service.reconcile()).isZero();
+        verify(counterRepository, never()).increment(any());
+    }
+}
@@ -0,0 +1,157 @@
+package com.challenge.assets.service;
+
+import com.challenge.assets.config.AssetImportProperties;
+import com.challenge.assets.config.AssetSyncProperties;
+import com.challenge.assets.domain.Asset;
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.domain.enums.ImportJobState;
+import com.challenge.assets.dto.AssetChangesResponse;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.dto.AssetSyncWatermark;
+import com.challenge.assets.dto.AssetTombstoneResponse;
+import com.challenge.assets.exception.SyncWatermarkExpiredException;
+import com.challenge.assets.mapper.AssetMapper;
+import com.challenge.assets.repository.AssetImportJobRepository;
+import com.challenge.assets.repository.AssetRepository;
+import com.challenge.assets.repository.AssetTombstoneRepository;
+import com.challenge.assets.repository.AssetTombstoneRepository.Tombstone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetSyncServiceTest {
+
+    private static final OffsetDateTime T1 = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+    private static final OffsetDateTime T2 = T1.plusSeconds(1);
+    private static final OffsetDateTime T3 = T1.plusSeconds(2);
+
+    @Mock
+    private AssetRepository repository;
+
+    @Mock
+    private AssetTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private AssetImportJobRepository jobRepository;
+
+    private AssetSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AssetSyncService(repository, tombstoneRepository, jobRepository,
+                Mappers.getMapper(AssetMapper.class), new AssetSyncProperties(Duration.ofSeconds(5), Duration.ofDays(30)),
+                new AssetImportProperties(10000, 1000, 1, 10,
+                        Duration.ofSeconds(10), Duration.ofMinutes(1), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("findChanges should merge upserts and tombstones in change order and resume after the last one delivered")
+    void findChanges_morePending_mergesAndReturnsLastWatermark() {
+        Asset first = asset(UUID.randomUUID(), T1);
+        Asset third = asset(UUID.randomUUID(), T3);
+        UUID deletedId = UUID.randomUUID();
+        when(repository.findChangedAfter(any(), any(), any(), eq(3))).thenReturn(List.of(first, third));
+        when(tombstoneRepository.findAfter(any(), any(), any(), eq(3))).thenReturn(List.of(new Tombstone(deletedId, T2)));
+
+        AssetChangesResponse changes = service.findChanges(null, 2);
+
+        assertThat(changes.upserted()).extracting(AssetResponse::id).containsExactly(first.getId());
+        assertThat(changes.deleted()).extracting(AssetTombstoneResponse::id).containsExactly(deletedId);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(AssetSyncWatermark.decode(changes.nextSince())).isEqualTo(new AssetSyncWatermark(T2, deletedId));
+    }
+
+    @Test
+    @DisplayName("findChanges should order equal timestamps by unsigned ID, like the database")
+    void findChanges_equalTimestamps_ordersIdsUnsigned() {
+        UUID highBit = UUID.fromString("80000000-0000-0000-0000-000000000000");
+        UUID lowBit = UUID.fromString("10000000-0000-0000-0000-000000000000");
+        when(repository.findChangedAfter(any(), any(), any(), anyInt())).thenReturn(List.of(asset(highBit, T1)));
+        when(tombstoneRepository.findAfter(any(), any(), any(), anyInt())).thenReturn(List.of(new Tombstone(lowBit, T1)));
+
+        AssetChangesResponse changes = service.findChanges(null, 1);
+
+        assertThat(changes.deleted()).extracting(AssetTombstoneResponse::id).containsExactly(lowBit);
+        assertThat(changes.upserted()).isEmpty();
+        assertThat(changes.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("findChanges should advance an idle watermark to the settle bound")
+    void findChanges_noChanges_advancesToVisibleBound() {
+        OffsetDateTime before = OffsetDateTime.now().minusSeconds(5);
+
+        AssetChangesResponse changes = service.findChanges(new AssetSyncWatermark(before.minusHours(1), UUID.randomUUID()).encode(), 100);
+
+        AssetSyncWatermark next = AssetSyncWatermark.decode(changes.nextSince());
+        assertThat(changes.upserted()).isEmpty();
+        assertThat(changes.deleted()).isEmpty();
+        assertThat(changes.hasMore()).isFalse();
+        assertThat(next.id()).isEqualTo(AssetSyncWatermark.MAX_ID);
+        assertThat(next.changedAt()).isBetween(before.truncatedTo(ChronoUnit.MICROS), OffsetDateTime.now().minusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("findChanges should not read past the start of a running import with a live lease")
+    void findChanges_runningImport_holdsBoundBeforeImportStart() {
+        OffsetDateTime importStartedAt = OffsetDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MICROS);
+        when(jobRepository.findEarliestStartedAt(eq(ImportJobState.RUNNING), any())).thenReturn(importStartedAt);
+        OffsetDateTime before = OffsetDateTime.now();
+
+        service.findChanges(null, 10);
+
+        ArgumentCaptor<OffsetDateTime> upTo = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(repository).findChangedAfter(any(), any(), upTo.capture(), eq(11));
+        assertThat(upTo.getValue()).isEqualTo(importStartedAt.minus(1, ChronoUnit.MICROS));
+        ArgumentCaptor<OffsetDateTime> heartbeatSince = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(jobRepository).findEarliestStartedAt(eq(ImportJobState.RUNNING), heartbeatSince.capture());
+        assertThat(heartbeatSince.getValue())
+                .isBetween(before.minusMinutes(1).truncatedTo(ChronoUnit.MICROS), OffsetDateTime.now().minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("findChanges should reject a watermark older than the tombstone retention with SYN-001")
+    void findChanges_expiredWatermark_throws() {
+        String since = new AssetSyncWatermark(OffsetDateTime.now().minusDays(31), UUID.randomUUID()).encode();
+
+        assertThatThrownBy(() -> service.findChanges(since, 10))
+                .isInstanceOf(SyncWatermarkExpiredException.class)
+                .extracting(ex -> ((SyncWatermarkExpiredException) ex).getErrorCode())
+                .isEqualTo("SYN-001");
+        verifyNoInteractions(repository, tombstoneRepository);
+    }
+
+    private static Asset asset(UUID id, OffsetDateTime updatedAt) {
+        return Asset.builder()
+                .id(id)
+                .name("Laptop")
+                .serialNumber("SN-" + id)
+                .acquisitionDate(T1)
+                .status(AssetStatus.AVAILABLE)
+                .createdAt(T1)
+                .updatedAt(updatedAt)
+                .version(0L)
+                .build();
+    }
+}
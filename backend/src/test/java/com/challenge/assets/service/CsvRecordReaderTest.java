@@ -0,0 +1,44 @@
+package com.challenge.assets.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("next should split plain records and report the starting line of each record")
+    void next_plainRecords_splitsFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b,c\r\nd,,f\n"));
+
+        assertThat(reader.next()).containsExactly("a", "b", "c");
+        assertThat(reader.recordLine()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("d", "", "f");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("next should handle quoted fields with delimiters, doubled quotes and line breaks")
+    void next_quotedFields_unescapes() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"Desk, \"\"XL\"\"\",\"two\nlines\"\nlast,row"));
+
+        assertThat(reader.next()).containsExactly("Desk, \"XL\"", "two\nlines");
+        assertThat(reader.next()).containsExactly("last", "row");
+        assertThat(reader.recordLine()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("next should fail on an unterminated quoted field")
+    void next_unterminatedQuote_throws() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"open,field\n"));
+
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.challenge.assets.stats;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetRequest;
+import com.challenge.assets.dto.AssetStatsResponse;
+import com.challenge.assets.service.AssetService;
+import com.challenge.assets.service.AssetStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the counter writes of the write path and of the reconciliation job also run on the H2 "test"
+ * profile (MERGE instead of PostgreSQL's ON CONFLICT).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AssetCounterH2Test {
+
+    private static final OffsetDateTime ACQUIRED_AT = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetStatsService statsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM assets");
+        jdbcTemplate.update("DELETE FROM asset_counters");
+    }
+
+    @Test
+    @DisplayName("create should increment the status and month counters on H2")
+    void create_onH2_incrementsCounters() {
+        assetService.create(new AssetRequest("Laptop", "SN-H2-1", ACQUIRED_AT, null));
+        assetService.create(new AssetRequest("Monitor", "SN-H2-2", ACQUIRED_AT, AssetStatus.IN_USE));
+
+        AssetStatsResponse stats = statsService.getStats();
+
+        assertThat(stats.total()).isEqualTo(2);
+        assertThat(stats.byStatus()).containsEntry(AssetStatus.AVAILABLE, 1L).containsEntry(AssetStatus.IN_USE, 1L);
+        assertThat(stats.byAcquisitionMonth()).containsEntry("2024-01", 2L);
+    }
+
+    @Test
+    @DisplayName("reconcile should repair counters for rows written outside the application on H2")
+    void reconcile_rowsInsertedDirectly_repairsCounters() {
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.update("""
+                INSERT INTO assets (id, name, serial_number, acquisition_date, status, created_at, updated_at, version)
+                VALUES (?, 'Laptop', 'SN-H2-3', ?, 'DISPOSED', ?, ?, 0)
+                """, UUID.randomUUID(), ACQUIRED_AT, now, now);
+
+        int repaired = statsService.reconcile();
+
+        assertThat(repaired).isPositive();
+        assertThat(statsService.getStats().byStatus()).containsEntry(AssetStatus.DISPOSED, 1L);
+    }
+}
@@ -0,0 +1,76 @@
+package com.challenge.assets.stats;
+
+import com.challenge.assets.domain.enums.AssetStatus;
+import com.challenge.assets.dto.AssetResponse;
+import com.challenge.assets.event.AssetChangedEvent;
+import com.challenge.assets.repository.AssetCounterRepository;
+import com.challenge.assets.repository.AssetCounterRepository.CounterKey;
+import com.challenge.assets.service.AssetStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AssetCounterListenerTest {
+
+    private static final OffsetDateTime JAN_2024 = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+
+    @Mock
+    private AssetCounterRepository counterRepository;
+
+    @Mock
+    private AssetStatsService statsService;
+
+    @InjectMocks
+    private AssetCounterListener listener;
+
+    @Test
+    @DisplayName("onAssetChanged should sum the deltas of a transaction and write them once before commit")
+    @SuppressWarnings("unchecked")
+    void onAssetChanged_inTransaction_writesOnceBeforeCommit() {
+        AssetResponse first = asset(AssetStatus.AVAILABLE, JAN_2024);
+        AssetResponse second = asset(AssetStatus.AVAILABLE, JAN_2024);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            listener.onAssetChanged(AssetChangedEvent.created(first));
+            listener.onAssetChanged(AssetChangedEvent.created(second));
+            listener.onAssetChanged(AssetChangedEvent.updated(second, asset(AssetStatus.IN_USE, JAN_2024)));
+            verify(counterRepository, never()).increment(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<SortedMap<CounterKey, Long>> deltas = ArgumentCaptor.forClass(SortedMap.class);
+        verify(counterRepository).increment(deltas.capture());
+        assertThat(deltas.getValue()).containsExactly(
+                Map.entry(CounterKey.status(AssetStatus.AVAILABLE), 1L),
+                Map.entry(CounterKey.status(AssetStatus.IN_USE), 1L),
+                Map.entry(CounterKey.acquisitionMonth(JAN_2024), 2L));
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    private static AssetResponse asset(AssetStatus status, OffsetDateTime acquisitionDate) {
+        return new AssetResponse(UUID.randomUUID(), "Laptop", "SN-" + status, acquisitionDate, status,
+                acquisitionDate, acquisitionDate, 0L);
+    }
+}
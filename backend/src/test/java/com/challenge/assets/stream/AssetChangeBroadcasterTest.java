@@ -0,0 +1,122 @@
+package com.challenge.assets.stream;
+
+import com.challenge.assets.config.AssetStreamProperties;
+import com.challenge.assets.repository.AssetOutboxRepository.Entry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetChangeBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<CapturingEmitter> emitters = new ArrayList<>();
+
+    @Test
+    @DisplayName("publish should deliver each event to every subscriber")
+    void publish_twoSubscribers_bothReceive() {
+        AssetChangeBroadcaster broadcaster = broadcaster(Runnable::run, 4, 100);
+        broadcaster.start(0);
+        broadcaster.subscribe(null);
+        broadcaster.subscribe(null);
+
+        broadcaster.publish(entry(1, "CREATED"));
+
+        assertThat(emitters).allSatisfy(emitter -> assertThat(emitter.sent).containsExactly("1:created"));
+    }
+
+    @Test
+    @DisplayName("subscribe with Last-Event-ID should replay only the events after it")
+    void subscribe_recentLastEventId_replaysMissedEvents() {
+        AssetChangeBroadcaster broadcaster = broadcaster(Runnable::run, 4, 100);
+        broadcaster.start(0);
+        for (int id = 1; id <= 3; id++) {
+            broadcaster.publish(entry(id, "UPDATED"));
+        }
+
+        broadcaster.subscribe(1L);
+        broadcaster.publish(entry(4, "DELETED"));
+
+        assertThat(emitters.get(0).sent).containsExactly("2:updated", "3:updated", "4:deleted");
+    }
+
+    @Test
+    @DisplayName("subscribe with a Last-Event-ID older than the replay buffer should send a reset")
+    void subscribe_evictedLastEventId_sendsReset() {
+        AssetChangeBroadcaster broadcaster = broadcaster(Runnable::run, 4, 2);
+        broadcaster.start(0);
+        for (int id = 1; id <= 3; id++) {
+            broadcaster.publish(entry(id, "UPDATED"));
+        }
+
+        broadcaster.subscribe(0L);
+
+        assertThat(emitters.get(0).sent).containsExactly("3:reset");
+    }
+
+    @Test
+    @DisplayName("publish should disconnect a subscriber whose buffer is full without affecting the others")
+    void publish_slowSubscriber_isDropped() {
+        List<Runnable> pending = new ArrayList<>();
+        AssetChangeBroadcaster broadcaster = broadcaster(pending::add, 2, 100);
+        broadcaster.start(0);
+        broadcaster.subscribe(null);
+
+        for (int id = 1; id <= 3; id++) {
+            broadcaster.publish(entry(id, "CREATED"));
+        }
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+        assertThat(emitters.get(0).completed).isTrue();
+        assertThat(meterRegistry.get("assets.stream.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private AssetChangeBroadcaster broadcaster(Executor sender, int subscriberBuffer, int replayCapacity) {
+        AssetStreamProperties properties = new AssetStreamProperties(500, Duration.ofSeconds(5), replayCapacity,
+                subscriberBuffer, 1, Duration.ofMinutes(30), Duration.ofDays(1));
+        return new AssetChangeBroadcaster(properties, sender, meterRegistry) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                CapturingEmitter emitter = new CapturingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static Entry entry(long id, String type) {
+        return new Entry(id, type, UUID.randomUUID(), "{}", OffsetDateTime.now());
+    }
+
+    /**
+     * Records "id:name" of every event sent.
+     */
+    private static final class CapturingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String text = builder.build().stream().map(part -> String.valueOf(part.getData())).collect(Collectors.joining());
+            String id = text.replaceAll("(?s).*id:(\\S+).*", "$1");
+            String name = text.replaceAll("(?s).*event:(\\S+).*", "$1");
+            sent.add(id + ":" + name);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.challenge.assets.stream;
+
+import com.challenge.assets.config.AssetStreamProperties;
+import com.challenge.assets.repository.AssetOutboxRepository;
+import com.challenge.assets.repository.AssetOutboxRepository.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetOutboxRelayTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+
+    @Mock
+    private AssetOutboxRepository outboxRepository;
+
+    @Mock
+    private AssetChangeBroadcaster broadcaster;
+
+    private final AssetStreamProperties properties = new AssetStreamProperties(500, Duration.ofSeconds(5), 100, 10, 1,
+            Duration.ofMinutes(30), Duration.ofDays(1));
+
+    @Test
+    @DisplayName("poll should start at the end of the outbox and then relay new entries in order")
+    void poll_newEntries_relaysInOrder() {
+        AssetOutboxRelay relay = new AssetOutboxRelay(outboxRepository, broadcaster, properties);
+        Entry first = entry(8, NOW);
+        Entry second = entry(9, NOW);
+        when(outboxRepository.findMaxId()).thenReturn(7L);
+        when(outboxRepository.findAfter(7L, 500)).thenReturn(List.of(first, second));
+
+        relay.poll();
+        relay.poll();
+
+        InOrder order = inOrder(broadcaster);
+        order.verify(broadcaster).start(7L);
+        order.verify(broadcaster).publish(first);
+        order.verify(broadcaster).publish(second);
+    }
+
+    @Test
+    @DisplayName("relay should wait at a recent gap and skip it once the entry after it is older than the gap timeout")
+    void relay_gap_waitsUntilTimeout() {
+        AssetOutboxRelay relay = new AssetOutboxRelay(outboxRepository, broadcaster, properties);
+        when(outboxRepository.findMaxId()).thenReturn(0L);
+        relay.poll();
+        Entry afterGap = entry(2, NOW);
+
+        assertThat(relay.relay(List.of(afterGap), NOW.minusSeconds(5))).isZero();
+        verify(broadcaster, never()).publish(any());
+
+        assertThat(relay.relay(List.of(afterGap), NOW.plusSeconds(1))).isEqualTo(1);
+        verify(broadcaster).publish(afterGap);
+    }
+
+    private static Entry entry(long id, OffsetDateTime createdAt) {
+        return new Entry(id, "CREATED", UUID.randomUUID(), "{}", createdAt);
+    }
+}
@@ -0,0 +1,105 @@
+package com.challenge.assets.suggest;
+
+import com.challenge.assets.dto.AssetSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetSuggestionIndexTest {
+
+    private static final AssetSuggestion DELL = suggestion("SN-100", "Laptop Dell");
+    private static final AssetSuggestion LENOVO = suggestion("sn-200", "Laptop Lenovo");
+    private static final AssetSuggestion MONITOR = suggestion("MN-300", "Monitor SN series");
+
+    private AssetSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AssetSuggestionIndex();
+        index.rebuild(() -> List.of(MONITOR, LENOVO, DELL));
+    }
+
+    @Test
+    @DisplayName("suggest should match prefixes case-insensitively, serial numbers first, without duplicates")
+    void suggest_prefix_serialMatchesThenNameMatches() {
+        assertThat(index.suggest("sn-", 10)).containsExactly(DELL, LENOVO);
+        assertThat(index.suggest("LAPTOP l", 10)).containsExactly(LENOVO);
+        assertThat(index.suggest("m", 10)).containsExactly(MONITOR);
+        assertThat(index.suggest("s", 10)).containsExactly(DELL, LENOVO);
+        assertThat(index.suggest("laptop", 1)).containsExactly(DELL);
+        assertThat(index.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("apply should replace updated assets and drop deleted ones")
+    void apply_updateAndDelete_replacesEntries() {
+        AssetSuggestion renamed = new AssetSuggestion(DELL.id(), "SN-101", "Dock Dell");
+        Map<UUID, AssetSuggestion> changes = new HashMap<>();
+        changes.put(DELL.id(), renamed);
+        changes.put(LENOVO.id(), null);
+        long bytesBefore = index.estimatedBytes();
+
+        index.apply(changes);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.suggest("sn", 10)).containsExactly(renamed);
+        assertThat(index.suggest("laptop", 10)).isEmpty();
+        assertThat(index.suggest("dock", 10)).containsExactly(renamed);
+        assertThat(index.estimatedBytes()).isPositive().isLessThan(bytesBefore);
+    }
+
+    @Test
+    @DisplayName("rebuild should replay changes committed while the loader was reading")
+    void rebuild_concurrentChange_isReplayed() {
+        AssetSuggestion created = suggestion("SN-400", "Tablet");
+
+        index.rebuild(() -> {
+            index.apply(Map.of(created.id(), created));
+            return List.of(DELL);
+        });
+
+        assertThat(index.suggest("sn", 10)).containsExactly(DELL, created);
+    }
+
+    @Test
+    @DisplayName("rebuild requested while another runs should make the running one load the table again")
+    void rebuild_requestedDuringRebuild_reloadsOnceDone() {
+        AssetSuggestion imported = suggestion("SN-500", "Scanner");
+        List<List<AssetSuggestion>> tables = new ArrayList<>(List.of(List.of(DELL), List.of(DELL, imported)));
+        AtomicBoolean nestedRebuilt = new AtomicBoolean(true);
+
+        boolean rebuilt = index.rebuild(() -> {
+            if (tables.size() == 2) {
+                nestedRebuilt.set(index.rebuild(() -> List.of()));
+            }
+            return tables.remove(0);
+        });
+
+        assertThat(rebuilt).isTrue();
+        assertThat(nestedRebuilt).isFalse();
+        assertThat(tables).isEmpty();
+        assertThat(index.suggest("sn", 10)).containsExactly(DELL, imported);
+    }
+
+    @Test
+    @DisplayName("suggest should match entries that differ from the prefix only in case")
+    void suggest_caseVariants_matchesAll() {
+        AssetSuggestion upper = suggestion("LT-1", "LAPTOP");
+        index.apply(Map.of(upper.id(), upper));
+
+        assertThat(index.suggest("laptop", 10)).containsExactly(upper, DELL, LENOVO);
+    }
+
+    private static AssetSuggestion suggestion(String serialNumber, String name) {
+        return new AssetSuggestion(UUID.randomUUID(), serialNumber, name);
+    }
+}